@@ -0,0 +1,109 @@
+package io.camunda.connector.rssfeed;
+
+import com.sun.net.httpserver.HttpServer;
+import io.camunda.connector.api.outbound.OutboundConnectorContext;
+import io.camunda.connector.rssfeed.dto.RssFeedRequest;
+import io.camunda.connector.runtime.test.outbound.OutboundConnectorContextBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full {@code execute} path of the outbound connector: binding
+ * the job variables, fetching the feed from a local stub server, parsing,
+ * filtering, selecting the newest items and building the result.
+ * <p>
+ * Nothing is cached, so every invocation downloads and parses the whole
+ * document, as a job does on a cache miss. The stub server speaks plain
+ * HTTP on the loopback interface, so the numbers exclude TLS and network
+ * latency. The document limits are raised in the forked JVM so that the
+ * largest feeds are parsed rather than rejected. Run with more threads
+ * ({@code -t}) to see how throughput scales with the number of concurrent
+ * jobs, and with {@code -prof gc} for the allocation rate per job.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Xmx4g",
+        // The largest documents exceed the default document limits (10 MB, 10,000 entries), which would
+        // fail every invocation with FEED_TOO_LARGE instead of measuring execute
+        "-Dcamunda.connector.rssfeed.fetch.max-response-bytes=1073741824",
+        "-Dcamunda.connector.rssfeed.parser.max-entries=1000000"})
+public class ExecuteBenchmark {
+
+    @Param({"10", "500", "10000", "100000"})
+    private int items;
+
+    @Param({"RSS", "ATOM"})
+    private SyntheticFeeds.Format format;
+
+    @Param({RssFeedRequest.PARSER_ENGINE_ROME, RssFeedRequest.PARSER_ENGINE_STREAMING})
+    private String parserEngine;
+
+    private HttpServer server;
+    private HttpClient httpClient;
+    private RssFeedConnectorFunction function;
+    private OutboundConnectorContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] document = SyntheticFeeds.generate(format, items);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/xml");
+            exchange.sendResponseHeaders(200, document.length);
+            exchange.getResponseBody().write(document);
+            exchange.close();
+        });
+        server.start();
+
+        // Nothing is cached and nothing is throttled, every invocation sends a request
+        FeedCache noCache = new FeedCache(1, 1, Duration.ZERO, Duration.ZERO, Clock.systemUTC());
+        HostLimiter noLimit = new HostLimiter(Integer.MAX_VALUE, 0, Duration.ofMinutes(1));
+        httpClient = HttpClients.create(HttpClient.Version.HTTP_1_1, HttpClients.EXECUTOR_VIRTUAL,
+                HttpClients.DEFAULT_CONNECT_TIMEOUT);
+        function = RssFeedConnectorFunction.builder(httpClient).feedCache(noCache).hostLimiter(noLimit).build();
+
+        String feedUrl = "http://localhost:" + server.getAddress().getPort() + "/feed.xml";
+        context = OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(feedUrl, null, null, null, parserEngine, null, null, null, null, null,
+                        null, null, null, null, null, null))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
+    @Benchmark
+    public Object execute() {
+        return function.execute(context);
+    }
+}
@@ -0,0 +1,203 @@
+package io.camunda.connector.rssfeed;
+
+import com.rometools.rome.feed.synd.SyndEntry;
+import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.io.FeedException;
+import com.rometools.rome.io.SyndFeedInput;
+import com.rometools.rome.io.XmlReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each stage of the connector's processing separately on one feed:
+ * Rome's document parsing, the conversion of Rome entries to
+ * {@link FeedEntry}s and of those to result items, the parsing of entry
+ * dates, the date and keyword filters and the selection of the newest items.
+ * <p>
+ * Parsers are called without entry limit, so large feeds are processed in
+ * full, unlike in the connector, which stops at 500 items. Run with
+ * {@code -prof gc} to see the allocation rate of every stage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FeedStagesBenchmark {
+
+    private static final int DEFAULT_MAX_ITEMS = 10;
+    private static final int MAX_MAX_ITEMS = 500;
+    private static final int KEYWORDS = 300;
+
+    @Param({"10", "500", "10000", "100000"})
+    private int items;
+
+    @Param({"RSS", "ATOM"})
+    private SyntheticFeeds.Format format;
+
+    private final RomeFeedParser romeParser = new RomeFeedParser();
+    private final StreamingFeedParser streamingParser = new StreamingFeedParser();
+
+    private byte[] document;
+    private List<SyndEntry> syndEntries;
+    private List<FeedEntry> entries;
+    private long fromMillis;
+    private KeywordMatcher keywords;
+    private String[] dates;
+
+    @Setup(Level.Trial)
+    public void setUp() throws FeedException, IOException {
+        document = SyntheticFeeds.generate(format, items);
+        syndEntries = buildRomeFeed().getEntries();
+        entries = romeParser.parse(new ByteArrayInputStream(document), Integer.MAX_VALUE).entries();
+        fromMillis = SyntheticFeeds.midpointMillis(items);
+        List<String> includes = new ArrayList<>(KEYWORDS);
+        for (int i = 0; i < KEYWORDS; i++) {
+            includes.add("keyword " + i);
+        }
+        keywords = KeywordMatcher.of(includes, null);
+        dates = new String[entries.size()];
+        for (int i = 0; i < dates.length; i++) {
+            long publishedAt = entries.get(i).publishedAt();
+            dates[i] = format == SyntheticFeeds.Format.RSS
+                    ? SyntheticFeeds.rfc822(publishedAt)
+                    : SyntheticFeeds.rfc3339(publishedAt);
+        }
+    }
+
+    /**
+     * Rome's XML parsing and object model, without conversion.
+     */
+    @Benchmark
+    public SyndFeed romeBuild() throws FeedException, IOException {
+        return buildRomeFeed();
+    }
+
+    /**
+     * The Rome parser engine: Rome's parsing plus conversion to entries.
+     */
+    @Benchmark
+    public ParsedFeed romeParse() throws FeedException, IOException {
+        return romeParser.parse(new ByteArrayInputStream(document), Integer.MAX_VALUE);
+    }
+
+    /**
+     * The streaming parser engine, for comparison with {@link #romeParse()}.
+     */
+    @Benchmark
+    public ParsedFeed streamingParse() throws FeedException, IOException {
+        return streamingParser.parse(new ByteArrayInputStream(document), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Conversion of Rome entries to {@link FeedEntry}s.
+     */
+    @Benchmark
+    public void convertToFeedEntry(Blackhole blackhole) {
+        ValuePool pool = new ValuePool();
+        for (SyndEntry entry : syndEntries) {
+            blackhole.consume(romeParser.convertToFeedEntry(entry, pool));
+        }
+    }
+
+    /**
+     * Conversion of entries to result items, including the date formatting.
+     */
+    @Benchmark
+    public void convertToItem(Blackhole blackhole) {
+        for (FeedEntry entry : entries) {
+            blackhole.consume(entry.toItem());
+        }
+    }
+
+    /**
+     * Parsing of the entry dates of the feed (RFC 822 for RSS, RFC 3339 for
+     * Atom), as done by the streaming parser.
+     */
+    @Benchmark
+    public void parseDates(Blackhole blackhole) {
+        for (String date : dates) {
+            blackhole.consume(FeedDates.parse(date));
+        }
+    }
+
+    /**
+     * The date filter, with a lower bound that keeps about half of the
+     * entries.
+     */
+    @Benchmark
+    public int matchesDateFilter() {
+        int matches = 0;
+        for (FeedEntry entry : entries) {
+            if (RssFeedConnectorFunction.matchesDateFilter(entry, fromMillis, Long.MAX_VALUE)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * The keyword filter with 300 include keywords that occur in no entry,
+     * so every title and description is scanned in full.
+     */
+    @Benchmark
+    public int matchesKeywords() {
+        int matches = 0;
+        for (FeedEntry entry : entries) {
+            if (keywords.matches(entry.title(), entry.description())) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Selection of the newest items with the default limit.
+     */
+    @Benchmark
+    public List<FeedEntry> selectNewest() {
+        return selectNewest(DEFAULT_MAX_ITEMS);
+    }
+
+    /**
+     * Selection of the newest items with the highest allowed limit.
+     */
+    @Benchmark
+    public List<FeedEntry> selectNewestMax() {
+        return selectNewest(MAX_MAX_ITEMS);
+    }
+
+    private List<FeedEntry> selectNewest(int maxItems) {
+        TopKSelector<FeedEntry> newest = new TopKSelector<>(maxItems);
+        for (FeedEntry entry : entries) {
+            newest.offer(entry, entry.publishedAt());
+        }
+        return newest.toSortedList();
+    }
+
+    private SyndFeed buildRomeFeed() throws FeedException, IOException {
+        try (XmlReader reader = new XmlReader(new ByteArrayInputStream(document))) {
+            SyndFeedInput input = new SyndFeedInput();
+            input.setPreserveWireFeed(true);
+            return input.build(reader);
+        }
+    }
+}
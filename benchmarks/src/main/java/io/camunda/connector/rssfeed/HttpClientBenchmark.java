@@ -0,0 +1,117 @@
+package io.camunda.connector.rssfeed;
+
+import com.sun.net.httpserver.HttpServer;
+import io.camunda.connector.api.outbound.OutboundConnectorContext;
+import io.camunda.connector.rssfeed.dto.RssFeedRequest;
+import io.camunda.connector.runtime.test.outbound.OutboundConnectorContextBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares connector throughput against a local stub server when every job
+ * builds its own HttpClient (a new connection per job) with a single shared,
+ * pooled client (connections reused across jobs). Both use the same client
+ * executor, {@code virtual} ({@code HttpClients.EXECUTOR_VIRTUAL}) or
+ * {@code default}, so only client reuse differs between them.
+ * <p>
+ * Each invocation executes one job of a small feed with its own connector
+ * instance, on 16 concurrent threads unless overridden with {@code -t}. The
+ * stub server speaks plain HTTP, so the numbers exclude TLS handshakes,
+ * which make the difference larger in practice.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class HttpClientBenchmark {
+
+    /**
+     * How the connector instances of the jobs get their HTTP client.
+     */
+    public enum Clients {
+        PER_JOB,
+        SHARED
+    }
+
+    @Param({"PER_JOB", "SHARED"})
+    private Clients clients;
+
+    @Param({HttpClients.EXECUTOR_VIRTUAL, HttpClients.EXECUTOR_DEFAULT})
+    private String executor;
+
+    private HttpServer server;
+    private HttpClient sharedClient;
+    private FeedCache noCache;
+    private HostLimiter noLimit;
+    private OutboundConnectorContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] document = SyntheticFeeds.generate(SyntheticFeeds.Format.RSS, 10);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "application/xml");
+            exchange.sendResponseHeaders(200, document.length);
+            exchange.getResponseBody().write(document);
+            exchange.close();
+        });
+        server.start();
+
+        // Nothing is cached and nothing is throttled, every job sends a request
+        noCache = new FeedCache(1, 1, Duration.ZERO, Duration.ZERO, Clock.systemUTC());
+        noLimit = new HostLimiter(Integer.MAX_VALUE, 0, Duration.ofMinutes(1));
+        sharedClient = HttpClients.create(HttpClient.Version.HTTP_1_1, executor,
+                HttpClients.DEFAULT_CONNECT_TIMEOUT);
+
+        String feedUrl = "http://localhost:" + server.getAddress().getPort() + "/feed.xml";
+        context = OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(feedUrl, 10, null, null))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sharedClient.close();
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
+    @Benchmark
+    public Object execute() {
+        if (clients == Clients.SHARED) {
+            return RssFeedConnectorFunction.builder(sharedClient).feedCache(noCache).hostLimiter(noLimit).build()
+                    .execute(context);
+        }
+        try (HttpClient client = HttpClients.create(HttpClient.Version.HTTP_1_1, executor,
+                HttpClients.DEFAULT_CONNECT_TIMEOUT)) {
+            return RssFeedConnectorFunction.builder(client).feedCache(noCache).hostLimiter(noLimit).build()
+                    .execute(context);
+        }
+    }
+}
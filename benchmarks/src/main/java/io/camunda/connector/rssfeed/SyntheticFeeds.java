@@ -0,0 +1,122 @@
+package io.camunda.connector.rssfeed;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+
+/**
+ * Generates deterministic RSS 2.0 and Atom 1.0 documents of a given size for
+ * the benchmarks.
+ * <p>
+ * Items resemble those of a typical news feed: a title, link, GUID, author,
+ * two categories and a description of a few hundred characters. They are
+ * roughly newest first, as in most feeds, but every few items are out of
+ * order so that selecting the newest items has work to do.
+ */
+final class SyntheticFeeds {
+
+    /**
+     * The feed formats the benchmarks are parameterized with.
+     */
+    enum Format {
+        RSS,
+        ATOM
+    }
+
+    // Newest item date; items are published about 15 minutes apart before it
+    private static final long NEWEST_ITEM_MILLIS = Instant.parse("2025-10-26T12:00:00Z").toEpochMilli();
+    private static final long ITEM_GAP_MILLIS = 15 * 60 * 1000L;
+
+    private static final String LOREM = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod "
+            + "tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation "
+            + "ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit.";
+
+    private SyntheticFeeds() {
+    }
+
+    /**
+     * Generate a feed document.
+     *
+     * @param format the feed format
+     * @param items  the number of items
+     * @return the UTF-8 encoded document
+     */
+    static byte[] generate(Format format, int items) {
+        StringBuilder xml = new StringBuilder(items * 700 + 512);
+        SplittableRandom random = new SplittableRandom(42);
+        if (format == Format.RSS) {
+            xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                    .append("<rss version=\"2.0\">\n<channel>\n")
+                    .append("<title>Benchmark Feed</title>\n")
+                    .append("<link>https://example.com/</link>\n")
+                    .append("<description>Synthetic feed with ").append(items).append(" items</description>\n")
+                    .append("<pubDate>").append(rfc822(NEWEST_ITEM_MILLIS)).append("</pubDate>\n");
+            for (int i = 0; i < items; i++) {
+                long publishedAt = publishedAt(i, random);
+                xml.append("<item>\n")
+                        .append("<title>Item ").append(i).append(": benchmark headline</title>\n")
+                        .append("<link>https://example.com/items/").append(i).append("</link>\n")
+                        .append("<guid isPermaLink=\"false\">urn:example:item:").append(i).append("</guid>\n")
+                        .append("<pubDate>").append(rfc822(publishedAt)).append("</pubDate>\n")
+                        .append("<author>author").append(i % 10).append("@example.com (Author ").append(i % 10)
+                        .append(")</author>\n")
+                        .append("<category>Category ").append(i % 5).append("</category>\n")
+                        .append("<category>Topic ").append(i % 17).append("</category>\n")
+                        .append("<description>").append(LOREM).append("</description>\n")
+                        .append("</item>\n");
+            }
+            xml.append("</channel>\n</rss>\n");
+        } else {
+            xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                    .append("<feed xmlns=\"http://www.w3.org/2005/Atom\">\n")
+                    .append("<title>Benchmark Feed</title>\n")
+                    .append("<subtitle>Synthetic feed with ").append(items).append(" entries</subtitle>\n")
+                    .append("<link href=\"https://example.com/\"/>\n")
+                    .append("<id>urn:example:feed</id>\n")
+                    .append("<updated>").append(rfc3339(NEWEST_ITEM_MILLIS)).append("</updated>\n");
+            for (int i = 0; i < items; i++) {
+                long publishedAt = publishedAt(i, random);
+                xml.append("<entry>\n")
+                        .append("<title>Item ").append(i).append(": benchmark headline</title>\n")
+                        .append("<link href=\"https://example.com/items/").append(i).append("\"/>\n")
+                        .append("<id>urn:example:item:").append(i).append("</id>\n")
+                        .append("<published>").append(rfc3339(publishedAt)).append("</published>\n")
+                        .append("<updated>").append(rfc3339(publishedAt)).append("</updated>\n")
+                        .append("<author><name>Author ").append(i % 10).append("</name></author>\n")
+                        .append("<category term=\"Category ").append(i % 5).append("\"/>\n")
+                        .append("<category term=\"Topic ").append(i % 17).append("\"/>\n")
+                        .append("<summary>").append(LOREM).append("</summary>\n")
+                        .append("</entry>\n");
+            }
+            xml.append("</feed>\n");
+        }
+        return xml.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Publication time of the i-th item: newest first, except that every
+     * eighth item is moved up to an hour into the future of its neighbours.
+     */
+    static long publishedAt(int i, SplittableRandom random) {
+        long publishedAt = NEWEST_ITEM_MILLIS - i * ITEM_GAP_MILLIS;
+        return i % 8 == 7 ? publishedAt + random.nextLong(4 * ITEM_GAP_MILLIS) : publishedAt;
+    }
+
+    /**
+     * The epoch millis of the item in the middle of a feed of the given size,
+     * for date filters that keep about half of the items.
+     */
+    static long midpointMillis(int items) {
+        return NEWEST_ITEM_MILLIS - (items / 2) * ITEM_GAP_MILLIS;
+    }
+
+    static String rfc822(long millis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(millis).atOffset(ZoneOffset.UTC));
+    }
+
+    static String rfc3339(long millis) {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(Instant.ofEpochMilli(millis).atOffset(ZoneOffset.UTC));
+    }
+}
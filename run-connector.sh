@@ -17,18 +17,31 @@ case "$1" in
         echo "🧪 Running RSS Feed Connector Tests..."
         mvn clean verify
         ;;
+    "bench")
+        echo "⏱️  Running HttpClient benchmark against a local stub server..."
+        mvn -q install -DskipTests && mvn -q -f benchmarks/pom.xml package \
+            && java -jar benchmarks/target/benchmarks.jar HttpClientBenchmark
+        ;;
+    "jmh")
+        echo "⏱️  Running JMH benchmarks (extra arguments are passed to JMH)..."
+        mvn -q install -DskipTests && mvn -q -f benchmarks/pom.xml package \
+            && java -jar benchmarks/target/benchmarks.jar "${@:2}"
+        ;;
     *)
-        echo "Usage: $0 {saas|local|test}"
+        echo "Usage: $0 {saas|local|test|bench|jmh}"
         echo ""
         echo "Commands:"
         echo "  saas   - Run connector connected to Camunda SaaS"
         echo "  local  - Run connector connected to local Camunda Platform"
         echo "  test   - Run unit tests"
+        echo "  bench  - Compare per-job and shared HttpClient throughput"
+        echo "  jmh    - Run the JMH benchmarks of the processing stages"
         echo ""
         echo "Examples:"
         echo "  $0 saas    # Connect to SaaS cluster"
         echo "  $0 local   # Connect to local Docker instance"
         echo "  $0 test    # Run tests"
+        echo "  $0 jmh FeedStagesBenchmark -p items=500 -prof gc"
         exit 1
         ;;
 esac
@@ -0,0 +1,181 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.api.error.ConnectorException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-host (URI authority) circuit breaker that fails requests fast while a
+ * host is down instead of letting every job wait for the request timeout.
+ * <p>
+ * After {@code failureThreshold} consecutive failures (connection errors,
+ * timeouts and server errors) the circuit of the host opens and requests are
+ * rejected for {@code openDuration}. Then a single trial request is let
+ * through: if it succeeds the circuit closes, if it fails the circuit opens
+ * again. A trial that never reports back is replaced by another one after
+ * {@code openDuration}.
+ */
+final class CircuitBreaker {
+
+    private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+    private final ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+
+    /**
+     * @param failureThreshold the number of consecutive failures that open the
+     *                         circuit of a host, or 0 to never open circuits
+     * @param openDuration     how long an open circuit rejects requests
+     * @param clock            the clock
+     */
+    CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        if (failureThreshold < 0) {
+            throw new IllegalArgumentException("failureThreshold must not be negative");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * Create a circuit breaker configured from the {@code circuit.*}
+     * connector settings.
+     */
+    static CircuitBreaker fromSettings() {
+        return new CircuitBreaker(
+                ConnectorSettings.intValue("circuit.failure-threshold", DEFAULT_FAILURE_THRESHOLD),
+                ConnectorSettings.durationValue("circuit.open-duration", DEFAULT_OPEN_DURATION),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Check that a request to a host may be sent.
+     *
+     * @param host the URI authority
+     * @throws ConnectorException with code {@code CIRCUIT_OPEN} if the
+     *                            circuit of the host is open
+     */
+    void checkClosed(String host) {
+        if (!allowRequest(host)) {
+            throw new ConnectorException(
+                    "CIRCUIT_OPEN",
+                    "Requests to host " + host + " are suspended after " + failureThreshold
+                            + " consecutive failures. They are resumed within " + openDuration + ".");
+        }
+    }
+
+    /**
+     * Whether a request to a host may be sent. In the half-open state this
+     * takes the single trial, so the request must be sent and its outcome
+     * recorded.
+     *
+     * @param host the URI authority
+     * @return false if the circuit of the host is open
+     */
+    boolean allowRequest(String host) {
+        if (failureThreshold == 0) {
+            return true;
+        }
+        Circuit circuit = circuits.get(key(host));
+        if (circuit != null && !circuit.allowRequest(clock.millis())) {
+            rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Record a request that reached a working host.
+     */
+    void recordSuccess(String host) {
+        if (failureThreshold == 0) {
+            return;
+        }
+        Circuit circuit = circuits.get(key(host));
+        if (circuit != null) {
+            circuit.success();
+        }
+    }
+
+    /**
+     * Record a request that failed because of the host or the network.
+     */
+    void recordFailure(String host) {
+        if (failureThreshold == 0) {
+            return;
+        }
+        circuits.computeIfAbsent(key(host), k -> new Circuit()).failure(clock.millis());
+    }
+
+    /**
+     * @return the number of requests rejected by open circuits
+     */
+    long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return the number of times a circuit opened
+     */
+    long opened() {
+        return opened.sum();
+    }
+
+    private static String key(String host) {
+        return host != null ? host.toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * The state of one host: closed while {@code openUntil} is 0, otherwise
+     * open until then and half-open afterwards.
+     */
+    private final class Circuit {
+
+        private int failures;
+        private long openUntil;
+        private long trialStartedAt = -1;
+
+        synchronized boolean allowRequest(long now) {
+            if (openUntil == 0) {
+                return true;
+            }
+            if (now < openUntil) {
+                return false;
+            }
+            // Half-open: let one trial through, or another one if the last never reported back
+            if (trialStartedAt < 0 || now - trialStartedAt >= openDuration.toMillis()) {
+                trialStartedAt = now;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void success() {
+            failures = 0;
+            openUntil = 0;
+            trialStartedAt = -1;
+        }
+
+        synchronized void failure(long now) {
+            failures++;
+            boolean trialFailed = trialStartedAt >= 0;
+            if (trialFailed || failures >= failureThreshold) {
+                if (openUntil == 0 || trialFailed) {
+                    opened.increment();
+                }
+                openUntil = now + openDuration.toMillis();
+                trialStartedAt = -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.camunda.connector.rssfeed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Runtime-wide connector settings.
+ * Each setting is looked up as a system property prefixed with
+ * {@code camunda.connector.rssfeed.} (e.g.
+ * {@code camunda.connector.rssfeed.cache.max-entries}) and then as the
+ * equivalent environment variable (e.g.
+ * {@code CAMUNDA_CONNECTOR_RSSFEED_CACHE_MAX_ENTRIES}). Missing or invalid
+ * values fall back to the given default.
+ */
+final class ConnectorSettings {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectorSettings.class);
+
+    static final String PREFIX = "camunda.connector.rssfeed.";
+
+    private ConnectorSettings() {
+    }
+
+    static String stringValue(String key, String defaultValue) {
+        String value = lookup(key);
+        return value != null ? value : defaultValue;
+    }
+
+    static int intValue(String key, int defaultValue) {
+        String value = lookup(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid integer value '{}' for setting {}, using default {}", value, PREFIX + key,
+                    defaultValue);
+            return defaultValue;
+        }
+    }
+
+    static long longValue(String key, long defaultValue) {
+        String value = lookup(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid numeric value '{}' for setting {}, using default {}", value, PREFIX + key,
+                    defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Read a duration setting. Accepts ISO 8601 durations (e.g. {@code PT5M})
+     * or a plain number of seconds.
+     */
+    static Duration durationValue(String key, Duration defaultValue) {
+        String value = lookup(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            try {
+                return Duration.parse(value);
+            } catch (DateTimeParseException e2) {
+                LOGGER.warn("Invalid duration value '{}' for setting {}, using default {}", value, PREFIX + key,
+                        defaultValue);
+                return defaultValue;
+            }
+        }
+    }
+
+    private static String lookup(String key) {
+        String value = System.getProperty(PREFIX + key);
+        if (value == null) {
+            value = System.getenv((PREFIX + key).toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_'));
+        }
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,62 @@
+package io.camunda.connector.rssfeed;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP content coding support: the {@code Accept-Encoding} value sent with
+ * every request and streaming decoders for the codings it lists.
+ */
+final class ContentEncoding {
+
+    /**
+     * The codings the connector accepts, in order of preference.
+     */
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private ContentEncoding() {
+    }
+
+    /**
+     * Wrap a response body in a decoder for its {@code Content-Encoding}.
+     * The body is decompressed while it is read, never buffered as a whole.
+     *
+     * @param body            the raw response body
+     * @param contentEncoding the {@code Content-Encoding} header, or null
+     * @return the decoded body
+     * @throws IOException if the coding is not supported or the body does not
+     *                     start with a valid header for it
+     */
+    static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return body;
+        }
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "", "identity" -> body;
+            case "gzip", "x-gzip" -> new GZIPInputStream(body, BUFFER_SIZE);
+            case "deflate" -> inflate(body);
+            default -> throw new IOException("Unsupported Content-Encoding: " + contentEncoding);
+        };
+    }
+
+    /**
+     * "deflate" is specified as zlib-wrapped deflate, but some servers send a
+     * raw deflate stream; the zlib header tells them apart.
+     */
+    private static InputStream inflate(InputStream body) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(body, BUFFER_SIZE);
+        buffered.mark(2);
+        int cmf = buffered.read();
+        int flg = buffered.read();
+        buffered.reset();
+        boolean zlib = cmf != -1 && flg != -1 && (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0;
+        return new InflaterInputStream(buffered, new Inflater(!zlib), BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,69 @@
+package io.camunda.connector.rssfeed;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream that counts the bytes read through it and the time spent
+ * waiting in reads of the underlying stream.
+ */
+final class CountingInputStream extends FilterInputStream {
+
+    private long count;
+    private long readNanos;
+
+    CountingInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Number of bytes read (or skipped) so far.
+     */
+    long count() {
+        return count;
+    }
+
+    /**
+     * Time spent in reads (and skips) of the underlying stream so far.
+     */
+    long readNanos() {
+        return readNanos;
+    }
+
+    @Override
+    public int read() throws IOException {
+        long start = System.nanoTime();
+        int b = super.read();
+        readNanos += System.nanoTime() - start;
+        if (b != -1) {
+            count++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        long start = System.nanoTime();
+        int n = super.read(buffer, offset, length);
+        readNanos += System.nanoTime() - start;
+        if (n > 0) {
+            count += n;
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long start = System.nanoTime();
+        long skipped = super.skip(n);
+        readNanos += System.nanoTime() - start;
+        count += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
@@ -0,0 +1,255 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.rssfeed.dto.FeedMetadata;
+import io.camunda.connector.rssfeed.dto.FeedStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Short-lived cache of the matching entries of jobs that returned more
+ * entries than fit on one page, so the remaining pages are served without
+ * fetching and parsing the feeds again.
+ * <p>
+ * A cursor is an opaque string made of a random token identifying the
+ * snapshot and the offset of the next page. Cursors can be used more than
+ * once (e.g. when a job is retried) until the snapshot expires or is evicted.
+ * Snapshots keep the matching entries of every feed in document order and
+ * sort them only when a cursor is first used, because most results are never
+ * paged through.
+ * <p>
+ * The cache is bounded by the number of snapshots and by the number of
+ * entries they hold, evicting the oldest snapshot first.
+ */
+final class CursorCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CursorCache.class);
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    private static final int DEFAULT_MAX_CURSORS = 1_000;
+    private static final long DEFAULT_MAX_ENTRIES = 100_000;
+    private static final int TOKEN_BYTES = 16;
+    private static final char OFFSET_SEPARATOR = '.';
+
+    /**
+     * The matching entries of a job and the result fields returned with every
+     * page.
+     *
+     * @param matching          the matching entries of every feed, each list
+     *                          in document order
+     * @param totalItems        the number of entries in the feeds
+     * @param metadata          the metadata of the first feed that could be read
+     * @param feeds             the per-feed status
+     * @param duplicatesRemoved the number of repeated entries dropped
+     * @param nextPollAt        the recommended time of the next poll
+     * @param stateKey          the state key the entries were selected for, or null
+     */
+    record Snapshot(List<List<FeedEntry>> matching, int totalItems, FeedMetadata metadata, List<FeedStatus> feeds,
+            int duplicatesRemoved, String nextPollAt, String stateKey) {
+
+        int size() {
+            int size = 0;
+            for (List<FeedEntry> entries : matching) {
+                size += entries.size();
+            }
+            return size;
+        }
+    }
+
+    /**
+     * One page of a snapshot.
+     *
+     * @param snapshot   the snapshot
+     * @param entries    the entries of the page, newest first
+     * @param nextCursor the cursor of the next page, or null on the last page
+     */
+    record Page(Snapshot snapshot, List<FeedEntry> entries, String nextCursor) {
+    }
+
+    private final Duration ttl;
+    private final int maxCursors;
+    private final long maxEntries;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+    // Insertion order is expiry order, so expired snapshots are found at the head
+    private final Map<String, Entry> snapshots = new LinkedHashMap<>();
+    private long entries;
+
+    CursorCache(Duration ttl, int maxCursors, long maxEntries, Clock clock) {
+        if (maxCursors < 1) {
+            throw new IllegalArgumentException("maxCursors must be at least 1");
+        }
+        this.ttl = ttl;
+        this.maxCursors = maxCursors;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * Create a cache configured from the {@code pagination.*} connector
+     * settings.
+     */
+    static CursorCache fromSettings() {
+        return new CursorCache(
+                ConnectorSettings.durationValue("pagination.cursor-ttl", DEFAULT_TTL),
+                ConnectorSettings.intValue("pagination.max-cursors", DEFAULT_MAX_CURSORS),
+                ConnectorSettings.longValue("pagination.max-entries", DEFAULT_MAX_ENTRIES),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Store a snapshot whose first {@code offset} entries were returned
+     * already.
+     *
+     * @param snapshot the snapshot
+     * @param offset   the offset of the next page
+     * @return the cursor of the next page, or null if the snapshot is too
+     *         large to be cached
+     */
+    synchronized String open(Snapshot snapshot, int offset) {
+        int size = snapshot.size();
+        if (size > maxEntries) {
+            LOGGER.warn("{} matching items exceed the pagination.max-entries limit of {}, no cursor is returned " +
+                    "and only the first {} items can be read. Narrow the filters or raise the limit.",
+                    size, maxEntries, offset);
+            return null;
+        }
+        String token;
+        do {
+            byte[] bytes = new byte[TOKEN_BYTES];
+            random.nextBytes(bytes);
+            token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        } while (snapshots.containsKey(token));
+
+        snapshots.put(token, new Entry(snapshot, size, clock.millis() + ttl.toMillis()));
+        entries += size;
+        evict();
+        return cursor(token, offset);
+    }
+
+    /**
+     * Get a page of a snapshot.
+     *
+     * @param cursor   the cursor returned with the previous page
+     * @param pageSize the maximum number of entries of the page
+     * @return the page
+     * @throws ConnectorException if the cursor is malformed, unknown or expired
+     */
+    Page page(String cursor, int pageSize) {
+        int separator = cursor.lastIndexOf(OFFSET_SEPARATOR);
+        String token = separator > 0 ? cursor.substring(0, separator) : null;
+        int offset = separator > 0 ? parseOffset(cursor.substring(separator + 1)) : -1;
+        if (token == null || offset < 0) {
+            throw invalidCursor(cursor, "is malformed");
+        }
+
+        Entry entry;
+        synchronized (this) {
+            entry = snapshots.get(token);
+            if (entry != null && clock.millis() >= entry.expiresAt) {
+                remove(token);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            throw invalidCursor(cursor, "has expired or is unknown");
+        }
+
+        List<FeedEntry> sorted = entry.sorted();
+        if (offset > sorted.size()) {
+            throw invalidCursor(cursor, "points past the end of the result");
+        }
+        int end = (int) Math.min((long) offset + pageSize, sorted.size());
+        String nextCursor = end < sorted.size() ? cursor(token, end) : null;
+        return new Page(entry.snapshot, List.copyOf(sorted.subList(offset, end)), nextCursor);
+    }
+
+    /**
+     * @return the number of cached snapshots
+     */
+    synchronized int size() {
+        return snapshots.size();
+    }
+
+    private void evict() {
+        long now = clock.millis();
+        Iterator<Map.Entry<String, Entry>> eldest = snapshots.entrySet().iterator();
+        while (eldest.hasNext()) {
+            Entry entry = eldest.next().getValue();
+            if (now < entry.expiresAt && snapshots.size() <= maxCursors && entries <= maxEntries) {
+                break;
+            }
+            entries -= entry.size;
+            eldest.remove();
+        }
+    }
+
+    private void remove(String token) {
+        Entry entry = snapshots.remove(token);
+        if (entry != null) {
+            entries -= entry.size;
+        }
+    }
+
+    private static String cursor(String token, int offset) {
+        return token + OFFSET_SEPARATOR + offset;
+    }
+
+    private static int parseOffset(String offset) {
+        try {
+            return Integer.parseInt(offset);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static ConnectorException invalidCursor(String cursor, String reason) {
+        return new ConnectorException(
+                "INVALID_CURSOR",
+                "Cursor " + reason + ", request the first page again without a cursor. Received: " + cursor);
+    }
+
+    /**
+     * A cached snapshot with its entries sorted on first use.
+     */
+    private static final class Entry {
+
+        private final Snapshot snapshot;
+        private final int size;
+        private final long expiresAt;
+        private List<FeedEntry> sorted;
+
+        Entry(Snapshot snapshot, int size, long expiresAt) {
+            this.snapshot = snapshot;
+            this.size = size;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * The entries of all feeds newest first, in the order of the first
+         * page: a stable sort of every feed followed by the k-way merge.
+         */
+        synchronized List<FeedEntry> sorted() {
+            if (sorted == null) {
+                List<List<FeedEntry>> sortedLists = new ArrayList<>(snapshot.matching().size());
+                for (List<FeedEntry> feedEntries : snapshot.matching()) {
+                    List<FeedEntry> copy = new ArrayList<>(feedEntries);
+                    copy.sort(Comparator.comparingLong(FeedEntry::publishedAt).reversed());
+                    sortedLists.add(copy);
+                }
+                sorted = FeedMerge.newest(sortedLists, size);
+            }
+            return sorted;
+        }
+    }
+}
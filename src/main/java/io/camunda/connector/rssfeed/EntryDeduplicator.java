@@ -0,0 +1,62 @@
+package io.camunda.connector.rssfeed;
+
+/**
+ * Drops repeated feed entries, within one feed and across the feeds of a
+ * request. An entry is a duplicate if its GUID or its link equals the GUID or
+ * link of an entry offered before; the first occurrence is kept.
+ * <p>
+ * Only 64-bit hashes of the GUIDs and links are kept, in a primitive
+ * {@link LongHashSet}, so checking an entry costs two string hashes and no
+ * allocation. Entries without GUID and link are never duplicates. Not
+ * thread-safe.
+ */
+final class EntryDeduplicator {
+
+    private final LongHashSet identities;
+    private int duplicates;
+
+    /**
+     * @param expectedEntries the number of entries that will be offered
+     */
+    EntryDeduplicator(int expectedEntries) {
+        // Up to two identities (GUID and link) per entry
+        this.identities = new LongHashSet(expectedEntries * 2);
+    }
+
+    /**
+     * Check an entry and remember its identities.
+     *
+     * @param entry the entry
+     * @return true if no entry with the same GUID or link was offered before
+     */
+    boolean firstOccurrence(FeedEntry entry) {
+        long guid = hash(entry.guid());
+        long link = hash(entry.link());
+        if ((guid != 0 && identities.contains(guid)) || (link != 0 && identities.contains(link))) {
+            duplicates++;
+            return false;
+        }
+        if (guid != 0) {
+            identities.add(guid);
+        }
+        if (link != 0) {
+            identities.add(link);
+        }
+        return true;
+    }
+
+    /**
+     * Number of entries rejected as duplicates so far.
+     */
+    int duplicates() {
+        return duplicates;
+    }
+
+    private static long hash(String identity) {
+        if (identity == null || identity.isEmpty()) {
+            return 0;
+        }
+        long hash = Hashing.hash64(identity);
+        return hash != 0 ? hash : 1L;
+    }
+}
@@ -0,0 +1,86 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.rssfeed.dto.RssFeedRequest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The keyword and category filters of a request, checked against feed
+ * entries before they are sorted and converted, so entries that do not match
+ * never become result items.
+ * <p>
+ * Keywords are looked up in the title and description of an entry with a
+ * single {@link KeywordMatcher}, however many keywords there are. Categories
+ * match case-insensitively; an entry matches if it has at least one of the
+ * requested categories.
+ */
+final class EntryFilter {
+
+    /**
+     * Matches every entry.
+     */
+    static final EntryFilter NONE = new EntryFilter(null, Set.of());
+
+    private final KeywordMatcher keywords;
+    private final Set<String> categories;
+
+    private EntryFilter(KeywordMatcher keywords, Set<String> categories) {
+        this.keywords = keywords;
+        this.categories = categories;
+    }
+
+    /**
+     * Create the filter of a request.
+     *
+     * @param request the request
+     * @return the filter, {@link #NONE} if the request has no keywords or
+     *         categories
+     */
+    static EntryFilter of(RssFeedRequest request) {
+        KeywordMatcher keywords = KeywordMatcher.of(request.includeKeywords(), request.excludeKeywords());
+        Set<String> categories = normalize(request.categories());
+        if (keywords == null && categories.isEmpty()) {
+            return NONE;
+        }
+        return new EntryFilter(keywords, categories);
+    }
+
+    /**
+     * Check an entry against the filters, categories first since they are
+     * cheaper to check.
+     *
+     * @param entry the entry
+     * @return whether the entry matches
+     */
+    boolean matches(FeedEntry entry) {
+        if (!categories.isEmpty() && !hasCategory(entry)) {
+            return false;
+        }
+        return keywords == null || keywords.matches(entry.title(), entry.description());
+    }
+
+    private boolean hasCategory(FeedEntry entry) {
+        for (String category : entry.categories()) {
+            if (category != null && categories.contains(category.trim().toLowerCase(Locale.ROOT))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> normalize(List<String> categories) {
+        if (categories == null) {
+            return Set.of();
+        }
+        Set<String> normalized = new HashSet<>();
+        for (String category : categories) {
+            if (category != null && !category.isBlank()) {
+                normalized.add(category.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,175 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.api.error.ConnectorException;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Negative cache of feeds that failed in a way that will not go away on the
+ * next request: missing feeds ({@code 404}, {@code 410}), documents that
+ * cannot be parsed or exceed the size limits, host names that do not resolve
+ * and throttled requests ({@code 429}, {@code 503} with {@code Retry-After}).
+ * <p>
+ * The failure is replayed with its original error code until it expires, so
+ * jobs for a broken feed fail at once instead of downloading it again. Each
+ * kind of failure has its own time to live; a {@code Retry-After} header of
+ * the failed response takes precedence, bounded by {@code maxTtl}.
+ * <p>
+ * Entries are keyed by normalized feed URI. The cache is bounded by entry
+ * count, evicting the least recently used failure first.
+ */
+final class FailureCache {
+
+    private static final Duration DEFAULT_NOT_FOUND_TTL = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_GONE_TTL = Duration.ofHours(1);
+    private static final Duration DEFAULT_PARSE_ERROR_TTL = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_DNS_ERROR_TTL = Duration.ofMinutes(1);
+    private static final Duration DEFAULT_MAX_TTL = Duration.ofHours(6);
+    private static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    /**
+     * The kinds of failures that are remembered.
+     */
+    enum Kind {
+        /** {@code 404 Not Found} */
+        NOT_FOUND,
+        /** {@code 410 Gone} */
+        GONE,
+        /** A document that is not a feed or exceeds the size limits */
+        PARSE_ERROR,
+        /** A host name that does not resolve */
+        DNS_ERROR,
+        /** {@code 429} or {@code 503}, only remembered with {@code Retry-After} */
+        THROTTLED
+    }
+
+    /**
+     * Snapshot of the cache counters.
+     */
+    record Stats(long hits, int size) {
+    }
+
+    private record Failure(String errorCode, String message, long expiresAt) {
+    }
+
+    private final Duration notFoundTtl;
+    private final Duration goneTtl;
+    private final Duration parseErrorTtl;
+    private final Duration dnsErrorTtl;
+    private final Duration maxTtl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<URI, Failure> failures = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * @param notFoundTtl   how long a {@code 404} is remembered
+     * @param goneTtl       how long a {@code 410} is remembered
+     * @param parseErrorTtl how long a parse or size limit error is remembered
+     * @param dnsErrorTtl   how long an unresolvable host is remembered
+     * @param maxTtl        the upper bound of {@code Retry-After} delays
+     * @param maxEntries    the maximum number of remembered failures
+     * @param clock         the clock
+     */
+    FailureCache(Duration notFoundTtl, Duration goneTtl, Duration parseErrorTtl, Duration dnsErrorTtl,
+            Duration maxTtl, int maxEntries, Clock clock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        this.notFoundTtl = notFoundTtl;
+        this.goneTtl = goneTtl;
+        this.parseErrorTtl = parseErrorTtl;
+        this.dnsErrorTtl = dnsErrorTtl;
+        this.maxTtl = maxTtl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * Create a cache configured from the {@code negative-cache.*} connector
+     * settings.
+     */
+    static FailureCache fromSettings() {
+        return new FailureCache(
+                ConnectorSettings.durationValue("negative-cache.not-found-ttl", DEFAULT_NOT_FOUND_TTL),
+                ConnectorSettings.durationValue("negative-cache.gone-ttl", DEFAULT_GONE_TTL),
+                ConnectorSettings.durationValue("negative-cache.parse-error-ttl", DEFAULT_PARSE_ERROR_TTL),
+                ConnectorSettings.durationValue("negative-cache.dns-error-ttl", DEFAULT_DNS_ERROR_TTL),
+                ConnectorSettings.durationValue("negative-cache.max-ttl", DEFAULT_MAX_TTL),
+                ConnectorSettings.intValue("negative-cache.max-entries", DEFAULT_MAX_ENTRIES),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Get the remembered failure of a feed.
+     *
+     * @param uri the feed URI
+     * @return the failure to throw, or null if the feed has no unexpired
+     *         failure
+     */
+    synchronized ConnectorException get(URI uri) {
+        URI key = FeedUris.normalize(uri);
+        Failure failure = failures.get(key);
+        if (failure == null) {
+            return null;
+        }
+        if (clock.millis() >= failure.expiresAt()) {
+            failures.remove(key);
+            return null;
+        }
+        hits.increment();
+        String message = failure.message() != null ? failure.message() : "";
+        return new ConnectorException(
+                failure.errorCode(),
+                message + (message.isEmpty() || message.endsWith(".") ? "" : ".")
+                        + " The feed is not requested again before "
+                        + Instant.ofEpochMilli(failure.expiresAt()) + ".");
+    }
+
+    /**
+     * Remember a failure of a feed.
+     *
+     * @param uri        the feed URI
+     * @param kind       the kind of failure
+     * @param retryAfter the {@code Retry-After} delay of the response, or null
+     * @param error      the failure
+     */
+    synchronized void put(URI uri, Kind kind, Duration retryAfter, ConnectorException error) {
+        Duration ttl = retryAfter != null ? min(retryAfter, maxTtl) : ttl(kind);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        failures.put(FeedUris.normalize(uri),
+                new Failure(error.getErrorCode(), error.getMessage(), clock.millis() + ttl.toMillis()));
+        Iterator<Failure> eldest = failures.values().iterator();
+        while (failures.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    synchronized Stats stats() {
+        return new Stats(hits.sum(), failures.size());
+    }
+
+    private Duration ttl(Kind kind) {
+        return switch (kind) {
+            case NOT_FOUND -> notFoundTtl;
+            case GONE -> goneTtl;
+            case PARSE_ERROR -> parseErrorTtl;
+            case DNS_ERROR -> dnsErrorTtl;
+            case THROTTLED -> Duration.ZERO;
+        };
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
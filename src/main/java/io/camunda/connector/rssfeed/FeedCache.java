@@ -0,0 +1,251 @@
+package io.camunda.connector.rssfeed;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process cache of parsed feeds keyed by normalized feed URI.
+ * <p>
+ * Each entry remembers the parsed feed, the HTTP validators ({@code ETag} /
+ * {@code Last-Modified}) of the response it came from and until when it is
+ * fresh. Fresh entries are served without contacting the server; stale
+ * entries are revalidated with a conditional GET and reused on
+ * {@code 304 Not Modified}.
+ * <p>
+ * The cache is bounded both by entry count and by the approximate heap size
+ * of the cached feeds, evicting the least recently used feed first.
+ * <p>
+ * With a {@link FeedSnapshotStore}, newly fetched feeds are also written to
+ * disk, and a feed that is not in memory (after a restart or an eviction) is
+ * restored from its snapshot, so it is served or revalidated instead of
+ * downloaded again.
+ */
+final class FeedCache {
+
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+    private static final Duration DEFAULT_MAX_TTL = Duration.ofHours(1);
+    private static final int DEFAULT_MAX_ENTRIES = 5_000;
+    private static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+
+    /**
+     * A previously fetched feed together with the validators returned by the
+     * server, the time (epoch millis) until which it is fresh and the time its
+     * snapshot was saved.
+     */
+    record Entry(ParsedFeed feed, String etag, String lastModified, long expiresAt, long weightBytes,
+                 long savedAt) {
+
+        boolean isFresh(long nowMillis) {
+            return nowMillis < expiresAt;
+        }
+    }
+
+    /**
+     * Snapshot of the cache counters.
+     */
+    record Stats(long hits, long misses, long evictions, long restores, int size, long weightBytes) {
+    }
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Duration defaultTtl;
+    private final Duration maxTtl;
+    private final Clock clock;
+    private final FeedSnapshotStore snapshots;
+    private final Map<URI, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder restores = new LongAdder();
+    private long weightBytes;
+
+    FeedCache(int maxEntries, long maxBytes, Duration defaultTtl, Duration maxTtl, Clock clock) {
+        this(maxEntries, maxBytes, defaultTtl, maxTtl, clock, null);
+    }
+
+    FeedCache(int maxEntries, long maxBytes, Duration defaultTtl, Duration maxTtl, Clock clock,
+            FeedSnapshotStore snapshots) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be at least 1");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.defaultTtl = defaultTtl;
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.snapshots = snapshots;
+    }
+
+    /**
+     * Create a cache configured from the {@code cache.*} connector settings.
+     */
+    static FeedCache fromSettings() {
+        return fromSettings(null);
+    }
+
+    /**
+     * Create a cache configured from the {@code cache.*} connector settings
+     * that persists feeds to a snapshot store.
+     *
+     * @param snapshots the snapshot store, or null to keep feeds in memory only
+     */
+    static FeedCache fromSettings(FeedSnapshotStore snapshots) {
+        return new FeedCache(
+                ConnectorSettings.intValue("cache.max-entries", DEFAULT_MAX_ENTRIES),
+                ConnectorSettings.longValue("cache.max-bytes", DEFAULT_MAX_BYTES),
+                ConnectorSettings.durationValue("cache.default-ttl", DEFAULT_TTL),
+                ConnectorSettings.durationValue("cache.max-ttl", DEFAULT_MAX_TTL),
+                Clock.systemUTC(),
+                snapshots);
+    }
+
+    /**
+     * Get the cached entry for a feed URI, fresh or stale, without affecting
+     * the hit/miss counters. Used to obtain validators for revalidation.
+     *
+     * @param uri the feed URI
+     * @return the cached entry, or null if the feed is not cached
+     */
+    Entry get(URI uri) {
+        URI key = FeedUris.normalize(uri);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        return entry != null ? entry : restore(key);
+    }
+
+    /**
+     * Get the cached feed for a feed URI if it is still fresh, counting a hit
+     * or a miss.
+     *
+     * @param uri the feed URI
+     * @return the fresh entry, or null if the feed is not cached or stale
+     */
+    Entry getFresh(URI uri) {
+        Entry entry = get(uri);
+        if (entry != null && entry.isFresh(clock.millis())) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Store the result of a successful (or revalidated) fetch. Feeds that can
+     * neither be served fresh nor revalidated are not cached, and an older
+     * copy of them is dropped from memory and from the snapshot store.
+     *
+     * @param uri          the feed URI
+     * @param feed         the parsed feed
+     * @param etag         the {@code ETag} response header, or null
+     * @param lastModified the {@code Last-Modified} response header, or null
+     * @param freshFor     the freshness lifetime from the response or the feed,
+     *                     or null to use the configured default
+     */
+    void put(URI uri, ParsedFeed feed, String etag, String lastModified, Duration freshFor) {
+        URI key = FeedUris.normalize(uri);
+        Duration ttl = freshFor != null ? min(freshFor, maxTtl) : defaultTtl;
+        long weight = feed.estimateBytes();
+        long now = clock.millis();
+        boolean cacheable = (etag != null || lastModified != null || !ttl.isZero()) && weight <= maxBytes;
+
+        Entry previous;
+        Entry entry;
+        boolean save;
+        synchronized (this) {
+            previous = entries.remove(key);
+            if (previous != null) {
+                weightBytes -= previous.weightBytes();
+            }
+            save = cacheable && !hasCurrentSnapshot(previous, feed, etag, lastModified);
+            entry = new Entry(feed, etag, lastModified, now + ttl.toMillis(), weight,
+                    save || previous == null ? now : previous.savedAt());
+            if (cacheable) {
+                entries.put(key, entry);
+                weightBytes += weight;
+                evictIfNeeded();
+            }
+        }
+
+        if (snapshots == null) {
+            return;
+        }
+        if (!cacheable) {
+            // Otherwise a restart would restore the feed from before this response
+            snapshots.remove(key);
+        } else if (save) {
+            snapshots.save(key, new FeedSnapshotStore.Snapshot(feed, etag, lastModified, now, entry.expiresAt()));
+        }
+    }
+
+    /**
+     * Whether a revalidated feed can keep its snapshot instead of appending a
+     * copy of the feed on every poll: the snapshot's validators must still be
+     * the ones the server sent, and it must not be about to be dropped as too
+     * old while the feed is still in use.
+     */
+    private boolean hasCurrentSnapshot(Entry previous, ParsedFeed feed, String etag, String lastModified) {
+        return snapshots == null || (previous != null
+                && previous.feed() == feed
+                && Objects.equals(previous.etag(), etag)
+                && Objects.equals(previous.lastModified(), lastModified)
+                && !snapshots.needsRefresh(previous.savedAt()));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), restores.sum(), entries.size(), weightBytes);
+    }
+
+    private Entry restore(URI key) {
+        if (snapshots == null) {
+            return null;
+        }
+        FeedSnapshotStore.Snapshot snapshot = snapshots.load(key);
+        if (snapshot == null) {
+            return null;
+        }
+        ParsedFeed feed = snapshot.feed();
+        long weight = feed.estimateBytes();
+        synchronized (this) {
+            Entry current = entries.get(key);
+            if (current != null || weight > maxBytes) {
+                return current;
+            }
+            Entry entry = new Entry(feed, snapshot.etag(), snapshot.lastModified(), snapshot.expiresAt(), weight,
+                    snapshot.fetchedAt());
+            entries.put(key, entry);
+            weightBytes += weight;
+            restores.increment();
+            evictIfNeeded();
+            return entry;
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || weightBytes > maxBytes) && eldest.hasNext()) {
+            weightBytes -= eldest.next().weightBytes();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,518 @@
+package io.camunda.connector.rssfeed;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+/**
+ * Date parsing and formatting for feed entries.
+ * <p>
+ * Entry dates are parsed by a hand-written scanner that computes epoch
+ * milliseconds directly from the text, without intermediate objects or
+ * exceptions, because a feed with thousands of entries parses thousands of
+ * dates. It accepts the RFC 822 and ISO 8601 / RFC 3339 variants found in
+ * real feeds: with or without day of week and seconds, two-digit years,
+ * full month names, fractional seconds, numeric offsets with or without colon
+ * and the zone names of RFC 822. Dates with other zone names (e.g.
+ * {@code CET}) are resolved by {@code java.time}.
+ */
+final class FeedDates {
+
+    // RFC 822 with any zone name, for the rare dates the scanner does not resolve
+    private static final DateTimeFormatter RFC_822_ZONE_TEXT = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .parseLenient()
+            .appendPattern("d MMM yyyy HH:mm[:ss]")
+            .appendLiteral(' ')
+            .appendZoneText(TextStyle.SHORT)
+            .toFormatter(Locale.ENGLISH);
+
+    private static final String[] MONTHS = { "jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct",
+            "nov", "dec" };
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    // Result of a scan that stopped at a zone name it does not know
+    private static final long UNKNOWN_ZONE = Long.MIN_VALUE + 1;
+
+    private FeedDates() {
+    }
+
+    /**
+     * Format epoch milliseconds to an ISO 8601 string in UTC, e.g.
+     * {@code 2025-10-26T10:30:00Z} or {@code 2025-10-26T10:30:00.25Z}, like
+     * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+     *
+     * @param epochMillis the instant to format
+     * @return the formatted date string
+     */
+    static String format(long epochMillis) {
+        long days = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+        int millisOfDay = (int) Math.floorMod(epochMillis, MILLIS_PER_DAY);
+        // Civil date from days since the epoch (Howard Hinnant's algorithm)
+        long z = days + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            // Outside the four-digit range ISO 8601 needs a sign
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+                    Instant.ofEpochMilli(epochMillis).atOffset(ZoneOffset.UTC));
+        }
+
+        char[] text = new char[24];
+        int length = 0;
+        length = appendDigits(text, length, (int) year, 4);
+        text[length++] = '-';
+        length = appendDigits(text, length, month, 2);
+        text[length++] = '-';
+        length = appendDigits(text, length, day, 2);
+        text[length++] = 'T';
+        length = appendDigits(text, length, millisOfDay / 3_600_000, 2);
+        text[length++] = ':';
+        length = appendDigits(text, length, millisOfDay / 60_000 % 60, 2);
+        text[length++] = ':';
+        length = appendDigits(text, length, millisOfDay / 1_000 % 60, 2);
+        int millis = millisOfDay % 1_000;
+        if (millis != 0) {
+            // Like ISO_OFFSET_DATE_TIME, without trailing zeros
+            text[length++] = '.';
+            length = appendDigits(text, length, millis, 3);
+            while (text[length - 1] == '0') {
+                length--;
+            }
+        }
+        text[length++] = 'Z';
+        return new String(text, 0, length);
+    }
+
+    /**
+     * Parse an entry date in RFC 822 (RSS) or ISO 8601 / RFC 3339 (Atom,
+     * Dublin Core) format. Dates without an offset are taken as UTC.
+     *
+     * @param value the raw date text
+     * @return the parsed date as epoch milliseconds, or
+     *         {@link FeedEntry#NO_DATE} if the value is not a recognised date
+     */
+    static long parse(String value) {
+        if (value == null) {
+            return FeedEntry.NO_DATE;
+        }
+        int start = skipSpaces(value, 0);
+        int end = value.length();
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return FeedEntry.NO_DATE;
+        }
+        if (isIso(value, start, end)) {
+            return new Scanner(value, start, end).iso();
+        }
+        long millis = new Scanner(value, start, end).rfc822();
+        return millis == UNKNOWN_ZONE ? parseZoneText(value.substring(start, end)) : millis;
+    }
+
+    /**
+     * Whether the text starts with a four-digit year and a dash.
+     */
+    private static boolean isIso(String value, int start, int end) {
+        if (end - start < 5) {
+            return false;
+        }
+        for (int i = start; i < start + 4; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return value.charAt(start + 4) == '-';
+    }
+
+    private static long parseZoneText(String text) {
+        // Strip the optional day of week; feeds often get it wrong
+        int comma = text.indexOf(',');
+        String date = comma >= 0 ? text.substring(comma + 1).trim() : text;
+        try {
+            return ZonedDateTime.from(RFC_822_ZONE_TEXT.parse(date)).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return FeedEntry.NO_DATE;
+        }
+    }
+
+    /**
+     * Epoch milliseconds of a UTC date-time, or {@link FeedEntry#NO_DATE} if
+     * a field is out of range.
+     */
+    private static long toEpochMillis(int year, int month, int day, int hour, int minute, int second, int millis,
+            int offsetMinutes) {
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month) || hour > 24 || minute > 59
+                || second > 60 || (hour == 24 && (minute != 0 || second != 0 || millis != 0))) {
+            return FeedEntry.NO_DATE;
+        }
+        // A leap second is read as the last second of the minute, like java.time does
+        int seconds = Math.min(second, 59);
+        long days = daysFromCivil(year, month, day);
+        return days * MILLIS_PER_DAY + ((hour * 60L + minute) * 60 + seconds) * 1_000 + millis
+                - offsetMinutes * MILLIS_PER_MINUTE;
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic Gregorian date (Howard Hinnant's
+     * algorithm).
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static int appendDigits(char[] text, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            text[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + digits;
+    }
+
+    private static int skipSpaces(String value, int position) {
+        while (position < value.length() && Character.isWhitespace(value.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Cursor over the date text. Methods return -1 (or {@link FeedEntry#NO_DATE})
+     * when the text does not match instead of throwing.
+     */
+    private static final class Scanner {
+
+        private final String text;
+        private final int end;
+        private int position;
+
+        Scanner(String text, int start, int end) {
+            this.text = text;
+            this.position = start;
+            this.end = end;
+        }
+
+        /**
+         * {@code yyyy-MM-dd[(T| )HH:mm[:ss[.fff]]][Z|±HH[:]mm|±HH]}
+         */
+        long iso() {
+            int year = number(4, 4);
+            int month = expect('-') ? number(1, 2) : -1;
+            int day = expect('-') ? number(1, 2) : -1;
+            if (day < 0) {
+                return FeedEntry.NO_DATE;
+            }
+            if (atEnd()) {
+                return toEpochMillis(year, month, day, 0, 0, 0, 0, 0);
+            }
+            char separator = text.charAt(position);
+            if (separator != 'T' && separator != 't' && separator != ' ') {
+                return FeedEntry.NO_DATE;
+            }
+            position++;
+            return time(year, month, day, true);
+        }
+
+        /**
+         * {@code [EEE[,]] d MMM yy[yy] HH:mm[:ss] [zone]}, where the month may
+         * be a full name and the zone is optional.
+         */
+        long rfc822() {
+            // Optional day of week, with or without comma
+            if (isLetter(peek())) {
+                word();
+                expect(',');
+                skipSpaces();
+            }
+            int day = number(1, 2);
+            if (day < 0) {
+                return FeedEntry.NO_DATE;
+            }
+            skipSeparators();
+            int month = month();
+            if (month < 0) {
+                return FeedEntry.NO_DATE;
+            }
+            skipSeparators();
+            int yearStart = position;
+            int year = number(2, 4);
+            if (year < 0 || position - yearStart == 3) {
+                return FeedEntry.NO_DATE;
+            }
+            if (position - yearStart == 2) {
+                // RFC 2822: two-digit years before 50 are in the 21st century
+                year += year < 50 ? 2000 : 1900;
+            }
+            if (atEnd()) {
+                return toEpochMillis(year, month, day, 0, 0, 0, 0, 0);
+            }
+            skipSpaces();
+            return time(year, month, day, false);
+        }
+
+        /**
+         * {@code HH:mm[:ss[.fff]]} followed by an optional zone.
+         */
+        private long time(int year, int month, int day, boolean iso) {
+            int hour = number(1, 2);
+            int minute = hour >= 0 && expect(':') ? number(2, 2) : -1;
+            if (minute < 0) {
+                return FeedEntry.NO_DATE;
+            }
+            int second = 0;
+            int millis = 0;
+            if (expect(':')) {
+                second = number(2, 2);
+                if (second < 0) {
+                    return FeedEntry.NO_DATE;
+                }
+                if (expect('.') || expect(',')) {
+                    millis = fraction();
+                    if (millis < 0) {
+                        return FeedEntry.NO_DATE;
+                    }
+                }
+            }
+            skipSpaces();
+            int offset = zone();
+            if (offset == Integer.MIN_VALUE) {
+                return FeedEntry.NO_DATE;
+            }
+            if (offset == Integer.MAX_VALUE) {
+                return iso ? FeedEntry.NO_DATE : UNKNOWN_ZONE;
+            }
+            skipSpaces();
+            if (!atEnd()) {
+                // Trailing text, e.g. a zone name after a numeric offset ("+0000 (UTC)") is ignored
+                if (iso || text.charAt(position) != '(') {
+                    return FeedEntry.NO_DATE;
+                }
+            }
+            return toEpochMillis(year, month, day, hour, minute, second, millis, offset);
+        }
+
+        /**
+         * The zone offset in minutes: 0 if there is no zone,
+         * {@link Integer#MAX_VALUE} for an unknown zone name and
+         * {@link Integer#MIN_VALUE} for a malformed offset.
+         */
+        private int zone() {
+            if (atEnd()) {
+                return 0;
+            }
+            char c = text.charAt(position);
+            if (c == '+' || c == '-') {
+                position++;
+                int hours = number(2, 2);
+                if (hours < 0) {
+                    return Integer.MIN_VALUE;
+                }
+                int minutes = 0;
+                boolean colon = expect(':');
+                if (colon || (!atEnd() && isDigit(text.charAt(position)))) {
+                    minutes = number(2, 2);
+                }
+                if (minutes < 0 || hours > 18 || minutes > 59) {
+                    return Integer.MIN_VALUE;
+                }
+                int offset = hours * 60 + minutes;
+                return c == '-' ? -offset : offset;
+            }
+            if (!isLetter(c)) {
+                return Integer.MIN_VALUE;
+            }
+            int start = position;
+            word();
+            int offset = namedZone(start, position);
+            if (offset == 0 && (peek() == '+' || peek() == '-')) {
+                // "GMT+01:00"
+                return zone();
+            }
+            return offset;
+        }
+
+        /**
+         * The offset of the zone names of RFC 822 in minutes, or
+         * {@link Integer#MAX_VALUE} for other names.
+         */
+        private int namedZone(int start, int end) {
+            int length = end - start;
+            if (length == 1) {
+                char c = Character.toUpperCase(text.charAt(start));
+                return c == 'Z' ? 0 : Integer.MAX_VALUE;
+            }
+            if (length == 2) {
+                return regionIs(start, end, "ut") ? 0 : Integer.MAX_VALUE;
+            }
+            if (length != 3) {
+                return Integer.MAX_VALUE;
+            }
+            if (regionIs(start, end, "gmt", "utc")) {
+                return 0;
+            }
+            return switch (Character.toLowerCase(text.charAt(start))) {
+                case 'e' -> usZone(start, -5);
+                case 'c' -> usZone(start, -6);
+                case 'm' -> usZone(start, -7);
+                case 'p' -> usZone(start, -8);
+                default -> Integer.MAX_VALUE;
+            };
+        }
+
+        /**
+         * EST / EDT style names: standard time has the given offset, daylight
+         * time one hour more.
+         */
+        private int usZone(int start, int standardHours) {
+            char type = Character.toLowerCase(text.charAt(start + 1));
+            char t = Character.toLowerCase(text.charAt(start + 2));
+            if (t != 't') {
+                return Integer.MAX_VALUE;
+            }
+            return switch (type) {
+                case 's' -> standardHours * 60;
+                case 'd' -> (standardHours + 1) * 60;
+                default -> Integer.MAX_VALUE;
+            };
+        }
+
+        /**
+         * Whether the region equals one of the lower-case names, ignoring
+         * case.
+         */
+        private boolean regionIs(int start, int end, String name, String other) {
+            return regionIs(start, end, name) || regionIs(start, end, other);
+        }
+
+        private boolean regionIs(int start, int end, String name) {
+            return end - start == name.length() && text.regionMatches(true, start, name, 0, name.length());
+        }
+
+        /**
+         * A month name: the first three letters decide, the rest of a full
+         * name is skipped.
+         */
+        private int month() {
+            int start = position;
+            word();
+            if (position - start < 3) {
+                return -1;
+            }
+            for (int i = 0; i < MONTHS.length; i++) {
+                if (text.regionMatches(true, start, MONTHS[i], 0, 3)) {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * An unsigned number of {@code minDigits} to {@code maxDigits} digits,
+         * or -1.
+         */
+        private int number(int minDigits, int maxDigits) {
+            int value = 0;
+            int digits = 0;
+            while (digits < maxDigits && position < end && isDigit(text.charAt(position))) {
+                value = value * 10 + (text.charAt(position++) - '0');
+                digits++;
+            }
+            return digits >= minDigits ? value : -1;
+        }
+
+        /**
+         * Fractional seconds as milliseconds; digits after the third are
+         * ignored.
+         */
+        private int fraction() {
+            int millis = 0;
+            int digits = 0;
+            while (position < end && isDigit(text.charAt(position))) {
+                if (digits < 3) {
+                    millis = millis * 10 + (text.charAt(position) - '0');
+                }
+                digits++;
+                position++;
+            }
+            if (digits == 0) {
+                return -1;
+            }
+            for (int i = digits; i < 3; i++) {
+                millis *= 10;
+            }
+            return millis;
+        }
+
+        private void word() {
+            while (position < end && isLetter(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean expect(char c) {
+            if (position < end && text.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipSpaces() {
+            while (position < end && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        /**
+         * Spaces or dashes between day, month and year ("03 Mar 2025",
+         * "03-Mar-2025").
+         */
+        private void skipSeparators() {
+            while (position < end && (text.charAt(position) == ' ' || text.charAt(position) == '-')) {
+                position++;
+            }
+        }
+
+        private char peek() {
+            return position < end ? text.charAt(position) : 0;
+        }
+
+        private boolean atEnd() {
+            return position >= end;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.rssfeed.dto.RssFeedItem;
+
+import java.util.List;
+
+/**
+ * Internal representation of a converted feed entry. The publication time is
+ * kept as epoch milliseconds so that filtering and sorting work on a
+ * primitive; it is formatted to ISO 8601 only for the entries that end up in
+ * the result ({@link ItemProjection#toItem(FeedEntry)}).
+ *
+ * @param title       the entry title
+ * @param link        the entry link
+ * @param description the entry description or summary
+ * @param publishedAt the publication (or update) time in epoch milliseconds,
+ *                    or {@link #NO_DATE} if the entry has no date
+ * @param author      the entry author
+ * @param categories  the category names, never null
+ * @param guid        the entry GUID / id
+ */
+record FeedEntry(
+        String title,
+        String link,
+        String description,
+        long publishedAt,
+        String author,
+        List<String> categories,
+        String guid) {
+
+    /**
+     * Marker for entries without a date. Sorts after every real date.
+     */
+    static final long NO_DATE = Long.MIN_VALUE;
+
+    boolean hasDate() {
+        return publishedAt != NO_DATE;
+    }
+
+    /**
+     * The identity of the entry across fetches: its GUID, or its link if it
+     * has no GUID.
+     *
+     * @return the GUID or link, or null if the entry has neither
+     */
+    String identity() {
+        return guid != null ? guid : link;
+    }
+
+    /**
+     * Convert to the result DTO with every field, formatting the publication
+     * time.
+     */
+    RssFeedItem toItem() {
+        return ItemProjection.ALL.toItem(this);
+    }
+}
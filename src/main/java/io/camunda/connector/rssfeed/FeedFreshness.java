@@ -0,0 +1,160 @@
+package io.camunda.connector.rssfeed;
+
+import com.rometools.rome.feed.WireFeed;
+import com.rometools.rome.feed.module.SyModule;
+import com.rometools.rome.feed.rss.Channel;
+import com.rometools.rome.feed.synd.SyndFeed;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Determines how long a fetched feed may be served from cache without
+ * contacting the server again.
+ * HTTP caching headers take precedence over hints published in the feed
+ * itself ({@code <ttl>} in RSS 2.0, {@code sy:updatePeriod} /
+ * {@code sy:updateFrequency} from the syndication module).
+ */
+final class FeedFreshness {
+
+    private FeedFreshness() {
+    }
+
+    /**
+     * Determine the freshness lifetime of a response.
+     *
+     * @param headers   the HTTP response headers
+     * @param feed      the parsed feed
+     * @param nowMillis the current time in epoch milliseconds
+     * @return the freshness lifetime, or null if neither the response nor the
+     *         feed carry a hint
+     */
+    static Duration of(HttpHeaders headers, ParsedFeed feed, long nowMillis) {
+        Duration fromHeaders = fromHeaders(headers, nowMillis);
+        return fromHeaders != null ? fromHeaders : feed.freshnessHint();
+    }
+
+    /**
+     * Freshness lifetime from {@code Cache-Control} ({@code no-store},
+     * {@code no-cache}, {@code max-age}) or {@code Expires}.
+     */
+    static Duration fromHeaders(HttpHeaders headers, long nowMillis) {
+        Optional<String> cacheControl = headers.firstValue("Cache-Control");
+        if (cacheControl.isPresent()) {
+            for (String directive : cacheControl.get().split(",")) {
+                String normalized = directive.trim().toLowerCase(Locale.ROOT);
+                if (normalized.equals("no-store") || normalized.equals("no-cache")) {
+                    return Duration.ZERO;
+                }
+                if (normalized.startsWith("max-age=")) {
+                    try {
+                        long maxAge = Long.parseLong(unquote(normalized.substring("max-age=".length())));
+                        long age = headers.firstValueAsLong("Age").orElse(0L);
+                        return Duration.ofSeconds(Math.max(0L, maxAge - age));
+                    } catch (NumberFormatException e) {
+                        // Malformed max-age, fall through to Expires
+                    }
+                }
+            }
+        }
+
+        Optional<String> expires = headers.firstValue("Expires");
+        if (expires.isPresent()) {
+            long expiresAt = parseHttpDate(expires.get());
+            if (expiresAt == Long.MIN_VALUE) {
+                // Invalid dates such as "0" mean "already expired"
+                return Duration.ZERO;
+            }
+            long base = headers.firstValue("Date").map(FeedFreshness::parseHttpDate)
+                    .filter(date -> date != Long.MIN_VALUE)
+                    .orElse(nowMillis);
+            return Duration.ofMillis(Math.max(0L, expiresAt - base));
+        }
+        return null;
+    }
+
+    /**
+     * The delay requested by a {@code Retry-After} header, given in seconds
+     * or as an HTTP date.
+     *
+     * @param headers   the HTTP response headers
+     * @param nowMillis the current time in epoch milliseconds
+     * @return the delay, or null if the header is missing or malformed
+     */
+    static Duration retryAfter(HttpHeaders headers, long nowMillis) {
+        Optional<String> retryAfter = headers.firstValue("Retry-After");
+        if (retryAfter.isEmpty()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0L, Long.parseLong(retryAfter.get().trim())));
+        } catch (NumberFormatException e) {
+            long retryAt = parseHttpDate(retryAfter.get());
+            return retryAt != Long.MIN_VALUE ? Duration.ofMillis(Math.max(0L, retryAt - nowMillis)) : null;
+        }
+    }
+
+    /**
+     * Freshness lifetime from the RSS {@code <ttl>} element or the
+     * syndication module's update period.
+     */
+    static Duration fromFeed(SyndFeed feed) {
+        WireFeed wireFeed = feed.originalWireFeed();
+        if (wireFeed instanceof Channel channel) {
+            Duration fromTtl = fromTtl(channel.getTtl());
+            if (fromTtl != null) {
+                return fromTtl;
+            }
+        }
+
+        if (feed.getModule(SyModule.URI) instanceof SyModule sy) {
+            return fromUpdatePeriod(sy.getUpdatePeriod(), sy.getUpdateFrequency());
+        }
+        return null;
+    }
+
+    /**
+     * Freshness lifetime from an RSS {@code <ttl>} in minutes.
+     */
+    static Duration fromTtl(int ttlMinutes) {
+        return ttlMinutes > 0 ? Duration.ofMinutes(ttlMinutes) : null;
+    }
+
+    /**
+     * Freshness lifetime from the syndication module's
+     * {@code sy:updatePeriod} and {@code sy:updateFrequency}.
+     */
+    static Duration fromUpdatePeriod(String updatePeriod, int updateFrequency) {
+        if (updatePeriod == null) {
+            return null;
+        }
+        Duration period = switch (updatePeriod.trim().toLowerCase(Locale.ROOT)) {
+            case SyModule.HOURLY -> Duration.ofHours(1);
+            case SyModule.DAILY -> Duration.ofDays(1);
+            case SyModule.WEEKLY -> Duration.ofDays(7);
+            case SyModule.MONTHLY -> Duration.ofDays(30);
+            case SyModule.YEARLY -> Duration.ofDays(365);
+            default -> null;
+        };
+        return period != null ? period.dividedBy(Math.max(1, updateFrequency)) : null;
+    }
+
+    private static long parseHttpDate(String value) {
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static String unquote(String value) {
+        return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")
+                ? value.substring(1, value.length() - 1)
+                : value;
+    }
+}
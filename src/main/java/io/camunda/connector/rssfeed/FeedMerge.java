@@ -0,0 +1,70 @@
+package io.camunda.connector.rssfeed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * K-way merge of per-feed entry lists that are each sorted newest first.
+ */
+final class FeedMerge {
+
+    private FeedMerge() {
+    }
+
+    /**
+     * Merge sorted entry lists into one list sorted newest first, keeping at
+     * most {@code limit} entries. Entries with equal dates keep the order of
+     * their lists, then their order within a list.
+     *
+     * @param sortedLists the entry lists, each sorted by descending
+     *                    {@link FeedEntry#publishedAt()}
+     * @param limit       the maximum number of entries to return
+     * @return the merged entries
+     */
+    static List<FeedEntry> newest(List<List<FeedEntry>> sortedLists, int limit) {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, sortedLists.size()));
+        for (int i = 0; i < sortedLists.size(); i++) {
+            List<FeedEntry> list = sortedLists.get(i);
+            if (!list.isEmpty()) {
+                heads.add(new Cursor(list, i));
+            }
+        }
+
+        List<FeedEntry> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Cursor head = heads.poll();
+            merged.add(head.current());
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Cursor implements Comparable<Cursor> {
+
+        private final List<FeedEntry> entries;
+        private final int listIndex;
+        private int position;
+
+        Cursor(List<FeedEntry> entries, int listIndex) {
+            this.entries = entries;
+            this.listIndex = listIndex;
+        }
+
+        FeedEntry current() {
+            return entries.get(position);
+        }
+
+        boolean advance() {
+            return ++position < entries.size();
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int byDate = Long.compare(other.current().publishedAt(), current().publishedAt());
+            return byDate != 0 ? byDate : Integer.compare(listIndex, other.listIndex);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records Micrometer metrics of the connector's fetches and processing
+ * stages, so that slow jobs can be attributed to the network or to the CPU.
+ * <p>
+ * A fetch is split into the time until the response headers arrived (DNS,
+ * connect, TLS, request and server time; the JDK HTTP client does not expose
+ * them separately), the time spent waiting for body bytes (download) and the
+ * remaining time of reading the body (parse). Bodies are parsed while they
+ * are downloaded, so download and parse time add up to the time of reading
+ * the body.
+ * <p>
+ * Host tags are the lower-case host name of the feed URL, or {@code none}
+ * for file URLs. By default meters are registered with Micrometer's global
+ * registry, to which the connector runtime adds its exporting registries.
+ */
+final class FeedMetrics {
+
+    static final String EXECUTE = "rssfeed.execute";
+    static final String FETCH = "rssfeed.fetch";
+    static final String FETCH_HEADERS = "rssfeed.fetch.headers";
+    static final String FETCH_DOWNLOAD = "rssfeed.fetch.download";
+    static final String FETCH_RETRIES = "rssfeed.fetch.retries";
+    static final String FETCH_HEDGES = "rssfeed.fetch.hedges";
+    static final String PARSE = "rssfeed.parse";
+    static final String SELECT = "rssfeed.select";
+    static final String CONVERT = "rssfeed.convert";
+    static final String RESPONSE_BYTES = "rssfeed.response.bytes";
+    static final String FEED_ENTRIES = "rssfeed.feed.entries";
+    static final String FEED_TRUNCATED = "rssfeed.feed.truncated";
+
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_NOT_MODIFIED = "not_modified";
+    static final String OUTCOME_ERROR = "error";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+
+    FeedMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Create metrics registered with Micrometer's global registry.
+     */
+    static FeedMetrics global() {
+        return new FeedMetrics(Metrics.globalRegistry);
+    }
+
+    /**
+     * Record a connector execution (one job or one inbound poll).
+     *
+     * @param errorCode the error code of a failed execution, or null
+     * @param nanos     the duration
+     */
+    void recordExecution(String errorCode, long nanos) {
+        Timer.builder(EXECUTE)
+                .description("Duration of connector executions")
+                .tags("outcome", errorCode == null ? OUTCOME_SUCCESS : OUTCOME_ERROR,
+                        "error_code", errorCode == null ? NONE : errorCode)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record a request to a feed server, from sending the request until the
+     * body was parsed or the request failed.
+     *
+     * @param uri       the feed URI
+     * @param outcome   {@link #OUTCOME_SUCCESS}, {@link #OUTCOME_NOT_MODIFIED}
+     *                  or {@link #OUTCOME_ERROR}
+     * @param errorCode the error code of a failed request, or null
+     * @param nanos     the duration
+     */
+    void recordFetch(URI uri, String outcome, String errorCode, long nanos) {
+        Timer.builder(FETCH)
+                .description("Duration of feed requests including reading the response")
+                .tags("host", host(uri), "outcome", outcome, "error_code", errorCode == null ? NONE : errorCode)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record the time until the response headers of a request arrived.
+     */
+    void recordHeaders(URI uri, long nanos) {
+        Timer.builder(FETCH_HEADERS)
+                .description("Time until the response headers arrived (DNS, connect, TLS, time to first byte)")
+                .tags("host", host(uri))
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record a retry of a failed request.
+     */
+    void recordRetry(URI uri) {
+        Counter.builder(FETCH_RETRIES)
+                .description("Feed requests sent again after a failed attempt")
+                .tags("host", host(uri))
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Record a hedged request, sent because the first request was slower
+     * than usual for its host.
+     */
+    void recordHedge(URI uri) {
+        Counter.builder(FETCH_HEDGES)
+                .description("Second feed requests sent because the first one was slow")
+                .tags("host", host(uri))
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Record the reading of a feed document.
+     *
+     * @param uri              the feed URI
+     * @param engine           the parser engine
+     * @param downloadNanos    the time spent waiting for body bytes, or 0
+     *                         for documents that are not downloaded
+     * @param parseNanos       the remaining time of reading the document
+     * @param transferredBytes the bytes read from the network or file
+     * @param feed             the parsed feed, or null if parsing failed
+     */
+    void recordRead(URI uri, String engine, long downloadNanos, long parseNanos, long transferredBytes,
+            ParsedFeed feed) {
+        String host = host(uri);
+        if (downloadNanos > 0) {
+            Timer.builder(FETCH_DOWNLOAD)
+                    .description("Time spent waiting for response body bytes")
+                    .tags("host", host)
+                    .register(registry)
+                    .record(downloadNanos, TimeUnit.NANOSECONDS);
+        }
+        Timer.builder(PARSE)
+                .description("Time spent parsing feed documents, excluding waiting for bytes")
+                .tags("engine", engine, "outcome", feed != null ? OUTCOME_SUCCESS : OUTCOME_ERROR)
+                .register(registry)
+                .record(parseNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(RESPONSE_BYTES)
+                .description("Size of feed documents as transferred")
+                .baseUnit("bytes")
+                .tags("host", host)
+                .register(registry)
+                .record(transferredBytes);
+        if (feed == null) {
+            return;
+        }
+        DistributionSummary.builder(FEED_ENTRIES)
+                .description("Number of entries read from feed documents")
+                .baseUnit("entries")
+                .tags("host", host)
+                .register(registry)
+                .record(feed.entries().size());
+        if (feed.truncated()) {
+            Counter.builder(FEED_TRUNCATED)
+                    .description("Feed documents with more entries than the safety limit")
+                    .tags("host", host)
+                    .register(registry)
+                    .increment();
+        }
+    }
+
+    /**
+     * Record the selection of the newest matching entries of one feed
+     * (duplicate removal, date filter, state key check and top-K).
+     */
+    void recordSelect(long nanos) {
+        Timer.builder(SELECT)
+                .description("Time spent filtering and selecting the newest entries of a feed")
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record the conversion of the selected entries to result items.
+     */
+    void recordConvert(long nanos) {
+        Timer.builder(CONVERT)
+                .description("Time spent converting selected entries to result items")
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Expose the counters of a feed cache.
+     */
+    void bindFeedCache(FeedCache cache) {
+        FunctionCounter.builder("rssfeed.cache.hits", cache, c -> c.stats().hits()).register(registry);
+        FunctionCounter.builder("rssfeed.cache.misses", cache, c -> c.stats().misses()).register(registry);
+        FunctionCounter.builder("rssfeed.cache.evictions", cache, c -> c.stats().evictions()).register(registry);
+        FunctionCounter.builder("rssfeed.cache.restores", cache, c -> c.stats().restores()).register(registry);
+        Gauge.builder("rssfeed.cache.size", cache, c -> c.stats().size()).register(registry);
+        Gauge.builder("rssfeed.cache.weight", cache, c -> c.stats().weightBytes())
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Expose the counters of a failure cache.
+     */
+    void bindFailureCache(FailureCache cache) {
+        FunctionCounter.builder("rssfeed.negative-cache.hits", cache, c -> c.stats().hits()).register(registry);
+        Gauge.builder("rssfeed.negative-cache.size", cache, c -> c.stats().size()).register(registry);
+    }
+
+    /**
+     * Expose the counters of a host limiter.
+     */
+    void bindHostLimiter(HostLimiter limiter) {
+        FunctionCounter.builder("rssfeed.host.permits.granted", limiter, l -> l.stats().granted())
+                .register(registry);
+        FunctionCounter.builder("rssfeed.host.permits.queued", limiter, l -> l.stats().queued())
+                .register(registry);
+        FunctionCounter.builder("rssfeed.host.permits.timeouts", limiter, l -> l.stats().timedOut())
+                .register(registry);
+        Gauge.builder("rssfeed.host.queue.depth", limiter, l -> l.stats().queueDepth()).register(registry);
+    }
+
+    /**
+     * Expose the counters of a circuit breaker.
+     */
+    void bindCircuitBreaker(CircuitBreaker breaker) {
+        FunctionCounter.builder("rssfeed.circuit.opened", breaker, CircuitBreaker::opened).register(registry);
+        FunctionCounter.builder("rssfeed.circuit.rejected", breaker, CircuitBreaker::rejected).register(registry);
+    }
+
+    /**
+     * Expose the subscription count and polls of an inbound feed poller.
+     */
+    void bindFeedPoller(FeedPoller poller) {
+        Gauge.builder("rssfeed.inbound.subscriptions", poller, FeedPoller::subscriptions).register(registry);
+        FunctionCounter.builder("rssfeed.inbound.polls", poller, FeedPoller::polls).register(registry);
+    }
+
+    /**
+     * The error code of an exception for the {@code error_code} tag.
+     */
+    static String errorCode(RuntimeException e) {
+        if (e instanceof ConnectorException connectorException && connectorException.getErrorCode() != null) {
+            return connectorException.getErrorCode();
+        }
+        return "UNEXPECTED_ERROR";
+    }
+
+    private static String host(URI uri) {
+        return uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : NONE;
+    }
+}
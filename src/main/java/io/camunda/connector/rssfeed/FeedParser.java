@@ -0,0 +1,24 @@
+package io.camunda.connector.rssfeed;
+
+import com.rometools.rome.io.FeedException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Parses an RSS/Atom document into a {@link ParsedFeed}.
+ */
+interface FeedParser {
+
+    /**
+     * Parse a feed document.
+     *
+     * @param inputStream the raw document
+     * @param maxEntries  the maximum number of entries to convert; further
+     *                    entries are counted as truncated
+     * @return the parsed feed
+     * @throws FeedException if the document is not valid RSS/Atom XML
+     * @throws IOException   if reading the document fails
+     */
+    ParsedFeed parse(InputStream inputStream, int maxEntries) throws FeedException, IOException;
+}
@@ -0,0 +1,172 @@
+package io.camunda.connector.rssfeed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs the polls of all inbound feed subscriptions of a runtime from one
+ * {@link TimingWheel}.
+ * <p>
+ * A single daemon ticker thread advances the wheel and hands due
+ * subscriptions to a fixed pool of {@code maxConcurrentPolls} worker
+ * threads (virtual threads, as polls mostly wait for the network). After a
+ * poll the subscription is scheduled again with the delay it returned, so a
+ * subscription is never polled concurrently with itself. There is no thread
+ * or timer object per subscription: the subscription itself is the wheel
+ * node.
+ */
+final class FeedPoller {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FeedPoller.class);
+
+    private static final Duration DEFAULT_TICK = Duration.ofSeconds(1);
+    private static final int DEFAULT_MAX_CONCURRENT_POLLS = 64;
+    private static final Duration ERROR_DELAY = Duration.ofMinutes(1);
+
+    // 3 levels of 256 slots cover 2^24 ticks (194 days at one tick per second)
+    private static final int SLOT_BITS = 8;
+    private static final int LEVELS = 3;
+
+    /**
+     * A polled subscription.
+     */
+    abstract static class Subscription extends TimingWheel.Timeout {
+
+        private boolean cancelled;
+
+        /**
+         * Poll once.
+         *
+         * @return the delay until the next poll
+         */
+        abstract Duration poll();
+    }
+
+    private final TimingWheel wheel;
+    private final ExecutorService workers;
+    private final AtomicInteger subscriptions = new AtomicInteger();
+    private final LongAdder polls = new LongAdder();
+    private volatile Thread ticker;
+
+    /**
+     * @param tick               the scheduling resolution
+     * @param maxConcurrentPolls the maximum number of polls running at the
+     *                           same time
+     */
+    FeedPoller(Duration tick, int maxConcurrentPolls) {
+        if (maxConcurrentPolls < 1) {
+            throw new IllegalArgumentException("maxConcurrentPolls must be at least 1");
+        }
+        this.wheel = new TimingWheel(tick, SLOT_BITS, LEVELS, System.nanoTime());
+        this.workers = Executors.newFixedThreadPool(maxConcurrentPolls,
+                Thread.ofVirtual().name("rss-feed-poll-", 0).factory());
+    }
+
+    /**
+     * Create a poller configured from the {@code inbound.*} connector
+     * settings. The ticker thread is started on first subscription.
+     */
+    static FeedPoller fromSettings() {
+        return new FeedPoller(
+                ConnectorSettings.durationValue("inbound.tick", DEFAULT_TICK),
+                ConnectorSettings.intValue("inbound.max-concurrent-polls", DEFAULT_MAX_CONCURRENT_POLLS));
+    }
+
+    /**
+     * Start polling a subscription.
+     *
+     * @param subscription the subscription, not subscribed before
+     * @param initialDelay the delay until the first poll
+     */
+    void subscribe(Subscription subscription, Duration initialDelay) {
+        ensureTickerStarted();
+        synchronized (subscription) {
+            subscription.cancelled = false;
+            wheel.schedule(subscription, System.nanoTime() + initialDelay.toNanos());
+        }
+        subscriptions.incrementAndGet();
+    }
+
+    /**
+     * Stop polling a subscription. A poll that is already running completes,
+     * but the subscription is not scheduled again.
+     *
+     * @param subscription the subscription
+     */
+    void unsubscribe(Subscription subscription) {
+        synchronized (subscription) {
+            if (subscription.cancelled) {
+                return;
+            }
+            subscription.cancelled = true;
+            wheel.cancel(subscription);
+        }
+        subscriptions.decrementAndGet();
+    }
+
+    /**
+     * Number of active subscriptions.
+     */
+    int subscriptions() {
+        return subscriptions.get();
+    }
+
+    /**
+     * Number of polls run so far.
+     */
+    long polls() {
+        return polls.sum();
+    }
+
+    private void ensureTickerStarted() {
+        if (ticker == null) {
+            synchronized (this) {
+                if (ticker == null) {
+                    ticker = Thread.ofPlatform().name("rss-feed-poller").daemon().start(this::tick);
+                }
+            }
+        }
+    }
+
+    private void tick() {
+        List<TimingWheel.Timeout> due = new ArrayList<>();
+        while (true) {
+            long waitNanos = wheel.nextTickNanos() - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(this, waitNanos);
+                continue;
+            }
+            wheel.advance(System.nanoTime(), due);
+            for (TimingWheel.Timeout timeout : due) {
+                Subscription subscription = (Subscription) timeout;
+                workers.execute(() -> run(subscription));
+            }
+            due.clear();
+        }
+    }
+
+    private void run(Subscription subscription) {
+        Duration nextPoll;
+        try {
+            polls.increment();
+            nextPoll = subscription.poll();
+        } catch (RuntimeException e) {
+            LOGGER.error("Unexpected error while polling feed subscription, retrying in {}", ERROR_DELAY, e);
+            nextPoll = ERROR_DELAY;
+        }
+        synchronized (subscription) {
+            if (!subscription.cancelled) {
+                wheel.schedule(subscription, System.nanoTime() + nextPoll.toNanos());
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.camunda.connector.rssfeed;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Input stream that enforces the size limits of a feed document while it is
+ * being parsed: at most {@code maxBytes} bytes and at most
+ * {@code maxEntries} item / entry elements. A read that exceeds a limit
+ * fails with an {@link IOException}, so the parser stops right there instead
+ * of building the whole document in memory first.
+ * <p>
+ * Entries are counted on the raw bytes by element name ({@code item} or
+ * {@code entry}, with any namespace prefix), which works for every
+ * ASCII-compatible encoding. Such tags inside CDATA sections are counted as
+ * well, which only makes the limit stricter. Parsers may wrap the exception,
+ * so callers check {@link #violation()} to tell a limit from a parse error.
+ */
+final class FeedSizeGuard extends FilterInputStream {
+
+    // Longest element name (including prefix) that is checked against item/entry
+    private static final int MAX_NAME_BYTES = 64;
+    private static final byte[] ITEM = { 'i', 't', 'e', 'm' };
+    private static final byte[] ENTRY = { 'e', 'n', 't', 'r', 'y' };
+
+    private final long maxBytes;
+    private final int maxEntries;
+    private final byte[] name = new byte[MAX_NAME_BYTES];
+    private int nameLength = -1;
+    private long bytes;
+    private int entries;
+    private String violation;
+
+    /**
+     * @param in         the decoded document
+     * @param maxBytes   the maximum number of bytes
+     * @param maxEntries the maximum number of item / entry elements
+     */
+    FeedSizeGuard(InputStream in, long maxBytes, int maxEntries) {
+        super(in);
+        this.maxBytes = maxBytes;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * The limit that was exceeded, as a message, or null if the document is
+     * within the limits so far.
+     */
+    String violation() {
+        return violation;
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkNotViolated();
+        int b = super.read();
+        if (b != -1) {
+            bytes++;
+            scan((byte) b);
+            checkLimits();
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        checkNotViolated();
+        int n = super.read(buffer, offset, length);
+        if (n > 0) {
+            bytes += n;
+            for (int i = offset; i < offset + n; i++) {
+                scan(buffer[i]);
+            }
+            checkLimits();
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes cannot be scanned, read them instead
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read < 0) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Track element names: a name starts after {@code <} and ends at
+     * whitespace, {@code >} or {@code /}.
+     */
+    private void scan(byte b) {
+        if (b == '<') {
+            nameLength = 0;
+        } else if (nameLength >= 0) {
+            if (b == '>' || b == '/' || b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                if (isEntryName()) {
+                    entries++;
+                }
+                nameLength = -1;
+            } else if (nameLength < MAX_NAME_BYTES) {
+                name[nameLength++] = b;
+            } else {
+                nameLength = -1;
+            }
+        }
+    }
+
+    private boolean isEntryName() {
+        int localStart = 0;
+        for (int i = 0; i < nameLength; i++) {
+            if (name[i] == ':') {
+                localStart = i + 1;
+            }
+        }
+        return Arrays.equals(name, localStart, nameLength, ITEM, 0, ITEM.length)
+                || Arrays.equals(name, localStart, nameLength, ENTRY, 0, ENTRY.length);
+    }
+
+    private void checkLimits() throws IOException {
+        if (bytes > maxBytes) {
+            violation = "The feed is larger than the maximum of " + maxBytes + " bytes";
+        } else if (entries > maxEntries) {
+            violation = "The feed contains more than the maximum of " + maxEntries + " items";
+        }
+        checkNotViolated();
+    }
+
+    private void checkNotViolated() throws IOException {
+        if (violation != null) {
+            throw new IOException(violation);
+        }
+    }
+}
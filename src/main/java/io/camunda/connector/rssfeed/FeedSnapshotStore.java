@@ -0,0 +1,669 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.rssfeed.dto.FeedMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent snapshots of parsed feeds and their validators, so that a
+ * restarted connector runtime revalidates feeds with conditional requests
+ * (or serves them while still fresh) instead of downloading every feed again.
+ * <p>
+ * Snapshots are appended to a log file; the last snapshot of a feed wins.
+ * Every record carries a CRC, and a torn or corrupt tail (e.g. after a crash)
+ * is cut off when the file is opened. The file is opened, memory-mapped and
+ * indexed (feed URI to record offset) on first use, but snapshots are only
+ * decoded when their feed is requested. When superseded snapshots take up
+ * more than half of the file, or the file exceeds {@code maxBytes}, the log
+ * is compacted on a background thread into a new file holding the latest
+ * snapshot of every feed, dropping snapshots older than {@code maxAge} and,
+ * if still too large, the oldest ones. A failed compaction is not retried for
+ * a while. The snapshot of a feed whose latest response may not be cached is
+ * dropped by appending a tombstone record. A feed that is revalidated without
+ * changes keeps its snapshot until its validators change or half of
+ * {@code maxAge} has passed, and is then saved again.
+ * <p>
+ * The store is a cache: if the file cannot be used, a warning is logged and
+ * the store stays disabled instead of failing jobs. The file is locked, so
+ * only one connector runtime can use a store file at a time. Appends are
+ * flushed to disk by the operating system.
+ */
+final class FeedSnapshotStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FeedSnapshotStore.class);
+
+    private static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofDays(7);
+    private static final String FILE_NAME = "feed-snapshots.log";
+
+    // Header: magic, version, reserved; records: payload length, payload CRC-32, payload
+    private static final long MAGIC = 0x52535346534E4150L;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final long MIN_COMPACTION_BYTES = 1024 * 1024;
+    private static final Duration COMPACTION_RETRY_DELAY = Duration.ofMinutes(5);
+    // Leaves room to append until a compaction brings the file back within a single mapping
+    private static final long MAX_BYTES_LIMIT = 1024L * 1024 * 1024;
+
+    /**
+     * A persisted feed with the validators and freshness of the response it
+     * came from.
+     *
+     * @param feed         the parsed feed
+     * @param etag         the {@code ETag} response header, or null
+     * @param lastModified the {@code Last-Modified} response header, or null
+     * @param fetchedAt    when the feed was fetched, in epoch millis
+     * @param expiresAt    until when the feed is fresh, in epoch millis
+     */
+    record Snapshot(ParsedFeed feed, String etag, String lastModified, long fetchedAt, long expiresAt) {
+    }
+
+    /**
+     * Position of the latest snapshot of a feed in the file.
+     */
+    private record Location(long offset, int length, long fetchedAt) {
+    }
+
+    private final Path file;
+    private final long maxBytes;
+    private final Duration maxAge;
+    private final Clock clock;
+    private final Map<String, Location> index = new HashMap<>();
+    // Not a monitor: a virtual thread blocked on file I/O inside synchronized would pin its carrier thread
+    private final ReentrantLock guard = new ReentrantLock();
+    private volatile ExecutorService compactor;
+
+    private FileChannel channel;
+    private FileLock lock;
+    private MappedByteBuffer mapped;
+    private long end;
+    private long liveBytes;
+    private boolean disabled;
+    private boolean compactionScheduled;
+    private long compactionRetryAt;
+
+    /**
+     * @param file     the log file, created if it does not exist
+     * @param maxBytes the size of the log file above which it is compacted,
+     *                 at most 1 GiB
+     * @param maxAge   how long a snapshot is kept after its feed was fetched
+     * @param clock    the clock
+     */
+    FeedSnapshotStore(Path file, long maxBytes, Duration maxAge, Clock clock) {
+        if (maxBytes < 1 || maxBytes > MAX_BYTES_LIMIT) {
+            throw new IllegalArgumentException("maxBytes must be between 1 and " + MAX_BYTES_LIMIT);
+        }
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    /**
+     * Create a store configured from the {@code state.directory} and
+     * {@code snapshot.*} connector settings. The file is not opened until the
+     * store is used.
+     *
+     * @return the store, or null if snapshots are disabled
+     *         ({@code snapshot.max-bytes} is 0)
+     */
+    static FeedSnapshotStore fromSettings() {
+        long maxBytes = ConnectorSettings.longValue("snapshot.max-bytes", DEFAULT_MAX_BYTES);
+        if (maxBytes <= 0) {
+            return null;
+        }
+        Path directory = Path.of(ConnectorSettings.stringValue("state.directory",
+                Path.of(System.getProperty("java.io.tmpdir"), "rss-feed-connector").toString()));
+        return new FeedSnapshotStore(
+                directory.resolve(FILE_NAME),
+                Math.min(maxBytes, MAX_BYTES_LIMIT),
+                ConnectorSettings.durationValue("snapshot.max-age", DEFAULT_MAX_AGE),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Load the latest snapshot of a feed.
+     *
+     * @param key the normalized feed URI
+     * @return the snapshot, or null if there is none or it is too old
+     */
+    Snapshot load(URI key) {
+        guard.lock();
+        try {
+            return loadLocked(key);
+        } finally {
+            guard.unlock();
+        }
+    }
+
+    private Snapshot loadLocked(URI key) {
+        if (!ensureOpen()) {
+            return null;
+        }
+        Location location = index.get(key.toString());
+        if (location == null || location.fetchedAt() + maxAge.toMillis() <= clock.millis()) {
+            return null;
+        }
+        try {
+            if (location.offset() + location.length() > mapped.capacity()) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+            }
+            ByteBuffer payload = mapped.slice((int) location.offset() + RECORD_HEADER_BYTES,
+                    location.length() - RECORD_HEADER_BYTES);
+            return decode(payload);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to read the snapshot of feed {} from {}", key, file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Append the snapshot of a feed.
+     *
+     * @param key      the normalized feed URI
+     * @param snapshot the snapshot
+     */
+    void save(URI key, Snapshot snapshot) {
+        guard.lock();
+        try {
+            saveLocked(key, snapshot);
+        } finally {
+            guard.unlock();
+        }
+    }
+
+    private void saveLocked(URI key, Snapshot snapshot) {
+        if (!ensureOpen()) {
+            return;
+        }
+        byte[] payload = encode(key.toString(), snapshot);
+        int length = RECORD_HEADER_BYTES + payload.length;
+        if (length > maxBytes / 4) {
+            // Too large to persist, but an older snapshot of the feed must not be restored either
+            removeLocked(key);
+            return;
+        }
+        try {
+            long offset = append(payload);
+            Location previous = index.put(key.toString(), new Location(offset, length, snapshot.fetchedAt()));
+            liveBytes += length - (previous != null ? previous.length() : 0);
+        } catch (IOException e) {
+            disable("Failed to write to", e);
+            return;
+        }
+        scheduleCompactionIfNeeded();
+    }
+
+    /**
+     * Whether a snapshot that is still current should be saved again, so it is
+     * not dropped as older than the max age while its feed keeps being
+     * revalidated.
+     *
+     * @param savedAt when the snapshot was saved, in epoch millis
+     * @return true once half of the max age has passed
+     */
+    boolean needsRefresh(long savedAt) {
+        return clock.millis() - savedAt >= maxAge.toMillis() / 2;
+    }
+
+    /**
+     * Drop the snapshot of a feed, so it is not restored after a restart.
+     *
+     * @param key the normalized feed URI
+     */
+    void remove(URI key) {
+        guard.lock();
+        try {
+            removeLocked(key);
+        } finally {
+            guard.unlock();
+        }
+    }
+
+    private void removeLocked(URI key) {
+        if (!ensureOpen() || !index.containsKey(key.toString())) {
+            return;
+        }
+        try {
+            append(encodeTombstone(key.toString(), clock.millis()));
+        } catch (IOException e) {
+            disable("Failed to write to", e);
+            return;
+        }
+        liveBytes -= index.remove(key.toString()).length();
+        scheduleCompactionIfNeeded();
+    }
+
+    /**
+     * @return the number of feeds with a snapshot
+     */
+    int size() {
+        guard.lock();
+        try {
+            return ensureOpen() ? index.size() : 0;
+        } finally {
+            guard.unlock();
+        }
+    }
+
+    /**
+     * @return the size of the log file in bytes
+     */
+    long fileBytes() {
+        guard.lock();
+        try {
+            return ensureOpen() ? end : 0;
+        } finally {
+            guard.unlock();
+        }
+    }
+
+    /**
+     * Rewrite the log with the latest snapshot of every feed that is not
+     * older than the max age, keeping the newest snapshots within half of the
+     * max size.
+     */
+    void compact() {
+        guard.lock();
+        try {
+            compactLocked();
+        } finally {
+            guard.unlock();
+        }
+    }
+
+    private void compactLocked() {
+        compactionScheduled = false;
+        if (!ensureOpen()) {
+            return;
+        }
+        long now = clock.millis();
+        List<Map.Entry<String, Location>> live = new ArrayList<>(index.entrySet());
+        live.removeIf(entry -> entry.getValue().fetchedAt() + maxAge.toMillis() <= now);
+        live.sort(Comparator.comparingLong(
+                (Map.Entry<String, Location> entry) -> entry.getValue().fetchedAt()).reversed());
+        long budget = liveBytes > maxBytes ? maxBytes / 2 : Long.MAX_VALUE;
+
+        Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+        int compactedFeeds = 0;
+        long compactedEnd = HEADER_BYTES;
+        try {
+            if (end > mapped.capacity()) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+            }
+            try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeHeader(out);
+                for (Map.Entry<String, Location> entry : live) {
+                    Location location = entry.getValue();
+                    if (compactedEnd - HEADER_BYTES + location.length() > budget) {
+                        break;
+                    }
+                    ByteBuffer record = mapped.slice((int) location.offset(), location.length());
+                    while (record.hasRemaining()) {
+                        out.write(record, compactedEnd + record.position());
+                    }
+                    compactedFeeds++;
+                    compactedEnd += location.length();
+                }
+                out.force(true);
+            }
+            // The old file is released before it is replaced; the new one is opened and indexed on next use
+            long previousEnd = end;
+            closeChannel();
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            compactionRetryAt = 0;
+            LOGGER.info("Compacted feed snapshot store {} from {} to {} bytes, {} feeds", file, previousEnd,
+                    compactedEnd, compactedFeeds);
+        } catch (IOException | RuntimeException e) {
+            // Do not rewrite the file on every save while e.g. the disk is full
+            compactionRetryAt = clock.millis() + COMPACTION_RETRY_DELAY.toMillis();
+            LOGGER.warn("Failed to compact feed snapshot store {}, retrying in {}", file, COMPACTION_RETRY_DELAY, e);
+        }
+    }
+
+    /**
+     * Close the log file. The store is reopened on next use.
+     */
+    void close() {
+        guard.lock();
+        try {
+            closeChannel();
+            ExecutorService current = compactor;
+            if (current != null) {
+                current.shutdown();
+                compactor = null;
+            }
+        } finally {
+            guard.unlock();
+        }
+    }
+
+    /**
+     * Append a record to the log.
+     *
+     * @return the offset of the record
+     */
+    private long append(byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .flip();
+        long offset = end;
+        while (record.hasRemaining()) {
+            channel.write(record, offset + record.position());
+        }
+        end += record.limit();
+        return offset;
+    }
+
+    private void scheduleCompactionIfNeeded() {
+        if (needsCompaction() && !compactionScheduled && clock.millis() >= compactionRetryAt) {
+            compactionScheduled = true;
+            compactor().execute(this::compact);
+        }
+    }
+
+    private boolean needsCompaction() {
+        return end > maxBytes || (end > MIN_COMPACTION_BYTES && end - HEADER_BYTES > 2 * liveBytes);
+    }
+
+    private boolean ensureOpen() {
+        if (channel != null) {
+            return true;
+        }
+        if (disabled) {
+            return false;
+        }
+        FileChannel opened = null;
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            opened = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            FileLock fileLock = tryLock(opened);
+            if (opened.size() == 0) {
+                writeHeader(opened);
+            }
+            MappedByteBuffer map = opened.map(FileChannel.MapMode.READ_ONLY, 0, opened.size());
+            if (map.capacity() < HEADER_BYTES || map.getLong(0) != MAGIC || map.getInt(8) != VERSION) {
+                throw new IOException("not a feed snapshot store file");
+            }
+            index.clear();
+            liveBytes = 0;
+            long valid = scan(map);
+            if (valid < opened.size()) {
+                LOGGER.warn("Discarding {} bytes of incomplete or corrupt snapshots at the end of {}",
+                        opened.size() - valid, file);
+                opened.truncate(valid);
+            }
+            channel = opened;
+            lock = fileLock;
+            mapped = map;
+            end = valid;
+            LOGGER.info("Opened feed snapshot store {} with {} feeds", file, index.size());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            if (opened != null) {
+                try {
+                    opened.close();
+                } catch (IOException closeFailure) {
+                    e.addSuppressed(closeFailure);
+                }
+            }
+            disable("Failed to open", e);
+            return false;
+        }
+    }
+
+    /**
+     * Index the valid records of the file.
+     *
+     * @return the offset after the last valid record
+     */
+    private long scan(MappedByteBuffer map) {
+        int offset = HEADER_BYTES;
+        CRC32 crc = new CRC32();
+        while (offset + RECORD_HEADER_BYTES <= map.capacity()) {
+            int length = map.getInt(offset);
+            if (length <= 0 || length > map.capacity() - offset - RECORD_HEADER_BYTES) {
+                break;
+            }
+            ByteBuffer payload = map.slice(offset + RECORD_HEADER_BYTES, length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != map.getInt(offset + 4)) {
+                break;
+            }
+            try {
+                long fetchedAt = payload.getLong();
+                String key = readString(payload);
+                if (!payload.hasRemaining()) {
+                    // Tombstone
+                    Location previous = index.remove(key);
+                    liveBytes -= previous != null ? previous.length() : 0;
+                } else {
+                    Location previous = index.put(key, new Location(offset, RECORD_HEADER_BYTES + length, fetchedAt));
+                    liveBytes += RECORD_HEADER_BYTES + length - (previous != null ? previous.length() : 0);
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                break;
+            }
+            offset += RECORD_HEADER_BYTES + length;
+        }
+        return offset;
+    }
+
+    private void disable(String action, Exception e) {
+        LOGGER.warn("{} feed snapshot store {}, feeds will not be persisted: {}", action, file, e.toString());
+        closeChannel();
+        disabled = true;
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            lock.release();
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close feed snapshot store {}", file, e);
+        } finally {
+            channel = null;
+            lock = null;
+            mapped = null;
+            index.clear();
+        }
+    }
+
+    private ExecutorService compactor() {
+        ExecutorService current = compactor;
+        if (current == null) {
+            current = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "rss-feed-snapshot-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            compactor = current;
+        }
+        return current;
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        FileLock fileLock;
+        try {
+            fileLock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            throw new IOException("the file is already in use by this runtime", e);
+        }
+        if (fileLock == null) {
+            throw new IOException("the file is in use by another process");
+        }
+        return fileLock;
+    }
+
+    private static void writeHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putLong(MAGIC).putInt(VERSION).putInt(0).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+
+    // Payload: fetchedAt, key, expiresAt, etag, lastModified, feed; a tombstone ends after the key
+
+    private static byte[] encode(String key, Snapshot snapshot) {
+        SnapshotWriter out = new SnapshotWriter();
+        out.writeLong(snapshot.fetchedAt());
+        out.writeString(key);
+        out.writeLong(snapshot.expiresAt());
+        out.writeString(snapshot.etag());
+        out.writeString(snapshot.lastModified());
+
+        ParsedFeed feed = snapshot.feed();
+        FeedMetadata metadata = feed.metadata();
+        out.writeString(metadata.title());
+        out.writeString(metadata.description());
+        out.writeString(metadata.link());
+        out.writeString(metadata.lastBuildDate());
+        out.writeLong(feed.freshnessHint() != null ? feed.freshnessHint().toMillis() : -1);
+        out.writeInt(feed.truncated() ? 1 : 0);
+        out.writeInt(feed.entries().size());
+        for (FeedEntry entry : feed.entries()) {
+            out.writeString(entry.title());
+            out.writeString(entry.link());
+            out.writeString(entry.description());
+            out.writeLong(entry.publishedAt());
+            out.writeString(entry.author());
+            out.writeInt(entry.categories().size());
+            for (String category : entry.categories()) {
+                out.writeString(category);
+            }
+            out.writeString(entry.guid());
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] encodeTombstone(String key, long removedAt) {
+        SnapshotWriter out = new SnapshotWriter();
+        out.writeLong(removedAt);
+        out.writeString(key);
+        return out.toByteArray();
+    }
+
+    private static Snapshot decode(ByteBuffer in) {
+        long fetchedAt = in.getLong();
+        readString(in);
+        long expiresAt = in.getLong();
+        String etag = readString(in);
+        String lastModified = readString(in);
+
+        FeedMetadata metadata = new FeedMetadata(readString(in), readString(in), readString(in), readString(in));
+        long freshnessHint = in.getLong();
+        boolean truncated = in.getInt() != 0;
+        int count = in.getInt();
+        ValuePool pool = new ValuePool();
+        List<FeedEntry> entries = new ArrayList<>(Math.min(count, 1024));
+        for (int i = 0; i < count; i++) {
+            String title = readString(in);
+            String link = readString(in);
+            String description = readString(in);
+            long publishedAt = in.getLong();
+            String author = readString(in);
+            int categoryCount = in.getInt();
+            List<String> categories = new ArrayList<>(Math.min(categoryCount, 64));
+            for (int c = 0; c < categoryCount; c++) {
+                categories.add(readString(in));
+            }
+            entries.add(new FeedEntry(title, link, description, publishedAt, pool.intern(author),
+                    pool.categories(categories), readString(in)));
+        }
+        ParsedFeed feed = new ParsedFeed(metadata, entries, truncated,
+                freshnessHint >= 0 ? Duration.ofMillis(freshnessHint) : null);
+        return new Snapshot(feed, etag, lastModified, fetchedAt, expiresAt);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("string length " + length + " exceeds the record");
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Growable big-endian buffer for encoding snapshots.
+     */
+    private static final class SnapshotWriter {
+
+        private ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+        void writeInt(int value) {
+            ensure(4).putInt(value);
+        }
+
+        void writeLong(long value) {
+            ensure(8).putLong(value);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            ensure(bytes.length).put(bytes);
+        }
+
+        byte[] toByteArray() {
+            byte[] bytes = new byte[buffer.position()];
+            buffer.flip().get(bytes);
+            return bytes;
+        }
+
+        private ByteBuffer ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+                grown.put(buffer.flip());
+                buffer = grown;
+            }
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.camunda.connector.rssfeed;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Locale;
+
+/**
+ * Helpers for feed URIs.
+ */
+final class FeedUris {
+
+    private FeedUris() {
+    }
+
+    /**
+     * Normalize a feed URI for use as a cache key, so that trivially different
+     * spellings of the same feed URL share one entry: scheme and host are
+     * lower-cased, default ports and fragments are dropped, an empty path
+     * becomes {@code /} and dot segments are removed.
+     *
+     * @param uri the feed URI
+     * @return the normalized URI, or the URI itself if it cannot be rebuilt
+     */
+    static URI normalize(URI uri) {
+        if (uri.isOpaque() || uri.getHost() == null) {
+            return uri.normalize();
+        }
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        int port = uri.getPort();
+        if (("http".equals(scheme) && port == 80) || ("https".equals(scheme) && port == 443)) {
+            port = -1;
+        }
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        try {
+            // Use the single-argument constructor so escaped characters stay escaped
+            StringBuilder normalized = new StringBuilder()
+                    .append(scheme).append("://");
+            if (uri.getRawUserInfo() != null) {
+                normalized.append(uri.getRawUserInfo()).append('@');
+            }
+            normalized.append(uri.getHost().toLowerCase(Locale.ROOT));
+            if (port != -1) {
+                normalized.append(':').append(port);
+            }
+            normalized.append(path);
+            if (uri.getRawQuery() != null) {
+                normalized.append('?').append(uri.getRawQuery());
+            }
+            return new URI(normalized.toString()).normalize();
+        } catch (URISyntaxException e) {
+            return uri.normalize();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.camunda.connector.rssfeed;
+
+/**
+ * 64-bit non-cryptographic hashing of strings, used to identify feed items
+ * in compact primitive tables.
+ */
+final class Hashing {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Hashing() {
+    }
+
+    /**
+     * Hash a string (FNV-1a over its UTF-16 code units, followed by the
+     * MurmurHash3 finalizer for good avalanche in the low bits).
+     *
+     * @param value the string
+     * @return the 64-bit hash
+     */
+    static long hash64(CharSequence value) {
+        return hash64(FNV_OFFSET_BASIS, value);
+    }
+
+    /**
+     * Hash a string with a seed, e.g. the hash of a namespace, so that equal
+     * strings in different namespaces get unrelated hashes.
+     *
+     * @param seed  the seed
+     * @param value the string
+     * @return the 64-bit hash
+     */
+    static long hash64(long seed, CharSequence value) {
+        long hash = seed;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash = (hash ^ (c & 0xFF)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return mix(hash ^ value.length());
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer.
+     */
+    static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
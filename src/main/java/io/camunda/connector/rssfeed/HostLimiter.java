@@ -0,0 +1,285 @@
+package io.camunda.connector.rssfeed;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits outbound fetches per host (URI authority): at most
+ * {@code maxConcurrent} requests in flight and at most
+ * {@code permitsPerSecond} requests started per second (token bucket with a
+ * burst of one second's worth of permits).
+ * <p>
+ * Acquiring a permit never blocks: callers that cannot be served immediately
+ * are queued and receive a future that completes once a permit is granted,
+ * or fails with a {@link TimeoutException} after
+ * {@code maxWait}. Permits are handed out in arrival order.
+ */
+final class HostLimiter {
+
+    private static final int DEFAULT_MAX_CONCURRENT = 8;
+    private static final int DEFAULT_PERMITS_PER_SECOND = 10;
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(30);
+
+    /**
+     * A granted permit. Closing it frees the concurrency slot; closing it
+     * more than once has no effect.
+     */
+    interface Permit extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Snapshot of the limiter counters.
+     */
+    record Stats(long granted, long queued, long timedOut, int queueDepth, long totalWaitMillis, long maxWaitMillis) {
+    }
+
+    private final int maxConcurrent;
+    private final double permitsPerSecond;
+    private final Duration maxWait;
+    private final ConcurrentMap<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final LongAdder granted = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0L);
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * @param maxConcurrent    the maximum number of requests in flight per host
+     * @param permitsPerSecond the maximum request rate per host, or 0 for no
+     *                         rate limit
+     * @param maxWait          how long a caller may wait for a permit
+     */
+    HostLimiter(int maxConcurrent, double permitsPerSecond, Duration maxWait) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be at least 1");
+        }
+        if (permitsPerSecond < 0) {
+            throw new IllegalArgumentException("permitsPerSecond must not be negative");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.permitsPerSecond = permitsPerSecond;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Create a limiter configured from the {@code host.*} connector settings.
+     */
+    static HostLimiter fromSettings() {
+        return new HostLimiter(
+                ConnectorSettings.intValue("host.max-concurrent", DEFAULT_MAX_CONCURRENT),
+                ConnectorSettings.intValue("host.requests-per-second", DEFAULT_PERMITS_PER_SECOND),
+                ConnectorSettings.durationValue("host.max-wait", DEFAULT_MAX_WAIT));
+    }
+
+    /**
+     * Request a permit for a host.
+     *
+     * @param host the URI authority
+     * @return a future completing with the permit, or failing with a
+     *         TimeoutException if no permit was granted within the max wait
+     */
+    CompletableFuture<Permit> acquire(String host) {
+        String key = host != null ? host.toLowerCase(Locale.ROOT) : "";
+        return bulkheads.computeIfAbsent(key, k -> new Bulkhead()).acquire();
+    }
+
+    /**
+     * Take a permit for a host if one is available right away.
+     *
+     * @param host the URI authority
+     * @return the permit, or null if the caller would have to wait
+     */
+    Permit tryAcquire(String host) {
+        String key = host != null ? host.toLowerCase(Locale.ROOT) : "";
+        return bulkheads.computeIfAbsent(key, k -> new Bulkhead()).tryAcquire();
+    }
+
+    Duration maxWait() {
+        return maxWait;
+    }
+
+    Stats stats() {
+        return new Stats(granted.sum(), queued.sum(), timedOut.sum(), queueDepth.get(),
+                TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum()),
+                TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+    }
+
+    private ScheduledExecutorService scheduler() {
+        ScheduledExecutorService current = scheduler;
+        if (current == null) {
+            synchronized (this) {
+                current = scheduler;
+                if (current == null) {
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                        Thread thread = new Thread(runnable, "rss-feed-host-limiter");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor.setRemoveOnCancelPolicy(true);
+                    current = executor;
+                    scheduler = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static final class Waiter {
+
+        private final CompletableFuture<Permit> future;
+        private final long enqueuedAt;
+        private ScheduledFuture<?> expiry;
+
+        Waiter(CompletableFuture<Permit> future, long enqueuedAt) {
+            this.future = future;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    /**
+     * Concurrency slots, token bucket and wait queue of one host.
+     */
+    private final class Bulkhead {
+
+        private final double burst = Math.max(1, Math.ceil(permitsPerSecond));
+        private final Queue<Waiter> waiters = new ArrayDeque<>();
+        private int active;
+        private double tokens = burst;
+        private long refilledAt = System.nanoTime();
+        private boolean drainScheduled;
+
+        synchronized CompletableFuture<Permit> acquire() {
+            if (waiters.isEmpty() && tryTake()) {
+                granted.increment();
+                return CompletableFuture.completedFuture(new HostPermit(this));
+            }
+
+            CompletableFuture<Permit> future = new CompletableFuture<>();
+            Waiter waiter = new Waiter(future, System.nanoTime());
+            waiters.add(waiter);
+            queued.increment();
+            queueDepth.incrementAndGet();
+            drain();
+            if (!future.isDone()) {
+                waiter.expiry = scheduler().schedule(() -> expire(waiter), maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            return future;
+        }
+
+        synchronized Permit tryAcquire() {
+            if (waiters.isEmpty() && tryTake()) {
+                granted.increment();
+                return new HostPermit(this);
+            }
+            return null;
+        }
+
+        /**
+         * Fail a waiter that was not granted a permit within the max wait.
+         */
+        private synchronized void expire(Waiter waiter) {
+            if (waiters.remove(waiter)) {
+                queueDepth.decrementAndGet();
+                if (waiter.future.completeExceptionally(new TimeoutException("No permit granted within " + maxWait))) {
+                    timedOut.increment();
+                }
+            }
+        }
+
+        synchronized void release() {
+            active--;
+            drain();
+        }
+
+        /**
+         * Grant permits to queued callers while slots and tokens allow, and
+         * schedule another pass for when the next token becomes available.
+         */
+        private synchronized void drain() {
+            while (!waiters.isEmpty() && tryTake()) {
+                Waiter waiter = waiters.poll();
+                queueDepth.decrementAndGet();
+                if (waiter.expiry != null) {
+                    waiter.expiry.cancel(false);
+                }
+                if (waiter.future.complete(new HostPermit(this))) {
+                    long waited = System.nanoTime() - waiter.enqueuedAt;
+                    granted.increment();
+                    totalWaitNanos.add(waited);
+                    maxWaitNanos.accumulate(waited);
+                } else {
+                    // Cancelled by the caller, give the slot and token back
+                    active--;
+                    tokens = Math.min(burst, tokens + 1);
+                }
+            }
+
+            if (!waiters.isEmpty() && active < maxConcurrent && permitsPerSecond > 0 && !drainScheduled) {
+                // Waiting for a token, not for a slot to be released
+                long delayNanos = (long) ((1 - tokens) / permitsPerSecond * 1_000_000_000L);
+                drainScheduled = true;
+                scheduler().schedule(() -> {
+                    synchronized (this) {
+                        drainScheduled = false;
+                        drain();
+                    }
+                }, Math.max(1, delayNanos), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private boolean tryTake() {
+            if (active >= maxConcurrent) {
+                return false;
+            }
+            if (permitsPerSecond > 0) {
+                long now = System.nanoTime();
+                tokens = Math.min(burst, tokens + (now - refilledAt) / 1_000_000_000d * permitsPerSecond);
+                refilledAt = now;
+                if (tokens < 1) {
+                    return false;
+                }
+                tokens -= 1;
+            }
+            active++;
+            return true;
+        }
+    }
+
+    private static final class HostPermit implements Permit {
+
+        private final Bulkhead bulkhead;
+        private boolean released;
+
+        HostPermit(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public void close() {
+            synchronized (bulkhead) {
+                if (!released) {
+                    released = true;
+                    bulkhead.release();
+                }
+            }
+        }
+    }
+}
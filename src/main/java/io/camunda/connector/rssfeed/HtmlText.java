@@ -0,0 +1,210 @@
+package io.camunda.connector.rssfeed;
+
+/**
+ * Converts HTML fragments (as found in feed descriptions) to plain text and
+ * shortens text on word boundaries.
+ * <p>
+ * The conversion is a single lenient pass, not an HTML parser: tags and
+ * comments are dropped, the content of {@code script} and {@code style}
+ * elements is skipped, common character references are decoded and
+ * whitespace is collapsed. It can stop after a given number of characters,
+ * so long descriptions that are truncated anyway are never converted in
+ * full.
+ */
+final class HtmlText {
+
+    private static final char ELLIPSIS = '…';
+
+    private HtmlText() {
+    }
+
+    /**
+     * Convert an HTML fragment to single-line plain text.
+     *
+     * @param html     the HTML fragment, may be null
+     * @param maxChars the number of characters after which conversion may
+     *                 stop, or {@link Integer#MAX_VALUE} for the whole text
+     * @return the plain text (longer than {@code maxChars} only if it was
+     *         cut short), or null if the fragment is null
+     */
+    static String toPlainText(String html, int maxChars) {
+        if (html == null) {
+            return null;
+        }
+        int limit = maxChars == Integer.MAX_VALUE ? Integer.MAX_VALUE : maxChars + 1;
+        StringBuilder text = new StringBuilder(Math.min(html.length(), limit));
+        boolean pendingSpace = false;
+        int i = 0;
+        int length = html.length();
+        while (i < length && text.length() < limit) {
+            char c = html.charAt(i);
+            if (c == '<') {
+                int end = skipMarkup(html, i);
+                if (end > i) {
+                    // Tags separate words, e.g. "<p>a</p><p>b</p>"
+                    pendingSpace = true;
+                    i = end;
+                    continue;
+                }
+            }
+            if (c == '&') {
+                int semicolon = html.indexOf(';', i);
+                if (semicolon > i + 1 && semicolon - i <= 10) {
+                    int decoded = decodeReference(html, i + 1, semicolon);
+                    if (decoded >= 0) {
+                        pendingSpace = append(text, decoded, pendingSpace);
+                        i = semicolon + 1;
+                        continue;
+                    }
+                }
+            }
+            pendingSpace = append(text, c, pendingSpace);
+            i++;
+        }
+        return text.toString();
+    }
+
+    /**
+     * Shorten text to at most {@code maxChars} characters, cutting at the
+     * last word boundary and ending with an ellipsis.
+     *
+     * @param text     the text, may be null
+     * @param maxChars the maximum length including the ellipsis, at least 1
+     * @return the text, or its shortened form
+     */
+    static String truncate(String text, int maxChars) {
+        if (text == null || text.length() <= maxChars) {
+            return text;
+        }
+        int cut = maxChars - 1;
+        if (cut > 0 && Character.isHighSurrogate(text.charAt(cut - 1))) {
+            cut--;
+        }
+        // Prefer the last whitespace, unless that would drop more than half of the text
+        for (int i = cut; i > maxChars / 2; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                cut = i;
+                break;
+            }
+        }
+        while (cut > 0 && Character.isWhitespace(text.charAt(cut - 1))) {
+            cut--;
+        }
+        return text.substring(0, cut) + ELLIPSIS;
+    }
+
+    /**
+     * Skip a tag, comment or CDATA marker starting at {@code start}.
+     *
+     * @return the index after the markup, or {@code start} if the
+     *         {@code <} does not start markup
+     */
+    private static int skipMarkup(String html, int start) {
+        if (html.startsWith("<!--", start)) {
+            int end = html.indexOf("-->", start + 4);
+            return end < 0 ? html.length() : end + 3;
+        }
+        if (start + 1 >= html.length()) {
+            return start;
+        }
+        char next = html.charAt(start + 1);
+        if (!Character.isLetter(next) && next != '/' && next != '!' && next != '?') {
+            // A literal "<", e.g. "a < b"
+            return start;
+        }
+        int end = tagEnd(html, start);
+        if (end < 0) {
+            return html.length();
+        }
+        // Skip the content of elements that are not text
+        for (String element : new String[] { "script", "style" }) {
+            if (html.regionMatches(true, start + 1, element, 0, element.length())) {
+                int close = indexOfIgnoreCase(html, "</" + element, end);
+                return close < 0 ? html.length() : Math.max(tagEnd(html, close), close + 1);
+            }
+        }
+        return end;
+    }
+
+    /**
+     * The index after the {@code >} closing the tag at {@code start}, skipping
+     * quoted attribute values, or -1 if the tag is not closed.
+     */
+    private static int tagEnd(String html, int start) {
+        char quote = 0;
+        for (int i = start + 1; i < html.length(); i++) {
+            char c = html.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOfIgnoreCase(String text, String target, int from) {
+        for (int i = from; i <= text.length() - target.length(); i++) {
+            if (text.regionMatches(true, i, target, 0, target.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Decode the character reference between {@code &} and {@code ;}.
+     *
+     * @return the code point, or -1 if the reference is not known
+     */
+    private static int decodeReference(String html, int start, int end) {
+        if (html.charAt(start) == '#') {
+            try {
+                boolean hex = end - start > 1 && (html.charAt(start + 1) == 'x' || html.charAt(start + 1) == 'X');
+                int codePoint = hex
+                        ? Integer.parseInt(html, start + 2, end, 16)
+                        : Integer.parseInt(html, start + 1, end, 10);
+                return Character.isValidCodePoint(codePoint) ? codePoint : -1;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return switch (html.substring(start, end)) {
+            case "amp" -> '&';
+            case "lt" -> '<';
+            case "gt" -> '>';
+            case "quot" -> '"';
+            case "apos" -> '\'';
+            case "nbsp" -> ' ';
+            case "hellip" -> ELLIPSIS;
+            case "mdash" -> '—';
+            case "ndash" -> '–';
+            case "lsquo" -> '‘';
+            case "rsquo" -> '’';
+            case "ldquo" -> '“';
+            case "rdquo" -> '”';
+            default -> -1;
+        };
+    }
+
+    /**
+     * Append a character, collapsing whitespace into single spaces and
+     * dropping leading whitespace.
+     *
+     * @return whether a space is pending before the next character
+     */
+    private static boolean append(StringBuilder text, int codePoint, boolean pendingSpace) {
+        if (Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint)) {
+            return true;
+        }
+        if (pendingSpace && !text.isEmpty()) {
+            text.append(' ');
+        }
+        text.appendCodePoint(codePoint);
+        return false;
+    }
+}
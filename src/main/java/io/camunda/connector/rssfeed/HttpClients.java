@@ -0,0 +1,111 @@
+package io.camunda.connector.rssfeed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+
+/**
+ * Builds the {@link HttpClient} shared by all connector instances of a
+ * runtime, so connections (and TLS sessions) to frequently polled hosts are
+ * pooled and reused across jobs.
+ * <p>
+ * Configured from the {@code http.*} connector settings:
+ * <ul>
+ * <li>{@code http.version}: {@code HTTP_2} (default, falls back to HTTP/1.1
+ * per connection) or {@code HTTP_1_1}</li>
+ * <li>{@code http.executor}: {@code virtual} (default, a virtual thread per
+ * task) or {@code default} (the JDK's cached thread pool)</li>
+ * <li>{@code http.connect-timeout}: connection timeout (default 10s)</li>
+ * <li>{@code http.request-timeout}: default request timeout (default 30s)</li>
+ * <li>{@code http.keep-alive}: idle timeout of pooled HTTP/1.1 connections
+ * (JDK default if unset)</li>
+ * <li>{@code http.connection-pool-size}: maximum pooled HTTP/1.1 connections
+ * (unbounded if unset)</li>
+ * </ul>
+ * The keep-alive and pool size map to JDK system properties that are read
+ * once, so they only take effect if no HttpClient was used before in the JVM.
+ */
+final class HttpClients {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpClients.class);
+
+    static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    static final String EXECUTOR_VIRTUAL = "virtual";
+    static final String EXECUTOR_DEFAULT = "default";
+
+    private static final String JDK_KEEP_ALIVE_TIMEOUT = "jdk.httpclient.keepalive.timeout";
+    private static final String JDK_CONNECTION_POOL_SIZE = "jdk.httpclient.connectionPoolSize";
+
+    private HttpClients() {
+    }
+
+    /**
+     * Create a client configured from the {@code http.*} connector settings.
+     */
+    static HttpClient fromSettings() {
+        Duration keepAlive = ConnectorSettings.durationValue("http.keep-alive", null);
+        if (keepAlive != null) {
+            setJdkPropertyIfAbsent(JDK_KEEP_ALIVE_TIMEOUT, Long.toString(keepAlive.toSeconds()));
+        }
+        int poolSize = ConnectorSettings.intValue("http.connection-pool-size", 0);
+        if (poolSize > 0) {
+            setJdkPropertyIfAbsent(JDK_CONNECTION_POOL_SIZE, Integer.toString(poolSize));
+        }
+
+        return create(
+                version(ConnectorSettings.stringValue("http.version", HttpClient.Version.HTTP_2.name())),
+                ConnectorSettings.stringValue("http.executor", EXECUTOR_VIRTUAL),
+                ConnectorSettings.durationValue("http.connect-timeout", DEFAULT_CONNECT_TIMEOUT));
+    }
+
+    /**
+     * The request timeout used when a request does not set its own.
+     */
+    static Duration requestTimeoutFromSettings() {
+        return ConnectorSettings.durationValue("http.request-timeout", DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * Create a client.
+     *
+     * @param version        the preferred HTTP version
+     * @param executor       {@link #EXECUTOR_VIRTUAL} or {@link #EXECUTOR_DEFAULT}
+     * @param connectTimeout the connection timeout
+     * @return the client
+     */
+    static HttpClient create(HttpClient.Version version, String executor, Duration connectTimeout) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (EXECUTOR_VIRTUAL.equalsIgnoreCase(executor)) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        } else if (!EXECUTOR_DEFAULT.equalsIgnoreCase(executor)) {
+            LOGGER.warn("Unknown HTTP client executor '{}' for setting {}, using the default executor", executor,
+                    ConnectorSettings.PREFIX + "http.executor");
+        }
+        return builder.build();
+    }
+
+    private static HttpClient.Version version(String value) {
+        try {
+            return HttpClient.Version.valueOf(value.trim().toUpperCase(Locale.ROOT).replace('.', '_'));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Invalid HTTP version '{}' for setting {}, using HTTP_2", value,
+                    ConnectorSettings.PREFIX + "http.version");
+            return HttpClient.Version.HTTP_2;
+        }
+    }
+
+    private static void setJdkPropertyIfAbsent(String name, String value) {
+        if (System.getProperty(name) == null) {
+            System.setProperty(name, value);
+        }
+    }
+}
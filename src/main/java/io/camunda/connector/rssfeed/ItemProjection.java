@@ -0,0 +1,145 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.rssfeed.dto.RssFeedItem;
+import io.camunda.connector.rssfeed.dto.RssFeedRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Converts feed entries to result items, keeping only the requested fields
+ * and shortening descriptions. Fields that are not requested are never
+ * computed (e.g. the publication date is not formatted), and descriptions are
+ * stripped of HTML and truncated while they are converted, so the strings
+ * that would be cut off are not built in the first place.
+ * <p>
+ * The projection is applied when items are built rather than when feeds are
+ * parsed, because parsed feeds are cached and shared by requests with
+ * different projections.
+ */
+final class ItemProjection {
+
+    /**
+     * The field names that can be selected, in result order.
+     */
+    static final List<String> FIELDS = List.of("title", "link", "description", "publishedDate", "author",
+            "categories", "guid");
+
+    private static final int TITLE = 1;
+    private static final int LINK = 1 << 1;
+    private static final int DESCRIPTION = 1 << 2;
+    private static final int PUBLISHED_DATE = 1 << 3;
+    private static final int AUTHOR = 1 << 4;
+    private static final int CATEGORIES = 1 << 5;
+    private static final int GUID = 1 << 6;
+    private static final int ALL_FIELDS = (1 << 7) - 1;
+
+    /**
+     * Every field, descriptions unchanged.
+     */
+    static final ItemProjection ALL = new ItemProjection(ALL_FIELDS, Integer.MAX_VALUE, false);
+
+    private final int fields;
+    private final List<String> selectedFields;
+    private final int maxDescriptionLength;
+    private final boolean stripHtml;
+
+    private ItemProjection(int fields, int maxDescriptionLength, boolean stripHtml) {
+        this.fields = fields;
+        this.selectedFields = fields == ALL_FIELDS ? null : selectedFields(fields);
+        this.maxDescriptionLength = maxDescriptionLength;
+        this.stripHtml = stripHtml;
+    }
+
+    /**
+     * Create the projection of a request.
+     *
+     * @param request the request
+     * @return the projection
+     * @throws ConnectorException if a field name is not known
+     */
+    static ItemProjection of(RssFeedRequest request) {
+        int fields = parseFields(request.fields());
+        int maxDescriptionLength = request.maxDescriptionLength() != null
+                ? request.maxDescriptionLength()
+                : Integer.MAX_VALUE;
+        boolean stripHtml = Boolean.TRUE.equals(request.stripHtml());
+        if (fields == ALL_FIELDS && maxDescriptionLength == Integer.MAX_VALUE && !stripHtml) {
+            return ALL;
+        }
+        return new ItemProjection(fields, maxDescriptionLength, stripHtml);
+    }
+
+    /**
+     * Convert an entry to the result DTO.
+     *
+     * @param entry the entry
+     * @return the item, with null for every field that is not selected; only
+     *     the selected fields are part of its JSON
+     */
+    RssFeedItem toItem(FeedEntry entry) {
+        return new RssFeedItem(
+                selected(TITLE) ? entry.title() : null,
+                selected(LINK) ? entry.link() : null,
+                selected(DESCRIPTION) ? description(entry.description()) : null,
+                selected(PUBLISHED_DATE) && entry.hasDate() ? FeedDates.format(entry.publishedAt()) : null,
+                selected(AUTHOR) ? entry.author() : null,
+                selected(CATEGORIES) ? entry.categories() : null,
+                selected(GUID) ? entry.guid() : null,
+                selectedFields);
+    }
+
+    private boolean selected(int field) {
+        return (fields & field) != 0;
+    }
+
+    private String description(String description) {
+        if (description == null) {
+            return null;
+        }
+        String text = stripHtml ? HtmlText.toPlainText(description, maxDescriptionLength) : description;
+        return maxDescriptionLength == Integer.MAX_VALUE ? text : HtmlText.truncate(text, maxDescriptionLength);
+    }
+
+    private static List<String> selectedFields(int fields) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < FIELDS.size(); i++) {
+            if ((fields & (1 << i)) != 0) {
+                names.add(FIELDS.get(i));
+            }
+        }
+        return List.copyOf(names);
+    }
+
+    private static int parseFields(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return ALL_FIELDS;
+        }
+        int fields = 0;
+        for (String name : names) {
+            int index = indexOfField(name);
+            if (index < 0) {
+                throw new ConnectorException(
+                        "INVALID_FIELDS",
+                        "Unknown field '" + name + "'. Supported fields: " + String.join(", ", FIELDS));
+            }
+            fields |= 1 << index;
+        }
+        return fields;
+    }
+
+    private static int indexOfField(String name) {
+        if (name == null) {
+            return -1;
+        }
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        for (int i = 0; i < FIELDS.size(); i++) {
+            if (FIELDS.get(i).toLowerCase(Locale.ROOT).equals(normalized)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
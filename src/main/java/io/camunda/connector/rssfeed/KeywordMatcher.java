@@ -0,0 +1,252 @@
+package io.camunda.connector.rssfeed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Case-insensitive multi-keyword matcher (Aho-Corasick automaton) that finds
+ * include and exclude keywords in one pass over a text, no matter how many
+ * keywords there are.
+ * <p>
+ * Keywords match anywhere in the text, also inside words. Markup tags
+ * ({@code <p>}, {@code </a>}, ...) are skipped and separate words, so
+ * keywords do not match tag or attribute names; character references are
+ * not decoded. Characters are compared after {@link Character#toLowerCase(char)}.
+ * <p>
+ * The automaton is immutable after construction and can be shared between
+ * threads.
+ */
+final class KeywordMatcher {
+
+    static final int INCLUDE = 1;
+    static final int EXCLUDE = 1 << 1;
+
+    private static final int ROOT = 0;
+    private static final char[] NO_LABELS = new char[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    // Per state: the sorted transition labels and their target states
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failure;
+    // Per state: INCLUDE / EXCLUDE if a keyword ends here or at a state on its failure chain
+    private final int[] output;
+    private final boolean hasIncludes;
+    // The outputs after which the outcome is known: an exclude always, an include if there are no excludes
+    private final int decisive;
+
+    private KeywordMatcher(char[][] labels, int[][] targets, int[] failure, int[] output, boolean hasIncludes,
+            boolean hasExcludes) {
+        this.labels = labels;
+        this.targets = targets;
+        this.failure = failure;
+        this.output = output;
+        this.hasIncludes = hasIncludes;
+        this.decisive = hasExcludes ? EXCLUDE : INCLUDE;
+    }
+
+    /**
+     * Build a matcher. Blank keywords are ignored.
+     *
+     * @param includes the keywords of which at least one must occur, may be null
+     * @param excludes the keywords of which none may occur, may be null
+     * @return the matcher, or null if there are no keywords
+     */
+    static KeywordMatcher of(List<String> includes, List<String> excludes) {
+        Builder builder = new Builder();
+        boolean hasIncludes = builder.addAll(includes, INCLUDE);
+        boolean hasExcludes = builder.addAll(excludes, EXCLUDE);
+        if (!hasIncludes && !hasExcludes) {
+            return null;
+        }
+        return builder.build(hasIncludes, hasExcludes);
+    }
+
+    /**
+     * Check texts against the keywords: at least one include keyword (if
+     * there are any) and no exclude keyword must occur in one of the texts.
+     * Keywords do not match across texts. Stops as soon as the outcome is
+     * known.
+     *
+     * @param texts the texts, null elements are skipped
+     * @return whether the texts match
+     */
+    boolean matches(String... texts) {
+        int found = 0;
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            found |= scan(text);
+            if ((found & decisive) != 0) {
+                break;
+            }
+        }
+        if ((found & EXCLUDE) != 0) {
+            return false;
+        }
+        return !hasIncludes || (found & INCLUDE) != 0;
+    }
+
+    /**
+     * Run the automaton over a text, stopping once the outcome is known.
+     *
+     * @return the outputs found
+     */
+    private int scan(String text) {
+        int found = 0;
+        int state = ROOT;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '<' && i + 1 < length && isTagStart(text.charAt(i + 1))) {
+                int end = text.indexOf('>', i + 2);
+                if (end > 0) {
+                    // Tags separate words and are not matched themselves
+                    i = end;
+                    state = ROOT;
+                    continue;
+                }
+            }
+            state = next(state, Character.toLowerCase(c));
+            found |= output[state];
+            if ((found & decisive) != 0) {
+                return found;
+            }
+        }
+        return found;
+    }
+
+    private static boolean isTagStart(char c) {
+        return Character.isLetter(c) || c == '/' || c == '!';
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int index = Arrays.binarySearch(labels[state], c);
+            if (index >= 0) {
+                return targets[state][index];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+
+    /**
+     * Builds the keyword trie, then the failure links and merged outputs in
+     * breadth-first order.
+     */
+    private static final class Builder {
+
+        private final List<char[]> labels = new ArrayList<>();
+        private final List<int[]> targets = new ArrayList<>();
+        private final List<Integer> outputs = new ArrayList<>();
+
+        Builder() {
+            addState();
+        }
+
+        boolean addAll(List<String> keywords, int flag) {
+            boolean added = false;
+            if (keywords != null) {
+                for (String keyword : keywords) {
+                    if (keyword != null && !keyword.isBlank()) {
+                        add(keyword.trim(), flag);
+                        added = true;
+                    }
+                }
+            }
+            return added;
+        }
+
+        private void add(String keyword, int flag) {
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = Character.toLowerCase(keyword.charAt(i));
+                char[] stateLabels = labels.get(state);
+                int index = Arrays.binarySearch(stateLabels, c);
+                if (index >= 0) {
+                    state = targets.get(state)[index];
+                    continue;
+                }
+                int child = addState();
+                int insertAt = -index - 1;
+                labels.set(state, insert(stateLabels, insertAt, c));
+                targets.set(state, insert(targets.get(state), insertAt, child));
+                state = child;
+            }
+            outputs.set(state, outputs.get(state) | flag);
+        }
+
+        private int addState() {
+            labels.add(NO_LABELS);
+            targets.add(NO_TARGETS);
+            outputs.add(0);
+            return labels.size() - 1;
+        }
+
+        KeywordMatcher build(boolean hasIncludes, boolean hasExcludes) {
+            int states = labels.size();
+            char[][] stateLabels = labels.toArray(new char[0][]);
+            int[][] stateTargets = targets.toArray(new int[0][]);
+            int[] failure = new int[states];
+            int[] output = new int[states];
+            for (int i = 0; i < states; i++) {
+                output[i] = outputs.get(i);
+            }
+
+            // Breadth-first, so the failure state of a state is complete before its children
+            int[] queue = new int[states];
+            int head = 0;
+            int tail = 0;
+            for (int child : stateTargets[ROOT]) {
+                failure[child] = ROOT;
+                queue[tail++] = child;
+            }
+            while (head < tail) {
+                int state = queue[head++];
+                for (int i = 0; i < stateLabels[state].length; i++) {
+                    char c = stateLabels[state][i];
+                    int child = stateTargets[state][i];
+                    int fallback = failure[state];
+                    int target;
+                    while (true) {
+                        int index = Arrays.binarySearch(stateLabels[fallback], c);
+                        if (index >= 0) {
+                            target = stateTargets[fallback][index];
+                            break;
+                        }
+                        if (fallback == ROOT) {
+                            target = ROOT;
+                            break;
+                        }
+                        fallback = failure[fallback];
+                    }
+                    failure[child] = target;
+                    output[child] |= output[target];
+                    queue[tail++] = child;
+                }
+            }
+            return new KeywordMatcher(stateLabels, stateTargets, failure, output, hasIncludes, hasExcludes);
+        }
+
+        private static char[] insert(char[] array, int index, char value) {
+            char[] result = new char[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+
+        private static int[] insert(int[] array, int index, int value) {
+            int[] result = new int[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+    }
+}
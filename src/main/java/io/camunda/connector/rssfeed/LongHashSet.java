@@ -0,0 +1,93 @@
+package io.camunda.connector.rssfeed;
+
+/**
+ * Set of primitive {@code long} values using open addressing with linear
+ * probing over a single {@code long[]}, so adding and looking up values
+ * never allocates (except when the table grows) and never boxes.
+ * <p>
+ * Intended for 64-bit hashes: {@code 0} marks an empty slot and is stored
+ * as {@code 1} instead, which merges the two values. Not thread-safe.
+ */
+final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] table;
+    private int mask;
+    private int size;
+
+    /**
+     * @param expectedSize the number of values the set should hold without
+     *                     growing
+     */
+    LongHashSet(int expectedSize) {
+        // Keep the load factor at or below 0.5
+        int capacity = Integer.highestOneBit(Math.max(16, Math.min(expectedSize, MAX_CAPACITY / 2) * 2 - 1)) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Add a value.
+     *
+     * @param value the value
+     * @return true if the value was not in the set before
+     */
+    boolean add(long value) {
+        long key = value != EMPTY ? value : 1L;
+        int slot = slot(key);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = key;
+        if (++size > table.length / 2) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * @param value the value
+     * @return true if the value is in the set
+     */
+    boolean contains(long value) {
+        long key = value != EMPTY ? value : 1L;
+        for (int slot = slot(key); table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (table[slot] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        // Keys are hashes, but mix again so sequential values spread as well
+        return (int) Hashing.mix(key) & mask;
+    }
+
+    private void grow() {
+        if (table.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("LongHashSet is full");
+        }
+        long[] old = table;
+        table = new long[old.length * 2];
+        mask = table.length - 1;
+        for (long key : old) {
+            if (key != EMPTY) {
+                int slot = slot(key);
+                while (table[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.rssfeed.dto.FeedMetadata;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A feed document reduced to what the connector needs, independent of the
+ * parser engine that produced it. Instances are immutable and may be shared
+ * between jobs through the feed cache.
+ *
+ * @param metadata        the feed metadata
+ * @param entries         the converted entries in document order, at most
+ *                        the entry limit passed to the parser
+ * @param truncated       whether the document contained more entries than
+ *                        the entry limit
+ * @param freshnessHint   the update interval published in the feed
+ *                        ({@code <ttl>}, {@code sy:updatePeriod}), or null
+ */
+record ParsedFeed(
+        FeedMetadata metadata,
+        List<FeedEntry> entries,
+        boolean truncated,
+        Duration freshnessHint) {
+
+    // Rough per-object overhead used when estimating the retained size
+    private static final long FEED_OVERHEAD_BYTES = 512;
+    private static final long ITEM_OVERHEAD_BYTES = 256;
+
+    ParsedFeed {
+        entries = List.copyOf(entries);
+    }
+
+    /**
+     * Approximate the retained heap size of this feed from the lengths of its
+     * text fields. Authors and category lists shared between entries (see
+     * {@link ValuePool}) are counted once.
+     */
+    long estimateBytes() {
+        long bytes = FEED_OVERHEAD_BYTES;
+        Set<Object> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FeedEntry entry : entries) {
+            bytes += ITEM_OVERHEAD_BYTES
+                    + chars(entry.title())
+                    + chars(entry.link())
+                    + chars(entry.description())
+                    + chars(entry.guid());
+            if (entry.author() != null && shared.add(entry.author())) {
+                bytes += chars(entry.author());
+            }
+            if (shared.add(entry.categories())) {
+                for (String category : entry.categories()) {
+                    if (shared.add(category)) {
+                        bytes += chars(category);
+                    }
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static long chars(String value) {
+        return value != null ? 2L * value.length() : 0L;
+    }
+}
@@ -0,0 +1,207 @@
+package io.camunda.connector.rssfeed;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Recommends when each feed should be polled next, from the cadence at which
+ * it publishes.
+ * <p>
+ * The base interval is half the median gap between the publication dates of
+ * the feed's newest entries, so a poll usually finds at most one new item,
+ * but never shorter than the update interval the feed itself publishes
+ * ({@code <ttl>}, {@code sy:updatePeriod}). Polls that find no new item
+ * (including {@code 304 Not Modified}) double the interval, and so do
+ * consecutive failures; a new item or a successful fetch resets the
+ * respective backoff. Polls made before the recommended time do not count
+ * towards the backoff. The result is bounded by the configured minimum and
+ * maximum interval.
+ * <p>
+ * State is kept per normalized feed URI for at most {@code maxFeeds} feeds,
+ * forgetting the least recently polled feed first.
+ */
+final class PollAdvisor {
+
+    private static final Duration DEFAULT_MIN_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(15);
+    private static final Duration DEFAULT_MAX_INTERVAL = Duration.ofHours(24);
+    private static final int DEFAULT_MAX_FEEDS = 50_000;
+
+    // Publication gaps are taken from this many newest entries
+    private static final int CADENCE_ENTRIES = 20;
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+
+    /**
+     * Polling state of one feed.
+     */
+    private static final class Cadence {
+
+        private ParsedFeed lastFeed;
+        private long medianGapMillis = -1;
+        private long newestItemAt = FeedEntry.NO_DATE;
+        private long firstItemHash;
+        private long nextPollAt;
+        private int idlePolls;
+        private int failures;
+    }
+
+    private final Duration minInterval;
+    private final Duration defaultInterval;
+    private final Duration maxInterval;
+    private final int maxFeeds;
+    private final Clock clock;
+    private final Map<URI, Cadence> cadences = new LinkedHashMap<>(16, 0.75f, true);
+
+    PollAdvisor(Duration minInterval, Duration defaultInterval, Duration maxInterval, int maxFeeds, Clock clock) {
+        if (minInterval.compareTo(maxInterval) > 0) {
+            throw new IllegalArgumentException("minInterval must not exceed maxInterval");
+        }
+        if (maxFeeds < 1) {
+            throw new IllegalArgumentException("maxFeeds must be at least 1");
+        }
+        this.minInterval = minInterval;
+        this.defaultInterval = defaultInterval;
+        this.maxInterval = maxInterval;
+        this.maxFeeds = maxFeeds;
+        this.clock = clock;
+    }
+
+    /**
+     * Create an advisor configured from the {@code poll.*} connector settings.
+     */
+    static PollAdvisor fromSettings() {
+        return new PollAdvisor(
+                ConnectorSettings.durationValue("poll.min-interval", DEFAULT_MIN_INTERVAL),
+                ConnectorSettings.durationValue("poll.default-interval", DEFAULT_INTERVAL),
+                ConnectorSettings.durationValue("poll.max-interval", DEFAULT_MAX_INTERVAL),
+                ConnectorSettings.intValue("poll.max-feeds", DEFAULT_MAX_FEEDS),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Record a successful poll of a feed.
+     *
+     * @param uri  the feed URI
+     * @param feed the parsed feed (possibly the cached one)
+     * @return the recommended time of the next poll, in epoch millis
+     */
+    synchronized long recordSuccess(URI uri, ParsedFeed feed) {
+        long now = clock.millis();
+        Cadence cadence = cadence(uri);
+        if (feed != cadence.lastFeed) {
+            cadence.lastFeed = feed;
+            cadence.medianGapMillis = medianGapMillis(feed, now);
+        }
+
+        // Undated feeds are compared by their first entry, which is the newest in most feeds
+        long newest = newestItemAt(feed, now);
+        long firstItemHash = firstItemHash(feed);
+        if (newest > cadence.newestItemAt
+                || (newest == FeedEntry.NO_DATE && firstItemHash != cadence.firstItemHash)) {
+            cadence.newestItemAt = newest;
+            cadence.firstItemHash = firstItemHash;
+            cadence.idlePolls = 0;
+        } else if (now >= cadence.nextPollAt) {
+            cadence.idlePolls++;
+        }
+        cadence.failures = 0;
+
+        long base = cadence.medianGapMillis >= 0 ? cadence.medianGapMillis / 2 : defaultInterval.toMillis();
+        if (feed.freshnessHint() != null) {
+            base = Math.max(base, feed.freshnessHint().toMillis());
+        }
+        cadence.nextPollAt = now + bounded(base, cadence.idlePolls);
+        return cadence.nextPollAt;
+    }
+
+    /**
+     * Record a failed poll of a feed.
+     *
+     * @param uri the feed URI
+     * @return the recommended time of the next poll, in epoch millis
+     */
+    synchronized long recordFailure(URI uri) {
+        long now = clock.millis();
+        Cadence cadence = cadence(uri);
+        if (now >= cadence.nextPollAt) {
+            cadence.failures++;
+        }
+        cadence.nextPollAt = now + bounded(minInterval.toMillis(), Math.max(cadence.failures - 1, 0));
+        return cadence.nextPollAt;
+    }
+
+    /**
+     * The recommended time of the next poll of a feed, in epoch millis, or
+     * now plus the default interval if the feed was not polled before.
+     */
+    synchronized long nextPollAt(URI uri) {
+        Cadence cadence = cadences.get(FeedUris.normalize(uri));
+        return cadence != null ? cadence.nextPollAt : clock.millis() + defaultInterval.toMillis();
+    }
+
+    synchronized int size() {
+        return cadences.size();
+    }
+
+    private Cadence cadence(URI uri) {
+        Cadence cadence = cadences.computeIfAbsent(FeedUris.normalize(uri), key -> new Cadence());
+        if (cadences.size() > maxFeeds) {
+            var eldest = cadences.entrySet().iterator();
+            eldest.next();
+            eldest.remove();
+        }
+        return cadence;
+    }
+
+    private long bounded(long baseMillis, int doublings) {
+        long interval = Math.max(baseMillis, minInterval.toMillis());
+        int exponent = Math.min(doublings, MAX_BACKOFF_EXPONENT);
+        interval = interval > maxInterval.toMillis() >> exponent ? maxInterval.toMillis() : interval << exponent;
+        return Math.min(Math.max(interval, minInterval.toMillis()), maxInterval.toMillis());
+    }
+
+    /**
+     * Median gap between the publication dates of the newest entries, or -1
+     * if the feed has fewer than two dated entries. Future dates are ignored.
+     */
+    static long medianGapMillis(ParsedFeed feed, long now) {
+        long[] dates = new long[feed.entries().size()];
+        int count = 0;
+        for (FeedEntry entry : feed.entries()) {
+            if (entry.hasDate() && entry.publishedAt() <= now) {
+                dates[count++] = entry.publishedAt();
+            }
+        }
+        if (count < 2) {
+            return -1;
+        }
+        Arrays.sort(dates, 0, count);
+
+        int first = Math.max(0, count - CADENCE_ENTRIES);
+        long[] gaps = new long[count - 1 - first];
+        for (int i = first; i < count - 1; i++) {
+            gaps[i - first] = dates[i + 1] - dates[i];
+        }
+        Arrays.sort(gaps);
+        return gaps[gaps.length / 2];
+    }
+
+    private static long firstItemHash(ParsedFeed feed) {
+        String identity = feed.entries().isEmpty() ? null : feed.entries().get(0).identity();
+        return identity != null ? Hashing.hash64(identity) : 0L;
+    }
+
+    private static long newestItemAt(ParsedFeed feed, long now) {
+        long newest = FeedEntry.NO_DATE;
+        for (FeedEntry entry : feed.entries()) {
+            if (entry.publishedAt() <= now) {
+                newest = Math.max(newest, entry.publishedAt());
+            }
+        }
+        return newest;
+    }
+}
@@ -0,0 +1,160 @@
+package io.camunda.connector.rssfeed;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry and hedging settings of feed requests, and the per-host (URI
+ * authority) response times the hedging delay is derived from.
+ * <p>
+ * Failed requests (connection errors, timeouts, {@code 408}, {@code 429} and
+ * {@code 5xx} responses) are retried up to {@code maxAttempts} times with
+ * decorrelated jitter: each delay is drawn from {@code [baseDelay, 3 x
+ * previous delay]}, capped at {@code maxDelay}, so that clients retrying
+ * against the same host spread out instead of retrying in lockstep.
+ * <p>
+ * Hedging sends a second request when the first one has not received its
+ * response headers after the given percentile of the host's recent response
+ * times, and uses whichever response arrives first. It is disabled until
+ * enough response times of the host are known.
+ */
+final class RetryPolicy {
+
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(200);
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5);
+    // Hedging is off unless a percentile is configured
+    private static final int DEFAULT_HEDGE_PERCENTILE = 0;
+    private static final int LATENCY_WINDOW = 64;
+    private static final int MIN_LATENCY_SAMPLES = 16;
+    private static final long MIN_HEDGE_DELAY_NANOS = Duration.ofMillis(10).toNanos();
+
+    /**
+     * Never retries nor hedges.
+     */
+    static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, 0);
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final int hedgePercentile;
+    private final ConcurrentMap<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxAttempts     the maximum number of attempts of a request,
+     *                        including the first
+     * @param baseDelay       the minimum delay before a retry
+     * @param maxDelay        the maximum delay before a retry
+     * @param hedgePercentile the percentile of the host's response times after
+     *                        which a hedged request is sent (1-99), or 0 to
+     *                        never hedge
+     */
+    RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, int hedgePercentile) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        if (hedgePercentile < 0 || hedgePercentile > 99) {
+            throw new IllegalArgumentException("hedgePercentile must be between 0 and 99");
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelay.toMillis();
+        this.maxDelayMillis = Math.max(maxDelay.toMillis(), baseDelayMillis);
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    /**
+     * Create a policy configured from the {@code fetch.*} connector settings.
+     */
+    static RetryPolicy fromSettings() {
+        return new RetryPolicy(
+                ConnectorSettings.intValue("fetch.max-attempts", DEFAULT_MAX_ATTEMPTS),
+                ConnectorSettings.durationValue("fetch.retry-base-delay", DEFAULT_BASE_DELAY),
+                ConnectorSettings.durationValue("fetch.retry-max-delay", DEFAULT_MAX_DELAY),
+                ConnectorSettings.intValue("fetch.hedge-percentile", DEFAULT_HEDGE_PERCENTILE));
+    }
+
+    int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Whether a response with the given status code is worth retrying.
+     */
+    static boolean isRetryable(int statusCode) {
+        return statusCode == 408 || statusCode == 429 || statusCode >= 500;
+    }
+
+    /**
+     * The delay before the next retry.
+     *
+     * @param previousDelayMillis the delay before the previous retry, or 0
+     *                            before the first retry
+     * @return the delay in milliseconds
+     */
+    long nextDelayMillis(long previousDelayMillis) {
+        long upper = Math.min(maxDelayMillis, Math.max(baseDelayMillis, previousDelayMillis) * 3);
+        if (upper <= baseDelayMillis) {
+            return baseDelayMillis;
+        }
+        return ThreadLocalRandom.current().nextLong(baseDelayMillis, upper + 1);
+    }
+
+    /**
+     * Record the time until the response headers of a request to a host
+     * arrived.
+     */
+    void recordLatency(String host, long nanos) {
+        if (hedgePercentile > 0) {
+            latencies.computeIfAbsent(key(host), k -> new LatencyWindow()).add(nanos);
+        }
+    }
+
+    /**
+     * The time after which a request to a host is hedged.
+     *
+     * @param host the URI authority
+     * @return the delay in nanoseconds, or -1 if requests to the host are not
+     *         hedged
+     */
+    long hedgeDelayNanos(String host) {
+        if (hedgePercentile == 0) {
+            return -1;
+        }
+        LatencyWindow window = latencies.get(key(host));
+        return window != null ? window.percentile(hedgePercentile) : -1;
+    }
+
+    private static String key(String host) {
+        return host != null ? host.toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * The most recent response times of a host.
+     */
+    private static final class LatencyWindow {
+
+        private final long[] samples = new long[LATENCY_WINDOW];
+        private int count;
+        private int next;
+
+        synchronized void add(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        synchronized long percentile(int percentile) {
+            if (count < MIN_LATENCY_SAMPLES) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100d * count) - 1;
+            return Math.max(MIN_HEDGE_DELAY_NANOS, sorted[Math.max(0, index)]);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.camunda.connector.rssfeed;
+
+import com.rometools.rome.feed.synd.SyndEntry;
+import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.io.FeedException;
+import com.rometools.rome.io.SyndFeedInput;
+import com.rometools.rome.io.XmlReader;
+import io.camunda.connector.rssfeed.dto.FeedMetadata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Feed parser backed by Rome's {@link SyndFeedInput}. Builds the complete
+ * document in memory and supports every feed flavour Rome understands.
+ */
+final class RomeFeedParser implements FeedParser {
+
+    @Override
+    public ParsedFeed parse(InputStream inputStream, int maxEntries) throws FeedException, IOException {
+        SyndFeed feed;
+        try (XmlReader reader = new XmlReader(inputStream)) {
+            SyndFeedInput input = new SyndFeedInput();
+            // Keep the wire feed so the RSS <ttl> can be read for cache freshness
+            input.setPreserveWireFeed(true);
+            feed = input.build(reader);
+        }
+
+        // Only convert the entries within the limit
+        int originalSize = feed.getEntries().size();
+        ValuePool pool = new ValuePool();
+        List<FeedEntry> entries = feed.getEntries().stream()
+                .limit(maxEntries)
+                .map(entry -> convertToFeedEntry(entry, pool))
+                .collect(Collectors.toList());
+
+        return new ParsedFeed(
+                extractFeedMetadata(feed),
+                entries,
+                originalSize > maxEntries,
+                FeedFreshness.fromFeed(feed));
+    }
+
+    /**
+     * Convert a Rome SyndEntry to our internal FeedEntry.
+     * Gracefully handles missing fields by setting them to null or empty lists.
+     * 
+     * @param entry the syndication entry
+     * @param pool  the values shared by the entries of the feed
+     * @return the converted feed entry
+     */
+    FeedEntry convertToFeedEntry(SyndEntry entry, ValuePool pool) {
+        Date date = entry.getPublishedDate() != null ? entry.getPublishedDate() : entry.getUpdatedDate();
+
+        List<String> categories = entry.getCategories() != null
+                ? pool.categories(entry.getCategories().stream()
+                        .filter(Objects::nonNull)
+                        .map(cat -> cat.getName())
+                        .filter(name -> name != null && !name.isEmpty())
+                        .collect(Collectors.toList()))
+                : List.of();
+
+        String description = null;
+        if (entry.getDescription() != null) {
+            description = entry.getDescription().getValue();
+        }
+
+        return new FeedEntry(
+                entry.getTitle(),
+                entry.getLink(),
+                description,
+                date != null ? date.getTime() : FeedEntry.NO_DATE,
+                pool.intern(entry.getAuthor()),
+                categories,
+                entry.getUri());
+    }
+
+    /**
+     * Extract metadata from the feed.
+     *
+     * @param feed the syndication feed
+     * @return the feed metadata
+     */
+    private FeedMetadata extractFeedMetadata(SyndFeed feed) {
+        String lastBuildDate = null;
+        if (feed.getPublishedDate() != null) {
+            lastBuildDate = FeedDates.format(feed.getPublishedDate().getTime());
+        }
+
+        return new FeedMetadata(
+                feed.getTitle(),
+                feed.getDescription(),
+                feed.getLink(),
+                lastBuildDate);
+    }
+}
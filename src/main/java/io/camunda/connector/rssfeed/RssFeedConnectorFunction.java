@@ -1,16 +1,13 @@
 package io.camunda.connector.rssfeed;
 
-import com.rometools.rome.feed.synd.SyndEntry;
-import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.FeedException;
-import com.rometools.rome.io.SyndFeedInput;
-import com.rometools.rome.io.XmlReader;
 import io.camunda.connector.api.annotation.OutboundConnector;
 import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
 import io.camunda.connector.generator.java.annotation.ElementTemplate;
 import io.camunda.connector.rssfeed.dto.FeedMetadata;
+import io.camunda.connector.rssfeed.dto.FeedStatus;
 import io.camunda.connector.rssfeed.dto.RssFeedItem;
 import io.camunda.connector.rssfeed.dto.RssFeedRequest;
 import io.camunda.connector.rssfeed.dto.RssFeedResult;
@@ -20,17 +17,28 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.net.UnknownHostException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.channels.UnresolvedAddressException;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
-import java.util.Date;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -39,7 +47,9 @@ import java.util.stream.Collectors;
  * filtering.
  */
 @OutboundConnector(name = "RssFeedConnector", inputVariables = { "feedUrl", "maxItems", "fromDate",
-        "toDate" }, type = "io.camunda:rssfeed:1")
+        "toDate", "parserEngine", "feedUrls", "requestTimeout", "stateKey", "fields", "maxDescriptionLength",
+        "stripHtml", "paginate", "cursor", "includeKeywords", "excludeKeywords", "categories" },
+        type = "io.camunda:rssfeed:1")
 @ElementTemplate(id = "io.camunda.connector.rssfeed.v1", name = "RSS Feed Connector", version = 1, description = "Fetches and parses RSS feed data from a specified URL", icon = "icon.svg", documentationRef = "https://github.com/aleksander-dytko/RSS-Feed-Connector", propertyGroups = {
         @ElementTemplate.PropertyGroup(id = "configuration", label = "Configuration")
 }, inputDataClass = RssFeedRequest.class)
@@ -49,21 +59,128 @@ public class RssFeedConnectorFunction implements OutboundConnectorFunction {
 
     // Configuration constants
     private static final int SAFETY_LIMIT_ITEMS = 500;
-    private static final Duration HTTP_CONNECT_TIMEOUT = Duration.ofSeconds(10);
-    private static final Duration HTTP_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = HttpClients.requestTimeoutFromSettings();
+
+    // Hard limits of a feed document, failing the fetch with FEED_TOO_LARGE, so memory per job stays bounded
+    private static final long MAX_RESPONSE_BYTES = ConnectorSettings.longValue("fetch.max-response-bytes",
+            10L * 1024 * 1024);
+    private static final int MAX_DOCUMENT_ENTRIES = ConnectorSettings.intValue("parser.max-entries", 10_000);
+
+    // Entries read per feed by jobs that opt into paging with a cursor; other jobs keep the safety limit
+    private static final int PAGED_LIMIT_ITEMS = Math.max(SAFETY_LIMIT_ITEMS,
+            Math.min(ConnectorSettings.intValue("pagination.max-feed-items", 5_000), MAX_DOCUMENT_ENTRIES));
+
+    // One pooled HttpClient is shared by all connector instances in the runtime
+    private static final HttpClient SHARED_HTTP_CLIENT = HttpClients.fromSettings();
+
+    // Maximum number of feeds of one multi-feed request fetched at the same time
+    private static final int BATCH_MAX_CONCURRENCY = Math.max(1,
+            ConnectorSettings.intValue("batch.max-concurrency", 16));
+
+    // Parsed feeds and their validators are shared by all connector instances in the runtime and
+    // persisted across restarts (snapshot file opened on first use)
+    private static final FeedCache SHARED_FEED_CACHE = FeedCache.fromSettings(FeedSnapshotStore.fromSettings());
+
+    // Items returned per state key, shared by all connector instances in the runtime (opened on first use)
+    private static final SeenItemStore SHARED_SEEN_ITEMS = SeenItemStore.fromSettings();
+
+    // Outbound requests are limited per host across all connector instances in the runtime
+    private static final HostLimiter SHARED_HOST_LIMITER = HostLimiter.fromSettings();
+
+    // Publish cadence and backoff per feed, shared by all connector instances in the runtime
+    private static final PollAdvisor SHARED_POLL_ADVISOR = PollAdvisor.fromSettings();
+
+    // Metrics are registered with Micrometer's global registry, which the connector runtime exports
+    private static final FeedMetrics SHARED_METRICS = FeedMetrics.global();
+
+    // Matching entries of results with more pages, shared so any connector instance can serve the next page
+    private static final CursorCache SHARED_CURSORS = CursorCache.fromSettings();
+
+    // Retries, hedging and open circuits apply to all jobs of the runtime
+    private static final RetryPolicy SHARED_RETRY_POLICY = RetryPolicy.fromSettings();
+    private static final CircuitBreaker SHARED_CIRCUIT_BREAKER = CircuitBreaker.fromSettings();
+
+    // Broken feeds are remembered across jobs so they are not downloaded again by every job
+    private static final FailureCache SHARED_FAILURES = FailureCache.fromSettings();
+
+    // Concurrent fetches of a feed are coalesced across all connector instances, inbound and outbound
+    private static final SingleFlight<URI, ParsedFeed> SHARED_IN_FLIGHT_FETCHES = new SingleFlight<>();
+
+    // Parser engines are stateless and shared
+    private static final FeedParser ROME_PARSER = new RomeFeedParser();
+    private static final FeedParser STREAMING_PARSER = new StreamingFeedParser();
+    private static final String DEFAULT_PARSER_ENGINE = ConnectorSettings.stringValue("parser.default-engine",
+            RssFeedRequest.PARSER_ENGINE_ROME);
 
     private final HttpClient httpClient;
+    private final FeedCache feedCache;
+    private final HostLimiter hostLimiter;
+    private final SeenItemStore seenItems;
+    private final PollAdvisor pollAdvisor;
+    private final FeedMetrics metrics;
+    private final CursorCache cursors;
+    private final RetryPolicy retryPolicy;
+    private final CircuitBreaker circuitBreaker;
+    private final FailureCache failures;
+    private final TransferCounter transferCounter = new TransferCounter();
+    private final SingleFlight<URI, ParsedFeed> inFlightFetches;
 
     public RssFeedConnectorFunction() {
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(HTTP_CONNECT_TIMEOUT)
-                .followRedirects(HttpClient.Redirect.NORMAL)
-                .build();
+        this(SHARED_HTTP_CLIENT, SHARED_FEED_CACHE, SHARED_HOST_LIMITER, SHARED_SEEN_ITEMS, SHARED_POLL_ADVISOR,
+                SHARED_METRICS, SHARED_CURSORS, SHARED_RETRY_POLICY, SHARED_CIRCUIT_BREAKER, SHARED_FAILURES,
+                SHARED_IN_FLIGHT_FETCHES);
     }
 
     // Constructor for testing with custom HttpClient
     RssFeedConnectorFunction(HttpClient httpClient) {
+        this(builder(httpClient));
+    }
+
+    private RssFeedConnectorFunction(Builder builder) {
+        this(builder.httpClient, builder.feedCache, builder.hostLimiter, builder.seenItems, builder.pollAdvisor,
+                builder.metrics, builder.cursors, builder.retryPolicy, builder.circuitBreaker, builder.failures,
+                builder.inFlightFetches);
+    }
+
+    // Constructor with every collaborator, tests and benchmarks set only some with builder(HttpClient)
+    RssFeedConnectorFunction(HttpClient httpClient, FeedCache feedCache, HostLimiter hostLimiter,
+            SeenItemStore seenItems, PollAdvisor pollAdvisor, FeedMetrics metrics, CursorCache cursors,
+            RetryPolicy retryPolicy, CircuitBreaker circuitBreaker, FailureCache failures,
+            SingleFlight<URI, ParsedFeed> inFlightFetches) {
         this.httpClient = httpClient;
+        this.feedCache = feedCache;
+        this.hostLimiter = hostLimiter;
+        this.seenItems = seenItems;
+        this.pollAdvisor = pollAdvisor;
+        this.metrics = metrics;
+        this.cursors = cursors;
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.failures = failures;
+        this.inFlightFetches = inFlightFetches;
+        metrics.bindFeedCache(feedCache);
+        metrics.bindFailureCache(failures);
+        metrics.bindHostLimiter(hostLimiter);
+        metrics.bindCircuitBreaker(circuitBreaker);
+    }
+
+    /**
+     * Start building a connector for tests and benchmarks. Collaborators that
+     * are not set get their own feed cache and host limiter configured from
+     * the connector settings, coalesce fetches only among themselves and share
+     * the runtime's other collaborators.
+     *
+     * @param httpClient the HTTP client to send requests with
+     */
+    static Builder builder(HttpClient httpClient) {
+        return new Builder(httpClient);
+    }
+
+    /**
+     * Transfer statistics of the responses read by this connector instance.
+     */
+    TransferCounter.Stats transferStats() {
+        return transferCounter.stats();
     }
 
     @Override
@@ -80,27 +197,126 @@ public class RssFeedConnectorFunction implements OutboundConnectorFunction {
         }
 
         LOGGER.info(
-                "Executing RSS Feed Connector [processInstanceKey={}] with URL: {}, maxItems: {}, fromDate: {}, toDate: {}",
+                "Executing RSS Feed Connector [processInstanceKey={}] with URL: {}, feedUrls: {}, maxItems: {}, fromDate: {}, toDate: {}, parserEngine: {}",
                 processInstanceKey,
                 connectorRequest.feedUrl(),
+                connectorRequest.feedUrls(),
                 connectorRequest.getMaxItemsOrDefault(),
                 connectorRequest.fromDate(),
-                connectorRequest.toDate());
+                connectorRequest.toDate(),
+                connectorRequest.parserEngine());
 
-        return executeConnector(connectorRequest);
+        return executeConnector(connectorRequest, true, Boolean.TRUE.equals(connectorRequest.paginate()));
+    }
+
+    /**
+     * Fetch the items of a request without remembering them as returned for
+     * its state key, for callers that mark items seen only once they were
+     * delivered (the inbound connector). No cursor is returned for further
+     * pages.
+     *
+     * @param request the request
+     * @return the result containing filtered feed items
+     * @throws ConnectorException if any error occurs during fetching or parsing
+     */
+    RssFeedResult pollNewItems(RssFeedRequest request) {
+        return executeConnector(request, false, false);
+    }
+
+    /**
+     * The seen-items store used for state keys.
+     */
+    SeenItemStore seenItems() {
+        return seenItems;
+    }
+
+    /**
+     * The advisor recommending when feeds should be polled next.
+     */
+    PollAdvisor pollAdvisor() {
+        return pollAdvisor;
+    }
+
+    /**
+     * The metrics recorded by this connector instance.
+     */
+    FeedMetrics metrics() {
+        return metrics;
     }
 
     /**
      * Main connector execution logic.
      * 
-     * @param request the validated request containing feed URL and filter
-     *                parameters
+     * @param request               the validated request containing feed URL
+     *                              and filter parameters
+     * @param rememberReturnedItems whether to mark the returned items as seen
+     *                              for the request's state key
+     * @param paginate              whether to read beyond the safety limit and
+     *                              return a cursor if more items match than
+     *                              fit on the page
      * @return the result containing filtered feed items
      * @throws ConnectorException if any error occurs during fetching or parsing
      */
-    private RssFeedResult executeConnector(final RssFeedRequest request) {
-        // Validate and parse URL
-        URI feedUri = validateAndParseUrl(request.feedUrl());
+    private RssFeedResult executeConnector(final RssFeedRequest request, boolean rememberReturnedItems,
+            boolean paginate) {
+        long start = System.nanoTime();
+        try {
+            RssFeedResult result = request.cursor() != null && !request.cursor().isBlank()
+                    ? readPage(request, rememberReturnedItems)
+                    : readFeeds(request, rememberReturnedItems, paginate);
+            metrics.recordExecution(null, System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            metrics.recordExecution(FeedMetrics.errorCode(e), System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Return the next page of an earlier result from the cursor cache,
+     * without fetching the feeds again.
+     *
+     * @see #executeConnector(RssFeedRequest, boolean, boolean)
+     */
+    private RssFeedResult readPage(final RssFeedRequest request, boolean rememberReturnedItems) {
+        ItemProjection projection = ItemProjection.of(request);
+        CursorCache.Page page = cursors.page(request.cursor().trim(), request.getMaxItemsOrDefault());
+        CursorCache.Snapshot snapshot = page.snapshot();
+
+        if (snapshot.stateKey() != null && rememberReturnedItems) {
+            for (FeedEntry entry : page.entries()) {
+                seenItems.markSeen(snapshot.stateKey(), entry.identity());
+            }
+        }
+
+        long convertStart = System.nanoTime();
+        List<RssFeedItem> items = page.entries().stream()
+                .map(projection::toItem)
+                .collect(Collectors.toList());
+        metrics.recordConvert(System.nanoTime() - convertStart);
+
+        LOGGER.info("Returned {} items from cursor, more pages: {}", items.size(), page.nextCursor() != null);
+        return new RssFeedResult(items, snapshot.totalItems(), items.size(), snapshot.metadata(), snapshot.feeds(),
+                snapshot.duplicatesRemoved(), snapshot.nextPollAt(), page.nextCursor());
+    }
+
+    /**
+     * Fetch, filter and merge the feeds of a request.
+     *
+     * @see #executeConnector(RssFeedRequest, boolean, boolean)
+     */
+    private RssFeedResult readFeeds(final RssFeedRequest request, boolean rememberReturnedItems, boolean paginate) {
+        // Validate and parse URLs
+        List<String> feedUrls = request.allFeedUrls();
+        if (feedUrls.isEmpty()) {
+            throw new ConnectorException(
+                    "INVALID_URL",
+                    "Feed URL is required. Set feedUrl or provide at least one URL in feedUrls.");
+        }
+        List<URI> feedUris = new ArrayList<>(feedUrls.size());
+        for (String feedUrl : feedUrls) {
+            feedUris.add(validateAndParseUrl(feedUrl));
+        }
 
         // Parse optional date filters and validate date range
         OffsetDateTime fromDate = request.parseFromDate();
@@ -114,43 +330,236 @@ public class RssFeedConnectorFunction implements OutboundConnectorFunction {
                             request.fromDate() + ", toDate: " + request.toDate());
         }
 
-        // Fetch and parse the RSS feed
-        SyndFeed feed = fetchFeed(feedUri);
+        ItemProjection projection = ItemProjection.of(request);
 
-        // Get all entries (limit in-memory for safety)
-        int originalSize = feed.getEntries().size();
-        List<SyndEntry> entries = feed.getEntries().stream()
-                .limit(SAFETY_LIMIT_ITEMS)
-                .collect(Collectors.toList());
+        String stateKey = request.stateKey() != null && !request.stateKey().isBlank() ? request.stateKey() : null;
+        FeedQuery query = new FeedQuery(parserFor(request), requestTimeoutFor(request),
+                paginate ? PAGED_LIMIT_ITEMS : SAFETY_LIMIT_ITEMS, paginate, request.getMaxItemsOrDefault(),
+                lowerBoundMillis(fromDate), upperBoundMillis(toDate), EntryFilter.of(request), stateKey);
 
-        int totalItems = entries.size();
+        // Fetch and parse every feed
+        List<FeedOutcome> outcomes = feedUris.size() == 1
+                ? List.of(fetchOutcome(feedUris.get(0), query))
+                : fetchConcurrently(feedUris, query);
 
-        // Warn if truncation occurred
-        if (originalSize > SAFETY_LIMIT_ITEMS) {
-            LOGGER.warn("Feed contains {} items, but only {} items will be processed due to safety limit. " +
-                    "Consider filtering at the source or adjusting SAFETY_LIMIT_ITEMS.",
-                    originalSize, SAFETY_LIMIT_ITEMS);
-        }
-
-        LOGGER.debug("Fetched {} items from feed: {}", totalItems, feed.getTitle());
-
-        // Convert to our DTO objects and apply filtering
-        List<RssFeedItem> items = entries.stream()
-                .map(this::convertToRssFeedItem)
-                .filter(item -> matchesDateFilter(item, fromDate, toDate))
-                .sorted(Comparator.comparing(
-                        RssFeedItem::publishedDate,
-                        Comparator.nullsLast(Comparator.reverseOrder())))
-                .limit(request.getMaxItemsOrDefault())
+        // Select the newest entries of every feed in request order, so the first occurrence of a
+        // repeated entry is the one that is kept
+        int fetchedEntries = 0;
+        for (FeedOutcome outcome : outcomes) {
+            fetchedEntries += outcome.feed() != null ? outcome.feed().entries().size() : 0;
+        }
+        EntryDeduplicator deduplicator = new EntryDeduplicator(fetchedEntries);
+
+        int totalItems = 0;
+        FeedMetadata metadata = null;
+        ConnectorException firstError = null;
+        List<List<FeedEntry>> selections = new ArrayList<>(outcomes.size());
+        List<List<FeedEntry>> matching = paginate ? new ArrayList<>(outcomes.size()) : null;
+        int matchingItems = 0;
+        List<FeedStatus> statuses = new ArrayList<>(outcomes.size());
+        long nextPollAt = Long.MAX_VALUE;
+        for (int i = 0; i < outcomes.size(); i++) {
+            FeedOutcome outcome = outcomes.get(i);
+            if (outcome.error() != null) {
+                long feedNextPollAt = pollAdvisor.recordFailure(feedUris.get(i));
+                nextPollAt = Math.min(nextPollAt, feedNextPollAt);
+                firstError = firstError != null ? firstError : outcome.error();
+                statuses.add(FeedStatus.error(feedUrls.get(i), outcome.error().getErrorCode(),
+                        outcome.error().getMessage(), FeedDates.format(feedNextPollAt)));
+                continue;
+            }
+            long feedNextPollAt = pollAdvisor.recordSuccess(feedUris.get(i), outcome.feed());
+            nextPollAt = Math.min(nextPollAt, feedNextPollAt);
+            FeedSelection selection = selectNewest(outcome.feed(), query, deduplicator);
+            totalItems += selection.totalItems();
+            metadata = metadata != null ? metadata : selection.metadata();
+            selections.add(selection.newest());
+            if (paginate) {
+                matching.add(selection.matching());
+                matchingItems += selection.matching().size();
+            }
+            statuses.add(FeedStatus.ok(feedUrls.get(i), selection.totalItems(), selection.metadata(),
+                    FeedDates.format(feedNextPollAt)));
+        }
+
+        // Only fail the job if no feed could be read at all
+        if (selections.isEmpty()) {
+            throw firstError;
+        }
+
+        List<FeedEntry> newest = FeedMerge.newest(selections, query.maxItems());
+        String nextPollTime = FeedDates.format(nextPollAt);
+
+        // Keep the other matching entries for the next pages
+        String nextCursor = null;
+        if (paginate && matchingItems > newest.size()) {
+            nextCursor = cursors.open(new CursorCache.Snapshot(matching, totalItems, metadata, statuses,
+                    deduplicator.duplicates(), nextPollTime, stateKey), newest.size());
+        }
+
+        // Remember the returned items so the next run with this state key skips them
+        if (stateKey != null && rememberReturnedItems) {
+            for (FeedEntry entry : newest) {
+                seenItems.markSeen(stateKey, entry.identity());
+            }
+        }
+
+        long convertStart = System.nanoTime();
+        List<RssFeedItem> items = newest.stream()
+                .map(projection::toItem)
                 .collect(Collectors.toList());
+        metrics.recordConvert(System.nanoTime() - convertStart);
 
         int filteredItems = items.size();
-        LOGGER.info("Parsed {} items, filtered to {} items", totalItems, filteredItems);
+        LOGGER.info("Parsed {} items from {} feed(s), removed {} duplicates, filtered to {} items", totalItems,
+                feedUris.size(), deduplicator.duplicates(), filteredItems);
+
+        return new RssFeedResult(items, totalItems, filteredItems, metadata, statuses, deduplicator.duplicates(),
+                nextPollTime, nextCursor);
+    }
+
+    /**
+     * Fetch several feeds concurrently on virtual threads, with at most
+     * {@link #BATCH_MAX_CONCURRENCY} fetches in flight. Failures are captured
+     * per feed instead of failing the whole batch.
+     *
+     * @param uris  the feed URIs
+     * @param query the parser and timeout settings
+     * @return one outcome per URI, in the same order
+     */
+    private List<FeedOutcome> fetchConcurrently(List<URI> uris, FeedQuery query) {
+        Semaphore inFlight = new Semaphore(BATCH_MAX_CONCURRENCY);
+        List<Future<ParsedFeed>> futures = new ArrayList<>(uris.size());
+        List<FeedOutcome> outcomes = new ArrayList<>(uris.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (URI uri : uris) {
+                futures.add(executor.submit(() -> {
+                    inFlight.acquire();
+                    try {
+                        return fetchFeed(uri, query);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    outcomes.add(new FeedOutcome(futures.get(i).get(), null));
+                } catch (ExecutionException e) {
+                    outcomes.add(new FeedOutcome(null, asConnectorException(uris.get(i), e.getCause())));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectorException(
+                    "FETCH_ERROR",
+                    "Request was interrupted while fetching RSS feeds: " + e.getMessage(),
+                    e);
+        }
+        return outcomes;
+    }
+
+    /**
+     * Fetch a single feed, capturing its failure like
+     * {@link #fetchConcurrently(List, FeedQuery)} does, so it is recorded for
+     * the feed before the job fails.
+     */
+    private FeedOutcome fetchOutcome(URI uri, FeedQuery query) {
+        try {
+            return new FeedOutcome(fetchFeed(uri, query), null);
+        } catch (ConnectorException e) {
+            return new FeedOutcome(null, e);
+        }
+    }
+
+    private static ConnectorException asConnectorException(URI uri, Throwable cause) {
+        if (cause instanceof ConnectorException connectorException) {
+            return connectorException;
+        }
+        LOGGER.error("Unexpected error while fetching RSS feed from URI: {}", uri, cause);
+        return new ConnectorException(
+                "FETCH_ERROR",
+                "Failed to fetch RSS feed: " + cause.getMessage(),
+                cause);
+    }
+
+    /**
+     * Select the newest entries of a parsed feed that match the date filter
+     * and were not seen before in this request.
+     *
+     * @param feed         the parsed feed
+     * @param query        the filter settings
+     * @param deduplicator the entries of the request seen so far
+     * @return the feed's metadata, item count, newest matching entries and,
+     *         for a paged query, all matching entries
+     * @throws ConnectorException if the seen-items store cannot be opened
+     */
+    private FeedSelection selectNewest(ParsedFeed feed, FeedQuery query, EntryDeduplicator deduplicator) {
+        // A feed read for a paged job may hold more entries than this job processes
+        List<FeedEntry> entries = feed.entries().size() > query.itemLimit()
+                ? feed.entries().subList(0, query.itemLimit())
+                : feed.entries();
+
+        // Warn if truncation occurred
+        if (feed.truncated() || entries.size() < feed.entries().size()) {
+            LOGGER.warn("Feed contains more than {} items, only the first {} items will be processed due to " +
+                    "safety limit. Consider filtering at the source, paging with paginate or raising " +
+                    "pagination.max-feed-items.",
+                    query.itemLimit(), query.itemLimit());
+        }
+
+        LOGGER.debug("Fetched {} items from feed: {}", entries.size(), feed.metadata().title());
 
-        // Extract feed metadata
-        FeedMetadata metadata = extractFeedMetadata(feed);
+        // Drop repeated entries, apply the date, category and keyword filters and skip items returned before for
+        // the state key, then keep only the newest maxItems entries
+        long start = System.nanoTime();
+        TopKSelector<FeedEntry> newest = new TopKSelector<>(query.maxItems());
+        List<FeedEntry> matching = query.paginate() ? new ArrayList<>() : null;
+        for (FeedEntry entry : entries) {
+            if (deduplicator.firstOccurrence(entry)
+                    && matchesDateFilter(entry, query.fromMillis(), query.toMillis())
+                    && query.filter().matches(entry)
+                    && (query.stateKey() == null || !seenItems.seen(query.stateKey(), entry.identity()))) {
+                newest.offer(entry, entry.publishedAt());
+                if (matching != null) {
+                    matching.add(entry);
+                }
+            }
+        }
+        List<FeedEntry> selected = newest.toSortedList();
+        metrics.recordSelect(System.nanoTime() - start);
+        return new FeedSelection(feed.metadata(), entries.size(), selected, matching);
+    }
 
-        return new RssFeedResult(items, totalItems, filteredItems, metadata);
+    /**
+     * Select the parser engine for a request.
+     *
+     * @param request the request
+     * @return the requested parser, or the configured default parser
+     */
+    private FeedParser parserFor(RssFeedRequest request) {
+        String engine = request.parserEngine() != null ? request.parserEngine() : DEFAULT_PARSER_ENGINE;
+        return RssFeedRequest.PARSER_ENGINE_STREAMING.equalsIgnoreCase(engine) ? STREAMING_PARSER : ROME_PARSER;
+    }
+
+    /**
+     * The name of a parser engine, for metrics.
+     */
+    private static String engineName(FeedParser parser) {
+        return parser == STREAMING_PARSER ? RssFeedRequest.PARSER_ENGINE_STREAMING : RssFeedRequest.PARSER_ENGINE_ROME;
+    }
+
+    /**
+     * Get the request timeout for a request.
+     *
+     * @param request the request
+     * @return the request's timeout, or the configured default timeout
+     */
+    private Duration requestTimeoutFor(RssFeedRequest request) {
+        return request.requestTimeout() != null ? Duration.ofSeconds(request.requestTimeout())
+                : DEFAULT_REQUEST_TIMEOUT;
     }
 
     /**
@@ -183,53 +592,191 @@ public class RssFeedConnectorFunction implements OutboundConnectorFunction {
 
     /**
      * Fetch and parse the RSS feed from the given URI using HttpClient.
+     * A feed that is still fresh in the feed cache is returned without any
+     * request. Otherwise, if the feed was fetched before and the server
+     * returned validators, a conditional GET is sent and the previously parsed
+     * feed is reused when the server answers with 304 Not Modified.
+     * A feed that failed recently with a lasting error (see
+     * {@link FailureCache}) fails again without a request.
+     * Concurrent calls for the same feed are coalesced into a single request.
      *
-     * @param uri the feed URI
+     * A cached feed that was cut off at fewer entries than the query reads is
+     * fetched again without validators; a cached feed holding more entries
+     * serves the query.
+     *
+     * @param uri   the feed URI
+     * @param query the parser engine, request timeout and entry limit to use
      * @return the parsed feed
      * @throws ConnectorException if fetching or parsing fails
      */
-    private SyndFeed fetchFeed(URI uri) {
+    private ParsedFeed fetchFeed(URI uri, FeedQuery query) {
+        FeedParser parser = query.parser();
+        Duration requestTimeout = query.requestTimeout();
+        int itemLimit = query.itemLimit();
+
         // Handle file:// URLs for testing purposes
         if ("file".equalsIgnoreCase(uri.getScheme())) {
-            return fetchFeedFromFile(uri);
+            return fetchFeedFromFile(uri, parser, itemLimit);
+        }
+
+        FeedCache.Entry fresh = feedCache.getFresh(uri);
+        if (fresh != null && covers(fresh.feed(), itemLimit)) {
+            LOGGER.debug("Using fresh cached feed: {}", uri);
+            return fresh.feed();
+        }
+
+        ConnectorException failure = failures.get(uri);
+        if (failure != null) {
+            LOGGER.debug("Replaying remembered failure of feed: {}", uri);
+            throw failure;
+        }
+
+        // Concurrent jobs for the same feed share one fetch and apply their own filters to its entries
+        ParsedFeed feed = inFlightFetches.execute(FeedUris.normalize(uri),
+                () -> fetchFeedFromServer(uri, parser, requestTimeout, itemLimit));
+        if (!covers(feed, itemLimit)) {
+            // Joined the fetch of a job reading fewer entries
+            feed = fetchFeedFromServer(uri, parser, requestTimeout, itemLimit);
+        }
+        return feed;
+    }
+
+    /**
+     * Whether a parsed feed holds every entry a job reading up to
+     * {@code itemLimit} entries would read.
+     */
+    private static boolean covers(ParsedFeed feed, int itemLimit) {
+        return !feed.truncated() || feed.entries().size() >= itemLimit;
+    }
+
+    /**
+     * Fetch and parse the RSS feed from the server, revalidating the cached
+     * copy if there is one. A changed feed is read up to as many entries as
+     * the cached copy held, so a job reading fewer entries does not replace
+     * the feed read for a paged job with a shorter one.
+     *
+     * @param uri            the feed URI
+     * @param parser         the parser engine to use
+     * @param requestTimeout the request timeout
+     * @param itemLimit      the maximum number of entries to read
+     * @return the parsed feed
+     * @throws ConnectorException if fetching or parsing fails
+     */
+    private ParsedFeed fetchFeedFromServer(URI uri, FeedParser parser, Duration requestTimeout, int itemLimit) {
+        FeedCache.Entry cached = feedCache.get(uri);
+        if (cached != null && !covers(cached.feed(), itemLimit)) {
+            cached = null;
+        }
+        int parseLimit = cached != null && cached.feed().entries().size() > itemLimit ? PAGED_LIMIT_ITEMS : itemLimit;
+        long start = System.nanoTime();
+        try {
+            ParsedFeed feed = requestFeed(uri, cached, parser, requestTimeout, parseLimit);
+            boolean notModified = cached != null && feed == cached.feed();
+            metrics.recordFetch(uri, notModified ? FeedMetrics.OUTCOME_NOT_MODIFIED : FeedMetrics.OUTCOME_SUCCESS,
+                    null, System.nanoTime() - start);
+            return feed;
+        } catch (RuntimeException e) {
+            metrics.recordFetch(uri, FeedMetrics.OUTCOME_ERROR, FeedMetrics.errorCode(e), System.nanoTime() - start);
+            throw e;
         }
+    }
+
+    /**
+     * Send the request for a feed, conditional if a cached copy with
+     * validators exists, and parse the response.
+     *
+     * @param uri            the feed URI
+     * @param cached         the cached copy of the feed, or null
+     * @param parser         the parser engine to use
+     * @param requestTimeout the request timeout
+     * @param itemLimit      the maximum number of entries to read
+     * @return the parsed feed, or the cached feed if it was not modified
+     * @throws ConnectorException if fetching or parsing fails
+     */
+    private ParsedFeed requestFeed(URI uri, FeedCache.Entry cached, FeedParser parser, Duration requestTimeout,
+            int itemLimit) {
+        // Fail fast while the host is down instead of waiting for a permit and the timeout
+        String host = FeedUris.normalize(uri).getRawAuthority();
+        circuitBreaker.checkClosed(host);
 
+        // Hold the host's permit until the response body has been read; retries replace it
+        AtomicReference<HostLimiter.Permit> permit = new AtomicReference<>(acquirePermit(uri));
         try {
-            HttpRequest request = HttpRequest.newBuilder()
+            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
                     .uri(uri)
-                    .timeout(HTTP_REQUEST_TIMEOUT)
                     .header("User-Agent", "Camunda-RSS-Feed-Connector/1.0")
-                    .GET()
-                    .build();
+                    .header("Accept-Encoding", ContentEncoding.ACCEPT_ENCODING)
+                    .GET();
+            if (cached != null && cached.etag() != null) {
+                requestBuilder.header("If-None-Match", cached.etag());
+            }
+            if (cached != null && cached.lastModified() != null) {
+                requestBuilder.header("If-Modified-Since", cached.lastModified());
+            }
 
-            HttpResponse<InputStream> response = httpClient.send(request,
-                    HttpResponse.BodyHandlers.ofInputStream());
+            HttpResponse<InputStream> response = sendWithRetries(uri, host, requestBuilder, requestTimeout, permit);
+            try (InputStream inputStream = response.body()) {
+                int statusCode = response.statusCode();
 
-            // Check for successful response
-            int statusCode = response.statusCode();
-            if (statusCode < 200 || statusCode >= 300) {
-                throw new ConnectorException(
-                        "FETCH_ERROR",
-                        "Failed to fetch RSS feed. HTTP status code: " + statusCode);
-            }
+                // Feed unchanged since the last fetch, reuse the parsed feed
+                if (statusCode == 304 && cached != null) {
+                    LOGGER.debug("Feed not modified since last fetch, using cached feed: {}", uri);
+                    feedCache.put(uri, cached.feed(),
+                            response.headers().firstValue("ETag").orElse(cached.etag()),
+                            response.headers().firstValue("Last-Modified").orElse(cached.lastModified()),
+                            FeedFreshness.of(response.headers(), cached.feed(), System.currentTimeMillis()));
+                    return cached.feed();
+                }
+
+                // Check for successful response
+                if (statusCode < 200 || statusCode >= 300) {
+                    ConnectorException error = new ConnectorException(
+                            "FETCH_ERROR",
+                            "Failed to fetch RSS feed. HTTP status code: " + statusCode);
+                    FailureCache.Kind kind = switch (statusCode) {
+                        case 404 -> FailureCache.Kind.NOT_FOUND;
+                        case 410 -> FailureCache.Kind.GONE;
+                        case 429, 503 -> FailureCache.Kind.THROTTLED;
+                        default -> null;
+                    };
+                    if (kind != null) {
+                        failures.put(uri, kind, FeedFreshness.retryAfter(response.headers(),
+                                System.currentTimeMillis()), error);
+                    }
+                    throw error;
+                }
 
-            try (InputStream inputStream = response.body();
-                    XmlReader reader = new XmlReader(inputStream)) {
-                SyndFeedInput input = new SyndFeedInput();
-                return input.build(reader);
+                ParsedFeed feed = parseBody(uri, inputStream, response, parser, itemLimit);
+
+                feedCache.put(uri, feed,
+                        response.headers().firstValue("ETag").orElse(null),
+                        response.headers().firstValue("Last-Modified").orElse(null),
+                        FeedFreshness.of(response.headers(), feed, System.currentTimeMillis()));
+                return feed;
             }
         } catch (FeedException e) {
             LOGGER.error("Failed to parse RSS feed from URI: {}", uri, e);
-            throw new ConnectorException(
+            ConnectorException error = new ConnectorException(
                     "PARSE_ERROR",
                     "Failed to parse RSS feed. The content may not be valid RSS/Atom XML: " + e.getMessage(),
                     e);
+            failures.put(uri, FailureCache.Kind.PARSE_ERROR, null, error);
+            throw error;
         } catch (IOException e) {
             LOGGER.error("Failed to fetch RSS feed from URI: {}", uri, e);
-            throw new ConnectorException(
+            ConnectorException error = new ConnectorException(
                     "FETCH_ERROR",
                     "Failed to fetch RSS feed from URI. Network or server error: " + e.getMessage(),
                     e);
+            if (isUnresolvedHost(e)) {
+                failures.put(uri, FailureCache.Kind.DNS_ERROR, null, error);
+            }
+            throw error;
+        } catch (ConnectorException e) {
+            if ("FEED_TOO_LARGE".equals(e.getErrorCode())) {
+                failures.put(uri, FailureCache.Kind.PARSE_ERROR, null, e);
+            }
+            throw e;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             LOGGER.error("Request interrupted while fetching RSS feed from URI: {}", uri, e);
@@ -237,21 +784,339 @@ public class RssFeedConnectorFunction implements OutboundConnectorFunction {
                     "FETCH_ERROR",
                     "Request was interrupted while fetching RSS feed: " + e.getMessage(),
                     e);
+        } finally {
+            permit.get().close();
+        }
+    }
+
+    /**
+     * Whether a request failed because the host name could not be resolved.
+     */
+    private static boolean isUnresolvedHost(IOException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UnknownHostException || cause instanceof UnresolvedAddressException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Send a request, retrying failed attempts after a jittered delay while
+     * the request timeout leaves time for another attempt. All attempts share
+     * the request timeout, so retries never make a job wait longer than a
+     * single request could. Every retry waits for a new permit of the host
+     * limiter, so retries count against the host's request rate, and gives
+     * the host's slot back while it waits.
+     *
+     * @param uri            the feed URI
+     * @param host           the URI authority
+     * @param request        the request
+     * @param requestTimeout the request timeout of all attempts together
+     * @param permit         the permit of the current attempt, replaced by the
+     *                       permit of every retry
+     * @return the response of the last attempt, which may be an error response
+     * @throws IOException if the last attempt failed
+     */
+    private HttpResponse<InputStream> sendWithRetries(URI uri, String host, HttpRequest.Builder request,
+            Duration requestTimeout, AtomicReference<HostLimiter.Permit> permit)
+            throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + requestTimeout.toNanos();
+        long delayMillis = 0;
+        for (int attempt = 1; ; attempt++) {
+            long remainingNanos = Math.max(1, deadline - System.nanoTime());
+            HttpResponse<InputStream> response;
+            try {
+                response = send(uri, host, request.timeout(Duration.ofNanos(remainingNanos)).build());
+            } catch (IOException e) {
+                circuitBreaker.recordFailure(host);
+                delayMillis = retryPolicy.nextDelayMillis(delayMillis);
+                if (!mayRetry(attempt, deadline, delayMillis, host)) {
+                    throw e;
+                }
+                LOGGER.debug("Attempt {} to fetch RSS feed from URI {} failed, retrying in {} ms: {}", attempt, uri,
+                        delayMillis, e.toString());
+                retryAfter(uri, delayMillis, permit);
+                continue;
+            }
+
+            int statusCode = response.statusCode();
+            // Throttling and request timeouts do not mean the host is down
+            if (statusCode >= 500) {
+                circuitBreaker.recordFailure(host);
+            } else {
+                circuitBreaker.recordSuccess(host);
+            }
+            if (!RetryPolicy.isRetryable(statusCode)) {
+                return response;
+            }
+            delayMillis = retryPolicy.nextDelayMillis(delayMillis);
+            // Never retry before the server asked for
+            Duration retryAfter = FeedFreshness.retryAfter(response.headers(), System.currentTimeMillis());
+            if (retryAfter != null) {
+                delayMillis = Math.max(delayMillis, retryAfter.toMillis());
+            }
+            if (!mayRetry(attempt, deadline, delayMillis, host)) {
+                return response;
+            }
+            LOGGER.debug("Attempt {} to fetch RSS feed from URI {} failed with HTTP status {}, retrying in {} ms",
+                    attempt, uri, statusCode, delayMillis);
+            response.body().close();
+            retryAfter(uri, delayMillis, permit);
+        }
+    }
+
+    private boolean mayRetry(int attempt, long deadline, long delayMillis, String host) {
+        return attempt < retryPolicy.maxAttempts()
+                && System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis) < deadline
+                && circuitBreaker.allowRequest(host);
+    }
+
+    private void retryAfter(URI uri, long delayMillis, AtomicReference<HostLimiter.Permit> permit)
+            throws InterruptedException {
+        metrics.recordRetry(uri);
+        permit.get().close();
+        Thread.sleep(delayMillis);
+        permit.set(acquirePermit(uri));
+    }
+
+    /**
+     * Send a request, hedging it if the host's response times are known, and
+     * record the time until the response headers arrived.
+     */
+    private HttpResponse<InputStream> send(URI uri, String host, HttpRequest request)
+            throws IOException, InterruptedException {
+        long hedgeDelayNanos = retryPolicy.hedgeDelayNanos(host);
+        long sentAt = System.nanoTime();
+        HttpResponse<InputStream> response = hedgeDelayNanos < 0
+                ? httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream())
+                : sendHedged(uri, host, request, hedgeDelayNanos);
+        long nanos = System.nanoTime() - sentAt;
+        metrics.recordHeaders(uri, nanos);
+        retryPolicy.recordLatency(host, nanos);
+        return response;
+    }
+
+    /**
+     * Send a request and, if its response headers have not arrived after the
+     * hedge delay, the same request again, returning the response that
+     * arrives first. The second request is only sent if the host limiter
+     * grants a permit right away, and it must complete within the timeout of
+     * the first. The other request is cancelled and its response discarded.
+     */
+    private HttpResponse<InputStream> sendHedged(URI uri, String host, HttpRequest request, long hedgeDelayNanos)
+            throws IOException, InterruptedException {
+        long sentAt = System.nanoTime();
+        CompletableFuture<HttpResponse<InputStream>> primary = httpClient.sendAsync(request,
+                HttpResponse.BodyHandlers.ofInputStream());
+        CompletableFuture<HttpResponse<InputStream>> hedge = null;
+        HostLimiter.Permit hedgePermit = null;
+        HttpResponse<InputStream> response = null;
+        try {
+            try {
+                response = primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+                return response;
+            } catch (TimeoutException e) {
+                // Slower than usual for this host
+            }
+
+            Duration remaining = request.timeout()
+                    .map(timeout -> timeout.minusNanos(System.nanoTime() - sentAt))
+                    .orElse(null);
+            if (remaining == null || !remaining.isNegative() && !remaining.isZero()) {
+                hedgePermit = hostLimiter.tryAcquire(host);
+            }
+            if (hedgePermit == null) {
+                response = primary.get();
+                return response;
+            }
+            metrics.recordHedge(uri);
+            HttpRequest hedgeRequest = remaining != null
+                    ? HttpRequest.newBuilder(request, (name, value) -> true).timeout(remaining).build()
+                    : request;
+            hedge = httpClient.sendAsync(hedgeRequest, HttpResponse.BodyHandlers.ofInputStream());
+            response = firstResponse(primary, hedge).get();
+            return response;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } finally {
+            discardUnless(primary, response);
+            if (hedge != null) {
+                discardUnless(hedge, response);
+            }
+            if (hedgePermit != null) {
+                hedgePermit.close();
+            }
+        }
+    }
+
+    /**
+     * The first of two responses to arrive, or the failure of the later one
+     * if both requests fail.
+     */
+    private static CompletableFuture<HttpResponse<InputStream>> firstResponse(
+            CompletableFuture<HttpResponse<InputStream>> first, CompletableFuture<HttpResponse<InputStream>> second) {
+        CompletableFuture<HttpResponse<InputStream>> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        BiConsumer<HttpResponse<InputStream>, Throwable> onComplete = (response, failure) -> {
+            if (failure == null) {
+                result.complete(response);
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(failure instanceof CompletionException ? failure.getCause() : failure);
+            }
+        };
+        first.whenComplete(onComplete);
+        second.whenComplete(onComplete);
+        return result;
+    }
+
+    /**
+     * Cancel a request unless it produced the kept response, closing its
+     * response body if it arrives anyway so the connection is released.
+     */
+    private static void discardUnless(CompletableFuture<HttpResponse<InputStream>> request,
+            HttpResponse<InputStream> kept) {
+        request.cancel(true);
+        request.thenAccept(response -> {
+            if (response != kept) {
+                try {
+                    response.body().close();
+                } catch (IOException e) {
+                    LOGGER.debug("Failed to discard response body of {}", response.uri(), e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Parse a response body, decompressing it on the fly according to its
+     * {@code Content-Encoding}, counting transferred and decoded bytes and
+     * recording the download and parse time.
+     *
+     * @param uri      the feed URI
+     * @param body     the raw response body
+     * @param response the response the body belongs to
+     * @param parser    the parser engine to use
+     * @param itemLimit the maximum number of entries to read
+     * @return the parsed feed
+     */
+    private ParsedFeed parseBody(URI uri, InputStream body, HttpResponse<?> response, FeedParser parser,
+            int itemLimit) throws FeedException, IOException {
+        // Refuse documents announced larger than the limit before reading them
+        long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        if (contentLength > MAX_RESPONSE_BYTES) {
+            throw feedTooLarge(uri, "The feed response of " + contentLength
+                    + " bytes is larger than the maximum of " + MAX_RESPONSE_BYTES + " bytes", null);
+        }
+
+        CountingInputStream transferred = new CountingInputStream(body);
+        InputStream decoder = ContentEncoding.decode(transferred,
+                response.headers().firstValue("Content-Encoding").orElse(null));
+        CountingInputStream decoded = new CountingInputStream(decoder);
+        long start = System.nanoTime();
+        ParsedFeed feed = null;
+        try (decoded) {
+            feed = parseWithinLimits(uri, decoded, parser, itemLimit);
+            return feed;
+        } finally {
+            // Waiting for the network happens in reads of the raw body, everything else is parsing
+            long readNanos = System.nanoTime() - start;
+            metrics.recordRead(uri, engineName(parser), transferred.readNanos(),
+                    readNanos - transferred.readNanos(), transferred.count(), feed);
+            transferCounter.record(decoder != transferred, transferred.count(), decoded.count());
+            LOGGER.debug("Read {} bytes of feed content ({} bytes transferred) from: {}", decoded.count(),
+                    transferred.count(), response.uri());
+        }
+    }
+
+    /**
+     * Parse a feed document, aborting as soon as it exceeds the maximum
+     * size or number of entries.
+     *
+     * @param uri      the feed URI
+     * @param document the decoded document
+     * @param parser    the parser engine to use
+     * @param itemLimit the maximum number of entries to read
+     * @return the parsed feed
+     * @throws ConnectorException with code {@code FEED_TOO_LARGE} if a limit
+     *                            is exceeded
+     */
+    private ParsedFeed parseWithinLimits(URI uri, InputStream document, FeedParser parser, int itemLimit)
+            throws FeedException, IOException {
+        FeedSizeGuard guard = new FeedSizeGuard(document, MAX_RESPONSE_BYTES, MAX_DOCUMENT_ENTRIES);
+        try {
+            return parser.parse(guard, itemLimit);
+        } catch (FeedException | IOException e) {
+            // Parsers wrap the guard's exception, so ask the guard
+            if (guard.violation() != null) {
+                throw feedTooLarge(uri, guard.violation(), e);
+            }
+            throw e;
+        }
+    }
+
+    private static ConnectorException feedTooLarge(URI uri, String message, Throwable cause) {
+        LOGGER.warn("Aborted reading RSS feed from URI: {}: {}", uri, message);
+        return new ConnectorException(
+                "FEED_TOO_LARGE",
+                message + ". The feed was not processed to protect the connector's memory.",
+                cause);
+    }
+
+    /**
+     * Wait for a permit to send a request to the feed's host.
+     *
+     * @param uri the feed URI
+     * @return the granted permit, to be closed once the response has been read
+     * @throws ConnectorException if no permit was granted within the host
+     *                            limiter's max wait
+     */
+    private HostLimiter.Permit acquirePermit(URI uri) {
+        CompletableFuture<HostLimiter.Permit> permit = hostLimiter.acquire(FeedUris.normalize(uri).getRawAuthority());
+        try {
+            return permit.get();
+        } catch (ExecutionException e) {
+            throw new ConnectorException(
+                    "RATE_LIMITED",
+                    "No connection slot to host " + uri.getHost() + " became available within "
+                            + hostLimiter.maxWait() + ". Too many concurrent requests to this host.",
+                    e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // Give back a permit that was granted while we were interrupted
+            if (!permit.cancel(false) && !permit.isCompletedExceptionally()) {
+                permit.join().close();
+            }
+            throw new ConnectorException(
+                    "FETCH_ERROR",
+                    "Request was interrupted while waiting to fetch RSS feed: " + e.getMessage(),
+                    e);
         }
     }
 
     /**
      * Fetch and parse RSS feed from a file URI (for testing purposes).
      *
-     * @param uri the file URI
+     * @param uri       the file URI
+     * @param parser    the parser engine to use
+     * @param itemLimit the maximum number of entries to read
      * @return the parsed feed
      * @throws ConnectorException if fetching or parsing fails
      */
-    private SyndFeed fetchFeedFromFile(URI uri) {
-        try (InputStream inputStream = uri.toURL().openStream();
-                XmlReader reader = new XmlReader(inputStream)) {
-            SyndFeedInput input = new SyndFeedInput();
-            return input.build(reader);
+    private ParsedFeed fetchFeedFromFile(URI uri, FeedParser parser, int itemLimit) {
+        try (CountingInputStream inputStream = new CountingInputStream(uri.toURL().openStream())) {
+            long start = System.nanoTime();
+            ParsedFeed feed = null;
+            try {
+                feed = parseWithinLimits(uri, inputStream, parser, itemLimit);
+                return feed;
+            } finally {
+                metrics.recordRead(uri, engineName(parser), 0, System.nanoTime() - start, inputStream.count(), feed);
+            }
         } catch (FeedException e) {
             LOGGER.error("Failed to parse RSS feed from file URI: {}", uri, e);
             throw new ConnectorException(
@@ -268,112 +1133,134 @@ public class RssFeedConnectorFunction implements OutboundConnectorFunction {
     }
 
     /**
-     * Convert a Rome SyndEntry to our RssFeedItem DTO.
-     * Gracefully handles missing fields by setting them to null or empty lists.
+     * Check if an entry matches the date filter criteria.
      * 
-     * @param entry the syndication entry
-     * @return the converted feed item
+     * @param entry    the feed entry
+     * @param fromMillis the minimum date (inclusive) in epoch milliseconds, or
+     *                 {@link Long#MIN_VALUE} for no minimum
+     * @param toMillis the maximum date (inclusive) in epoch milliseconds, or
+     *                 {@link Long#MAX_VALUE} for no maximum
+     * @return true if the entry matches the filter
      */
-    private RssFeedItem convertToRssFeedItem(SyndEntry entry) {
-        String publishedDate = null;
-        if (entry.getPublishedDate() != null) {
-            publishedDate = formatDate(entry.getPublishedDate());
-        } else if (entry.getUpdatedDate() != null) {
-            publishedDate = formatDate(entry.getUpdatedDate());
-        }
-
-        List<String> categories = entry.getCategories() != null
-                ? entry.getCategories().stream()
-                        .filter(Objects::nonNull)
-                        .map(cat -> cat.getName())
-                        .filter(name -> name != null && !name.isEmpty())
-                        .collect(Collectors.toList())
-                : List.of();
-
-        String description = null;
-        if (entry.getDescription() != null) {
-            description = entry.getDescription().getValue();
+    static boolean matchesDateFilter(FeedEntry entry, long fromMillis, long toMillis) {
+        // If item has no published date, include it (can be filtered by user later)
+        if (!entry.hasDate()) {
+            return true;
         }
-
-        return new RssFeedItem(
-                entry.getTitle(),
-                entry.getLink(),
-                description,
-                publishedDate,
-                entry.getAuthor(),
-                categories,
-                entry.getUri());
+        return entry.publishedAt() >= fromMillis && entry.publishedAt() <= toMillis;
     }
 
     /**
-     * Extract metadata from the feed.
-     *
-     * @param feed the syndication feed
-     * @return the feed metadata
+     * Lower filter bound in epoch milliseconds. Entry dates have millisecond
+     * precision, so a bound with a sub-millisecond fraction is rounded up.
      */
-    private FeedMetadata extractFeedMetadata(SyndFeed feed) {
-        String lastBuildDate = null;
-        if (feed.getPublishedDate() != null) {
-            lastBuildDate = formatDate(feed.getPublishedDate());
+    private static long lowerBoundMillis(OffsetDateTime fromDate) {
+        if (fromDate == null) {
+            return Long.MIN_VALUE;
         }
-
-        return new FeedMetadata(
-                feed.getTitle(),
-                feed.getDescription(),
-                feed.getLink(),
-                lastBuildDate);
+        Instant instant = fromDate.toInstant();
+        long millis = instant.toEpochMilli();
+        return instant.getNano() % 1_000_000 != 0 ? millis + 1 : millis;
     }
 
     /**
-     * Format a Date to ISO 8601 string.
-     * 
-     * @param date the date to format
-     * @return the formatted date string
+     * Upper filter bound in epoch milliseconds (sub-millisecond fractions are
+     * truncated).
      */
-    private String formatDate(Date date) {
-        return date.toInstant()
-                .atZone(ZoneId.of("UTC"))
-                .format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    private static long upperBoundMillis(OffsetDateTime toDate) {
+        return toDate != null ? toDate.toInstant().toEpochMilli() : Long.MAX_VALUE;
     }
 
     /**
-     * Check if an item matches the date filter criteria.
-     * 
-     * @param item     the feed item
-     * @param fromDate the minimum date (inclusive), or null for no minimum
-     * @param toDate   the maximum date (inclusive), or null for no maximum
-     * @return true if the item matches the filter
-     */
-    private boolean matchesDateFilter(RssFeedItem item, OffsetDateTime fromDate, OffsetDateTime toDate) {
-        // If no date filters, all items match
-        if (fromDate == null && toDate == null) {
-            return true;
+     * Collaborators of a connector built for tests and benchmarks.
+     */
+    static final class Builder {
+
+        private final HttpClient httpClient;
+        private FeedCache feedCache = FeedCache.fromSettings();
+        private HostLimiter hostLimiter = HostLimiter.fromSettings();
+        private SeenItemStore seenItems = SHARED_SEEN_ITEMS;
+        private PollAdvisor pollAdvisor = SHARED_POLL_ADVISOR;
+        private FeedMetrics metrics = SHARED_METRICS;
+        private CursorCache cursors = SHARED_CURSORS;
+        private RetryPolicy retryPolicy = SHARED_RETRY_POLICY;
+        private CircuitBreaker circuitBreaker = SHARED_CIRCUIT_BREAKER;
+        private FailureCache failures = SHARED_FAILURES;
+        // Fetches are coalesced per feed cache, and the builder's feed cache is its own
+        private final SingleFlight<URI, ParsedFeed> inFlightFetches = new SingleFlight<>();
+
+        private Builder(HttpClient httpClient) {
+            this.httpClient = httpClient;
         }
 
-        // If item has no published date, include it (can be filtered by user later)
-        if (item.publishedDate() == null) {
-            return true;
+        Builder feedCache(FeedCache feedCache) {
+            this.feedCache = feedCache;
+            return this;
         }
 
-        try {
-            OffsetDateTime itemDate = OffsetDateTime.parse(item.publishedDate(),
-                    DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        Builder hostLimiter(HostLimiter hostLimiter) {
+            this.hostLimiter = hostLimiter;
+            return this;
+        }
 
-            // Check from date (inclusive)
-            if (fromDate != null && itemDate.isBefore(fromDate)) {
-                return false;
-            }
+        Builder seenItems(SeenItemStore seenItems) {
+            this.seenItems = seenItems;
+            return this;
+        }
 
-            // Check to date (inclusive)
-            if (toDate != null && itemDate.isAfter(toDate)) {
-                return false;
-            }
+        Builder pollAdvisor(PollAdvisor pollAdvisor) {
+            this.pollAdvisor = pollAdvisor;
+            return this;
+        }
 
-            return true;
-        } catch (Exception e) {
-            // If we can't parse the date, include the item
-            LOGGER.debug("Could not parse date for filtering: {}", item.publishedDate());
-            return true;
+        Builder metrics(FeedMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        Builder cursors(CursorCache cursors) {
+            this.cursors = cursors;
+            return this;
+        }
+
+        Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        Builder circuitBreaker(CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        Builder failures(FailureCache failures) {
+            this.failures = failures;
+            return this;
         }
+
+        RssFeedConnectorFunction build() {
+            return new RssFeedConnectorFunction(this);
+        }
+    }
+
+    /**
+     * Parser and filter settings shared by all feeds of a request.
+     */
+    private record FeedQuery(FeedParser parser, Duration requestTimeout, int itemLimit, boolean paginate,
+            int maxItems, long fromMillis, long toMillis, EntryFilter filter, String stateKey) {
+    }
+
+    /**
+     * The newest matching entries of one feed, sorted newest first, and for a
+     * paged query all matching entries in document order.
+     */
+    private record FeedSelection(FeedMetadata metadata, int totalItems, List<FeedEntry> newest,
+            List<FeedEntry> matching) {
+    }
+
+    /**
+     * Either the parsed feed or the error that prevented reading it.
+     */
+    private record FeedOutcome(ParsedFeed feed, ConnectorException error) {
     }
 }
@@ -0,0 +1,202 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.api.annotation.InboundConnector;
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.inbound.CorrelationResult;
+import io.camunda.connector.api.inbound.Health;
+import io.camunda.connector.api.inbound.InboundConnectorContext;
+import io.camunda.connector.api.inbound.InboundConnectorExecutable;
+import io.camunda.connector.generator.java.annotation.BpmnType;
+import io.camunda.connector.generator.java.annotation.ElementTemplate;
+import io.camunda.connector.rssfeed.dto.RssFeedEvent;
+import io.camunda.connector.rssfeed.dto.RssFeedItem;
+import io.camunda.connector.rssfeed.dto.RssFeedRequest;
+import io.camunda.connector.rssfeed.dto.RssFeedResult;
+import io.camunda.connector.rssfeed.dto.RssFeedSubscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Inbound RSS Feed Connector for Camunda 8.
+ * Polls a feed and correlates a message for every new item, to start a
+ * process (message start event) or continue one (intermediate catch event).
+ * <p>
+ * Subscriptions are polled by the runtime's shared {@link FeedPoller}, and
+ * fetched through the same cache, host limits and seen-items store as the
+ * outbound connector. Items count as new if they were not correlated before
+ * for the subscription's state key. When a state key is used for the first
+ * time, the items currently in the feed are only remembered, so a new
+ * subscription starts with the next published item.
+ * <p>
+ * Without a fixed polling interval, the next poll is scheduled when the
+ * {@link PollAdvisor} recommends it from the feed's publish cadence.
+ */
+@InboundConnector(name = "RssFeedInboundConnector", type = "io.camunda:rssfeed-inbound:1")
+@ElementTemplate(id = "io.camunda.connector.rssfeed.inbound.v1", name = "RSS Feed Inbound Connector", version = 1, description = "Starts or continues a process for every new item of an RSS feed", icon = "icon.svg", documentationRef = "https://github.com/aleksander-dytko/RSS-Feed-Connector", propertyGroups = {
+        @ElementTemplate.PropertyGroup(id = "subscription", label = "Subscription")
+}, inputDataClass = RssFeedSubscription.class, elementTypes = {
+        @ElementTemplate.ConnectorElementType(appliesTo = BpmnType.START_EVENT, elementType = BpmnType.MESSAGE_START_EVENT, templateIdOverride = "io.camunda.connector.rssfeed.inbound.v1", templateNameOverride = "RSS Feed Message Start Event Connector"),
+        @ElementTemplate.ConnectorElementType(appliesTo = {
+                BpmnType.INTERMEDIATE_THROW_EVENT,
+                BpmnType.INTERMEDIATE_CATCH_EVENT }, elementType = BpmnType.INTERMEDIATE_CATCH_EVENT, templateIdOverride = "io.camunda.connector.rssfeed.inbound.intermediate.v1", templateNameOverride = "RSS Feed Intermediate Catch Event Connector")
+})
+public class RssFeedInboundConnector implements InboundConnectorExecutable<InboundConnectorContext> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RssFeedInboundConnector.class);
+
+    // Maximum number of items correlated per poll; further new items follow with the next polls
+    private static final int MAX_ITEMS_PER_POLL = Math.max(1,
+            ConnectorSettings.intValue("inbound.max-items-per-poll", 50));
+
+    // Items of a state key used for the first time are remembered up to the parser safety limit
+    private static final int MAX_ITEMS_ON_FIRST_POLL = 500;
+    private static final List<String> IDENTITY_FIELDS = List.of("guid", "link");
+
+    // Marks a state key as initialized, stored with the item ids
+    private static final String SUBSCRIBED_MARKER = "\u0000subscribed";
+
+    // All subscriptions of the runtime are polled from one scheduler and fetched by one connector function
+    private static final FeedPoller SHARED_POLLER = FeedPoller.fromSettings();
+    private static final RssFeedConnectorFunction SHARED_FUNCTION = new RssFeedConnectorFunction();
+
+    static {
+        SHARED_FUNCTION.metrics().bindFeedPoller(SHARED_POLLER);
+    }
+
+    private final FeedPoller poller;
+    private final RssFeedConnectorFunction function;
+    private FeedSubscription subscription;
+
+    public RssFeedInboundConnector() {
+        this(SHARED_POLLER, SHARED_FUNCTION);
+    }
+
+    // Constructor for testing with a custom poller and connector function
+    RssFeedInboundConnector(FeedPoller poller, RssFeedConnectorFunction function) {
+        this.poller = poller;
+        this.function = function;
+    }
+
+    @Override
+    public void activate(InboundConnectorContext context) {
+        RssFeedSubscription properties = context.bindProperties(RssFeedSubscription.class);
+        Duration interval = properties.parsePollingInterval();
+
+        subscription = new FeedSubscription(context, properties, interval);
+        poller.subscribe(subscription, Duration.ZERO);
+        LOGGER.info("Subscribed to RSS feed {} with polling interval {} and state key {}", properties.feedUrl(),
+                interval != null ? interval : "adaptive", properties.getStateKeyOrDefault());
+    }
+
+    @Override
+    public void deactivate() {
+        if (subscription != null) {
+            poller.unsubscribe(subscription);
+            LOGGER.info("Unsubscribed from RSS feed {}", subscription.feedUrl);
+            subscription = null;
+        }
+    }
+
+    /**
+     * One polled feed of an activated connector.
+     */
+    private final class FeedSubscription extends FeedPoller.Subscription {
+
+        private final InboundConnectorContext context;
+        private final String feedUrl;
+        private final URI feedUri;
+        private final String stateKey;
+        private final RssFeedRequest request;
+        private final Duration interval;
+
+        FeedSubscription(InboundConnectorContext context, RssFeedSubscription properties, Duration interval) {
+            this.context = context;
+            this.feedUrl = properties.feedUrl().trim();
+            this.feedUri = parseFeedUri(feedUrl);
+            this.stateKey = properties.getStateKeyOrDefault();
+            this.request = new RssFeedRequest(feedUrl, MAX_ITEMS_PER_POLL, null, null, properties.parserEngine(),
+                    null, null, stateKey, null, null, null, null, null, null, null, null);
+            this.interval = interval;
+        }
+
+        @Override
+        Duration poll() {
+            try {
+                SeenItemStore seenItems = function.seenItems();
+                if (!seenItems.seen(stateKey, SUBSCRIBED_MARKER)) {
+                    rememberCurrentItems(seenItems);
+                } else {
+                    correlateNewItems(seenItems);
+                }
+                context.reportHealth(Health.up());
+            } catch (ConnectorException e) {
+                LOGGER.warn("Failed to poll RSS feed {}: {}", feedUrl, e.getMessage());
+                context.reportHealth(Health.down(e));
+            }
+            if (interval != null) {
+                return interval;
+            }
+            // Adaptive: poll when the feed's publish cadence (or failure backoff) suggests
+            long delayMillis = function.pollAdvisor().nextPollAt(feedUri) - System.currentTimeMillis();
+            return Duration.ofMillis(Math.max(delayMillis, 0));
+        }
+
+        private void rememberCurrentItems(SeenItemStore seenItems) {
+            // Only the identities of the current items are needed
+            RssFeedResult result = function.pollNewItems(new RssFeedRequest(feedUrl, MAX_ITEMS_ON_FIRST_POLL,
+                    null, null, request.parserEngine(), null, null, stateKey, IDENTITY_FIELDS, null, null, null, null,
+                    null, null, null));
+            for (RssFeedItem item : result.items()) {
+                seenItems.markSeen(stateKey, identity(item));
+            }
+            seenItems.markSeen(stateKey, SUBSCRIBED_MARKER);
+            LOGGER.info("Remembered {} current items of RSS feed {} for state key {}", result.items().size(),
+                    feedUrl, stateKey);
+        }
+
+        private void correlateNewItems(SeenItemStore seenItems) {
+            RssFeedResult result = function.pollNewItems(request);
+            List<RssFeedItem> items = result.items();
+
+            // Oldest first; an item is remembered only once its message was correlated
+            for (int i = items.size() - 1; i >= 0; i--) {
+                RssFeedItem item = items.get(i);
+                if (identity(item) == null) {
+                    // Cannot be remembered, so it would be correlated again with every poll
+                    continue;
+                }
+                CorrelationResult correlation = context.correlateWithResult(
+                        new RssFeedEvent(item, result.metadata(), feedUrl));
+                if (correlation instanceof CorrelationResult.Failure failure
+                        && !(failure instanceof CorrelationResult.Failure.ActivationConditionNotMet)) {
+                    LOGGER.warn("Failed to correlate item {} of RSS feed {}, retrying with the next poll: {}",
+                            identity(item), feedUrl, failure.message());
+                    return;
+                }
+                seenItems.markSeen(stateKey, identity(item));
+            }
+            if (!items.isEmpty()) {
+                LOGGER.debug("Correlated {} new items of RSS feed {}", items.size(), feedUrl);
+            }
+        }
+    }
+
+    private static URI parseFeedUri(String feedUrl) {
+        try {
+            return URI.create(feedUrl);
+        } catch (IllegalArgumentException e) {
+            throw new ConnectorException(
+                    "INVALID_URL",
+                    "The provided URL is malformed: " + feedUrl,
+                    e);
+        }
+    }
+
+    private static String identity(RssFeedItem item) {
+        return item.guid() != null ? item.guid() : item.link();
+    }
+}
@@ -0,0 +1,337 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.api.error.ConnectorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Persistent set of the items already returned per state key, used by the
+ * "only new items" mode.
+ * <p>
+ * Items are identified by a 64-bit hash of the state key and the item's GUID
+ * (or link). The hashes live in a memory-mapped open-addressing table with
+ * linear probing; every slot holds the hash and the time (epoch millis) at
+ * which the entry expires. Entries are refreshed whenever the item is seen
+ * again in a feed, so items stay known while they are in the feed and are
+ * forgotten {@code ttl} after they left it. Expired slots are reused by new
+ * entries; when the table gets too full it is compacted, dropping expired
+ * entries and, if necessary, the entries closest to expiry.
+ * <p>
+ * The file is opened on first use and locked, so only one connector runtime
+ * can use a store file at a time. Writes go to the memory mapping and are
+ * flushed to disk by the operating system.
+ */
+final class SeenItemStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SeenItemStore.class);
+
+    private static final int DEFAULT_CAPACITY = 1 << 20;
+    private static final Duration DEFAULT_TTL = Duration.ofDays(30);
+    private static final String FILE_NAME = "seen-items.db";
+
+    // Header: magic, capacity; slots: hash, expiresAt
+    private static final long MAGIC = 0x5253535345454E31L;
+    private static final int HEADER_BYTES = 64;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int MAX_CAPACITY = 1 << 26;
+    private static final int SLOT_BYTES = 16;
+    private static final long EMPTY = 0L;
+    private static final double MAX_LOAD = 0.75;
+    private static final double LOAD_AFTER_EVICTION = 0.5;
+
+    private final Path file;
+    private final int requestedCapacity;
+    private final Duration ttl;
+    private final Clock clock;
+
+    private FileChannel channel;
+    private FileLock lock;
+    private MappedByteBuffer table;
+    private int capacity;
+    private int mask;
+    private int occupied;
+
+    /**
+     * @param file     the store file, created if it does not exist
+     * @param capacity the number of slots of a new store file, rounded up to
+     *                 a power of two
+     * @param ttl      how long an item is remembered after it was last seen
+     * @param clock    the clock
+     */
+    SeenItemStore(Path file, int capacity, Duration ttl, Clock clock) {
+        if (capacity < 16) {
+            throw new IllegalArgumentException("capacity must be at least 16");
+        }
+        this.file = file;
+        this.requestedCapacity = Integer.highestOneBit(Math.min(capacity, MAX_CAPACITY) - 1) << 1;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Create a store configured from the {@code state.*} connector settings.
+     * The file is not opened until the store is used.
+     */
+    static SeenItemStore fromSettings() {
+        Path directory = Path.of(ConnectorSettings.stringValue("state.directory",
+                Path.of(System.getProperty("java.io.tmpdir"), "rss-feed-connector").toString()));
+        return new SeenItemStore(
+                directory.resolve(FILE_NAME),
+                ConnectorSettings.intValue("state.capacity", DEFAULT_CAPACITY),
+                ConnectorSettings.durationValue("state.ttl", DEFAULT_TTL),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Check whether an item was returned before for a state key. A known item
+     * is remembered for another {@code ttl}.
+     *
+     * @param stateKey the state key
+     * @param itemId   the item GUID or link, may be null
+     * @return true if the item is known; items without id are never known
+     * @throws ConnectorException if the store file cannot be opened
+     */
+    synchronized boolean seen(String stateKey, String itemId) {
+        if (itemId == null) {
+            return false;
+        }
+        ensureOpen();
+        long now = clock.millis();
+        int slot = find(hash(stateKey, itemId));
+        if (slot < 0 || expiresAt(slot) <= now) {
+            return false;
+        }
+        setExpiresAt(slot, now + ttl.toMillis());
+        return true;
+    }
+
+    /**
+     * Remember an item as returned for a state key.
+     *
+     * @param stateKey the state key
+     * @param itemId   the item GUID or link; items without id are ignored
+     * @throws ConnectorException if the store file cannot be opened
+     */
+    synchronized void markSeen(String stateKey, String itemId) {
+        if (itemId == null) {
+            return;
+        }
+        ensureOpen();
+        long now = clock.millis();
+        long hash = hash(stateKey, itemId);
+        int slot = find(hash);
+        if (slot < 0) {
+            if (occupied + 1 > capacity * MAX_LOAD) {
+                compact(now);
+            }
+            slot = insertionSlot(hash, now);
+            if (hashAt(slot) == EMPTY) {
+                occupied++;
+            }
+            table.putLong(slotOffset(slot), hash);
+        }
+        setExpiresAt(slot, now + ttl.toMillis());
+    }
+
+    /**
+     * Number of entries that have not expired.
+     */
+    synchronized int size() {
+        ensureOpen();
+        long now = clock.millis();
+        int live = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (hashAt(slot) != EMPTY && expiresAt(slot) > now) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Flush and close the store file. The store is reopened on next use.
+     */
+    synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            table.force();
+            lock.release();
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close seen-items store {}", file, e);
+        } finally {
+            channel = null;
+            lock = null;
+            table = null;
+        }
+    }
+
+    private void ensureOpen() {
+        if (channel != null) {
+            return;
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            FileChannel opened = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            try {
+                FileLock fileLock = tryLock(opened);
+                boolean created = opened.size() == 0;
+                int slots = created ? requestedCapacity : readCapacity(opened);
+                MappedByteBuffer mapped = opened.map(FileChannel.MapMode.READ_WRITE, 0,
+                        HEADER_BYTES + (long) slots * SLOT_BYTES);
+                if (created) {
+                    mapped.putLong(0, MAGIC);
+                    mapped.putInt(CAPACITY_OFFSET, slots);
+                }
+                channel = opened;
+                lock = fileLock;
+                table = mapped;
+                capacity = slots;
+                mask = slots - 1;
+                occupied = 0;
+                for (int slot = 0; slot < capacity; slot++) {
+                    if (hashAt(slot) != EMPTY) {
+                        occupied++;
+                    }
+                }
+                LOGGER.info("Opened seen-items store {} with {} slots", file, slots);
+            } catch (IOException | RuntimeException e) {
+                opened.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new ConnectorException(
+                    "STATE_ERROR",
+                    "Failed to open the seen-items store " + file + ": " + e.getMessage(),
+                    e);
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        FileLock fileLock;
+        try {
+            fileLock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            throw new IOException("the file is already in use by this runtime", e);
+        }
+        if (fileLock == null) {
+            throw new IOException("the file is in use by another process");
+        }
+        return fileLock;
+    }
+
+    private static int readCapacity(FileChannel channel) throws IOException {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        int slots = header.getInt(CAPACITY_OFFSET);
+        if (header.getLong(0) != MAGIC || Integer.bitCount(slots) != 1 || slots > MAX_CAPACITY
+                || channel.size() < HEADER_BYTES + (long) slots * SLOT_BYTES) {
+            throw new IOException("not a seen-items store file");
+        }
+        return slots;
+    }
+
+    /**
+     * Slot holding a hash (expired or not), or -1.
+     */
+    private int find(long hash) {
+        for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+            long current = hashAt(slot);
+            if (current == hash) {
+                return slot;
+            }
+            if (current == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * First empty or expired slot on the probe sequence of a hash.
+     */
+    private int insertionSlot(long hash, long now) {
+        for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+            if (hashAt(slot) == EMPTY || expiresAt(slot) <= now) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Rebuild the table without expired entries. If it would still be more
+     * than half full, the entries closest to expiry are dropped as well.
+     */
+    private void compact(long now) {
+        long[] hashes = new long[occupied];
+        long[] expiries = new long[occupied];
+        int live = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            long hash = hashAt(slot);
+            if (hash != EMPTY && expiresAt(slot) > now) {
+                hashes[live] = hash;
+                expiries[live] = expiresAt(slot);
+                live++;
+            }
+        }
+
+        long minExpiry = Long.MIN_VALUE;
+        int keep = (int) (capacity * LOAD_AFTER_EVICTION);
+        if (live > keep) {
+            long[] sorted = Arrays.copyOf(expiries, live);
+            Arrays.sort(sorted);
+            minExpiry = sorted[live - keep];
+            LOGGER.warn("Seen-items store {} is full, forgetting {} items before their expiry", file, live - keep);
+        }
+
+        for (int slot = 0; slot < capacity; slot++) {
+            table.putLong(slotOffset(slot), EMPTY);
+            table.putLong(slotOffset(slot) + 8, 0L);
+        }
+        occupied = 0;
+        for (int i = 0; i < live && occupied < keep; i++) {
+            if (expiries[i] >= minExpiry) {
+                int slot = insertionSlot(hashes[i], now);
+                table.putLong(slotOffset(slot), hashes[i]);
+                table.putLong(slotOffset(slot) + 8, expiries[i]);
+                occupied++;
+            }
+        }
+    }
+
+    private long hashAt(int slot) {
+        return table.getLong(slotOffset(slot));
+    }
+
+    private long expiresAt(int slot) {
+        return table.getLong(slotOffset(slot) + 8);
+    }
+
+    private void setExpiresAt(int slot, long expiresAt) {
+        table.putLong(slotOffset(slot) + 8, expiresAt);
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    private static long hash(String stateKey, String itemId) {
+        long hash = Hashing.hash64(Hashing.hash64(stateKey), itemId);
+        return hash != EMPTY ? hash : 1L;
+    }
+}
@@ -0,0 +1,461 @@
+package io.camunda.connector.rssfeed;
+
+import com.rometools.rome.io.FeedException;
+import io.camunda.connector.rssfeed.dto.FeedMetadata;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Feed parser that reads RSS 0.9x/2.0, RSS 1.0 (RDF) and Atom 0.3/1.0
+ * documents with a StAX cursor and converts entries to {@link FeedEntry}s
+ * as they are read, without building a document tree.
+ * <p>
+ * Parsing stops as soon as more entries than the requested limit have been
+ * seen, so the rest of the document is never read from the stream. Elements
+ * following the entries (which is unusual for feed metadata) are therefore
+ * not seen for truncated feeds.
+ */
+final class StreamingFeedParser implements FeedParser {
+
+    private static final String ATOM_10_NS = "http://www.w3.org/2005/Atom";
+    private static final String ATOM_03_NS = "http://purl.org/atom/ns#";
+    private static final String RSS_10_NS = "http://purl.org/rss/1.0/";
+    private static final String RSS_090_NS = "http://my.netscape.com/rdf/simple/0.9/";
+    private static final String RDF_NS = "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+    private static final String DC_NS = "http://purl.org/dc/elements/1.1/";
+    private static final String SY_NS = "http://purl.org/rss/1.0/modules/syndication/";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    @Override
+    public ParsedFeed parse(InputStream inputStream, int maxEntries) throws FeedException, IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            FeedBuilder feed = new FeedBuilder(maxEntries);
+
+            // Advance to the root element
+            while (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                if (reader.getEventType() == XMLStreamConstants.END_DOCUMENT) {
+                    throw new FeedException("Document has no root element");
+                }
+            }
+
+            String root = reader.getLocalName();
+            String namespace = reader.getNamespaceURI();
+            if ("rss".equals(root) && isRss(namespace)) {
+                parseRss(reader, feed);
+            } else if ("RDF".equals(root) && RDF_NS.equals(namespace)) {
+                parseRdf(reader, feed);
+            } else if ("feed".equals(root) && isAtom(namespace)) {
+                parseAtomFeed(reader, feed);
+            } else {
+                throw new FeedException("Unsupported feed type, root element: " + root);
+            }
+            return feed.build();
+        } catch (XMLStreamException e) {
+            if (e.getNestedException() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new FeedException("Invalid XML: " + e.getMessage(), e);
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    private void parseRss(XMLStreamReader reader, FeedBuilder feed) throws XMLStreamException {
+        while (!feed.done && nextChild(reader)) {
+            String name = reader.getLocalName();
+            if (!isRss(reader.getNamespaceURI())) {
+                skipElement(reader);
+            } else if ("channel".equals(name)) {
+                parseChannel(reader, feed);
+            } else if ("item".equals(name)) {
+                parseRssItem(reader, feed);
+            } else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    private void parseRdf(XMLStreamReader reader, FeedBuilder feed) throws XMLStreamException {
+        // In RSS 1.0 the items are siblings of the channel
+        parseRss(reader, feed);
+    }
+
+    private void parseChannel(XMLStreamReader reader, FeedBuilder feed) throws XMLStreamException {
+        while (!feed.done && nextChild(reader)) {
+            String name = reader.getLocalName();
+            String namespace = reader.getNamespaceURI();
+            if (isRss(namespace)) {
+                switch (name) {
+                    case "title" -> feed.title = firstNonNull(feed.title, readText(reader));
+                    case "link" -> feed.link = firstNonNull(feed.link, readText(reader));
+                    case "description" -> feed.description = firstNonNull(feed.description, readText(reader));
+                    case "pubDate" -> feed.published = firstNonNull(feed.published, readText(reader));
+                    case "lastBuildDate" -> feed.updated = firstNonNull(feed.updated, readText(reader));
+                    case "ttl" -> feed.ttl = readText(reader);
+                    case "item" -> parseRssItem(reader, feed);
+                    default -> skipElement(reader);
+                }
+            } else if (DC_NS.equals(namespace) && "date".equals(name)) {
+                feed.published = firstNonNull(feed.published, readText(reader));
+            } else if (SY_NS.equals(namespace) && "updatePeriod".equals(name)) {
+                feed.updatePeriod = readText(reader);
+            } else if (SY_NS.equals(namespace) && "updateFrequency".equals(name)) {
+                feed.updateFrequency = readText(reader);
+            } else {
+                skipElement(reader);
+            }
+        }
+    }
+
+    private void parseRssItem(XMLStreamReader reader, FeedBuilder feed) throws XMLStreamException {
+        EntryBuilder entry = new EntryBuilder();
+        // RSS 1.0 items identify themselves with rdf:about
+        String about = reader.getAttributeValue(RDF_NS, "about");
+        boolean guidIsPermaLink = false;
+
+        while (nextChild(reader)) {
+            String name = reader.getLocalName();
+            String namespace = reader.getNamespaceURI();
+            if (isRss(namespace)) {
+                switch (name) {
+                    case "title" -> entry.title = firstNonNull(entry.title, readText(reader));
+                    case "link" -> entry.link = firstNonNull(entry.link, readText(reader));
+                    case "description" -> entry.description = firstNonNull(entry.description, readText(reader));
+                    case "pubDate" -> entry.published = firstNonNull(entry.published, readText(reader));
+                    case "author" -> entry.author = firstNonNull(entry.author, readText(reader));
+                    case "category" -> entry.addCategory(readText(reader));
+                    case "guid" -> {
+                        guidIsPermaLink = !"false".equalsIgnoreCase(reader.getAttributeValue(null, "isPermaLink"));
+                        entry.guid = firstNonNull(entry.guid, readText(reader));
+                    }
+                    default -> skipElement(reader);
+                }
+            } else if (DC_NS.equals(namespace)) {
+                switch (name) {
+                    case "creator" -> entry.author = firstNonNull(entry.author, readText(reader));
+                    case "date" -> entry.updated = firstNonNull(entry.updated, readText(reader));
+                    case "subject" -> entry.addCategory(readText(reader));
+                    default -> skipElement(reader);
+                }
+            } else {
+                skipElement(reader);
+            }
+        }
+
+        // Same fallbacks as Rome: a permalink guid stands in for a missing link,
+        // the link stands in for a missing guid
+        if (entry.guid == null) {
+            entry.guid = about != null ? about : entry.link;
+        } else if (entry.link == null && guidIsPermaLink) {
+            entry.link = entry.guid;
+        }
+        feed.addEntry(entry);
+    }
+
+    private void parseAtomFeed(XMLStreamReader reader, FeedBuilder feed) throws XMLStreamException {
+        String firstLink = null;
+        while (!feed.done && nextChild(reader)) {
+            if (!isAtom(reader.getNamespaceURI())) {
+                skipElement(reader);
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "title" -> feed.title = firstNonNull(feed.title, readText(reader));
+                case "subtitle", "tagline" -> feed.description = firstNonNull(feed.description, readText(reader));
+                case "updated", "modified" -> feed.published = firstNonNull(feed.published, readText(reader));
+                case "link" -> {
+                    String href = reader.getAttributeValue(null, "href");
+                    if (isAlternateLink(reader)) {
+                        feed.link = firstNonNull(feed.link, href);
+                    }
+                    firstLink = firstNonNull(firstLink, href);
+                    skipElement(reader);
+                }
+                case "entry" -> parseAtomEntry(reader, feed);
+                default -> skipElement(reader);
+            }
+        }
+        feed.link = firstNonNull(feed.link, firstLink);
+    }
+
+    private void parseAtomEntry(XMLStreamReader reader, FeedBuilder feed) throws XMLStreamException {
+        EntryBuilder entry = new EntryBuilder();
+        String firstLink = null;
+
+        while (nextChild(reader)) {
+            if (!isAtom(reader.getNamespaceURI())) {
+                skipElement(reader);
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "title" -> entry.title = firstNonNull(entry.title, readText(reader));
+                case "summary" -> entry.description = firstNonNull(entry.description, readText(reader));
+                case "published", "issued" -> entry.published = firstNonNull(entry.published, readText(reader));
+                case "updated", "modified" -> entry.updated = firstNonNull(entry.updated, readText(reader));
+                case "id" -> entry.guid = firstNonNull(entry.guid, readText(reader));
+                case "author" -> entry.author = firstNonNull(entry.author, readAtomPersonName(reader));
+                case "category" -> {
+                    entry.addCategory(reader.getAttributeValue(null, "term"));
+                    skipElement(reader);
+                }
+                case "link" -> {
+                    String href = reader.getAttributeValue(null, "href");
+                    if (isAlternateLink(reader)) {
+                        entry.link = firstNonNull(entry.link, href);
+                    }
+                    firstLink = firstNonNull(firstLink, href);
+                    skipElement(reader);
+                }
+                default -> skipElement(reader);
+            }
+        }
+
+        entry.link = firstNonNull(entry.link, firstLink);
+        feed.addEntry(entry);
+    }
+
+    private String readAtomPersonName(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        while (nextChild(reader)) {
+            if ("name".equals(reader.getLocalName()) && isAtom(reader.getNamespaceURI())) {
+                name = firstNonNull(name, readText(reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Advance to the next child element of the current element.
+     *
+     * @return true if positioned on a child START_ELEMENT, false if the end of
+     *         the current element was reached
+     */
+    private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Read the text content of the current element, including the markup of
+     * any nested elements (e.g. Atom XHTML content), and position the reader
+     * on its END_ELEMENT.
+     *
+     * @return the trimmed text, or null if the element is empty
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                    text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                case XMLStreamConstants.ENTITY_REFERENCE -> text.append(reader.getText());
+                case XMLStreamConstants.START_ELEMENT -> {
+                    depth++;
+                    appendStartTag(text, reader);
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    depth--;
+                    if (depth > 0) {
+                        text.append("</").append(reader.getLocalName()).append('>');
+                    }
+                }
+                default -> {
+                    // comments and processing instructions carry no text
+                }
+            }
+        }
+        String value = text.toString().trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static void appendStartTag(StringBuilder text, XMLStreamReader reader) {
+        text.append('<').append(reader.getLocalName());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            text.append(' ').append(reader.getAttributeLocalName(i)).append("=\"")
+                    .append(reader.getAttributeValue(i).replace("&", "&amp;").replace("\"", "&quot;"))
+                    .append('"');
+        }
+        text.append('>');
+    }
+
+    /**
+     * Skip the current element and its subtree, positioning the reader on its
+     * END_ELEMENT.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static boolean isAlternateLink(XMLStreamReader reader) {
+        String rel = reader.getAttributeValue(null, "rel");
+        return rel == null || "alternate".equals(rel);
+    }
+
+    private static boolean isRss(String namespace) {
+        return namespace == null || namespace.isEmpty()
+                || RSS_10_NS.equals(namespace) || RSS_090_NS.equals(namespace);
+    }
+
+    private static boolean isAtom(String namespace) {
+        return ATOM_10_NS.equals(namespace) || ATOM_03_NS.equals(namespace);
+    }
+
+    private static String firstNonNull(String current, String candidate) {
+        return current != null ? current : candidate;
+    }
+
+    private static void closeQuietly(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // nothing left to clean up
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // Feeds are untrusted input: no DTDs, no external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Feed-level values collected while reading.
+     */
+    private static final class FeedBuilder {
+        private final int maxEntries;
+        private final List<FeedEntry> entries = new ArrayList<>();
+        private final ValuePool pool = new ValuePool();
+        private String title;
+        private String link;
+        private String description;
+        private String published;
+        private String updated;
+        private String ttl;
+        private String updatePeriod;
+        private String updateFrequency;
+        private boolean done;
+
+        FeedBuilder(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        void addEntry(EntryBuilder entry) {
+            if (entries.size() >= maxEntries) {
+                // One entry past the limit: the feed is truncated, stop reading
+                done = true;
+                return;
+            }
+            entries.add(entry.build(pool));
+        }
+
+        ParsedFeed build() {
+            long lastBuildDate = FeedDates.parse(published);
+            if (lastBuildDate == FeedEntry.NO_DATE) {
+                lastBuildDate = FeedDates.parse(updated);
+            }
+            return new ParsedFeed(
+                    new FeedMetadata(title, description, link,
+                            lastBuildDate != FeedEntry.NO_DATE ? FeedDates.format(lastBuildDate) : null),
+                    entries,
+                    done,
+                    freshnessHint());
+        }
+
+        private Duration freshnessHint() {
+            if (ttl != null) {
+                try {
+                    Duration fromTtl = FeedFreshness.fromTtl(Integer.parseInt(ttl));
+                    if (fromTtl != null) {
+                        return fromTtl;
+                    }
+                } catch (NumberFormatException e) {
+                    // ignore malformed ttl
+                }
+            }
+            int frequency = 1;
+            if (updateFrequency != null) {
+                try {
+                    frequency = Integer.parseInt(updateFrequency);
+                } catch (NumberFormatException e) {
+                    // keep the default frequency
+                }
+            }
+            return FeedFreshness.fromUpdatePeriod(updatePeriod, frequency);
+        }
+    }
+
+    /**
+     * Entry values collected while reading.
+     */
+    private static final class EntryBuilder {
+        private String title;
+        private String link;
+        private String description;
+        private String published;
+        private String updated;
+        private String author;
+        private String guid;
+        private List<String> categories;
+
+        void addCategory(String category) {
+            if (category == null || category.isEmpty()) {
+                return;
+            }
+            if (categories == null) {
+                categories = new ArrayList<>(4);
+            }
+            categories.add(category);
+        }
+
+        FeedEntry build(ValuePool pool) {
+            long publishedAt = FeedDates.parse(published);
+            if (publishedAt == FeedEntry.NO_DATE) {
+                publishedAt = FeedDates.parse(updated);
+            }
+            return new FeedEntry(
+                    title,
+                    link,
+                    description,
+                    publishedAt,
+                    pool.intern(author),
+                    pool.categories(categories),
+                    guid);
+        }
+    }
+}
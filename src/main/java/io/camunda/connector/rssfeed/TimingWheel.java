@@ -0,0 +1,216 @@
+package io.camunda.connector.rssfeed;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel (Varghese &amp; Lauck) for scheduling large
+ * numbers of timeouts with O(1) schedule and cancel.
+ * <p>
+ * Time advances in ticks. Level 0 has one slot per tick; every higher level
+ * has slots spanning all slots of the level below, so {@code levels} levels
+ * of {@code 2^slotBits} slots cover {@code 2^(slotBits * levels)} ticks.
+ * A timeout is placed in the lowest level whose range covers its deadline
+ * and moved down ("cascaded") when the wheel reaches its slot, so it is
+ * touched at most once per level. Deadlines beyond the range are parked in
+ * the top level and re-placed until they are in range.
+ * <p>
+ * Timeouts are intrusive list nodes: scheduling links the caller's
+ * {@link Timeout} into a slot list instead of allocating a timer object per
+ * timeout. The wheel is not tied to a thread; the owner calls
+ * {@link #advance(long, List)} when the next tick is due. All methods are
+ * synchronized.
+ */
+final class TimingWheel {
+
+    /**
+     * A schedulable timeout. An instance can be scheduled on one wheel at a
+     * time; scheduling it again moves it.
+     */
+    abstract static class Timeout {
+
+        private Timeout prev;
+        private Timeout next;
+        private long deadlineTick;
+        private int level = -1;
+        private int slot;
+
+        /**
+         * Whether the timeout is scheduled and has not expired or been
+         * cancelled.
+         */
+        final boolean isScheduled() {
+            return level >= 0;
+        }
+    }
+
+    private final long startNanos;
+    private final long tickNanos;
+    private final int slotBits;
+    private final int slotMask;
+    private final int levels;
+    private final long maxDelayTicks;
+    private final Timeout[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tick       the tick duration, i.e. the scheduling resolution
+     * @param slotBits   log2 of the number of slots per level
+     * @param levels     the number of levels
+     * @param startNanos the {@link System#nanoTime()} of tick 0
+     */
+    TimingWheel(Duration tick, int slotBits, int levels, long startNanos) {
+        if (tick.isZero() || tick.isNegative()) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+        if (slotBits < 1 || levels < 1 || slotBits * levels > 62) {
+            throw new IllegalArgumentException("slotBits * levels must be between 1 and 62");
+        }
+        this.startNanos = startNanos;
+        this.tickNanos = tick.toNanos();
+        this.slotBits = slotBits;
+        this.slotMask = (1 << slotBits) - 1;
+        this.levels = levels;
+        this.maxDelayTicks = (1L << (slotBits * levels)) - 1;
+        this.slots = new Timeout[levels][1 << slotBits];
+    }
+
+    /**
+     * Schedule a timeout, replacing its previous schedule. Deadlines are
+     * rounded up to the next tick; deadlines in the past expire on the next
+     * tick.
+     *
+     * @param timeout       the timeout
+     * @param deadlineNanos the {@link System#nanoTime()} at which it expires
+     */
+    synchronized void schedule(Timeout timeout, long deadlineNanos) {
+        if (timeout.isScheduled()) {
+            unlink(timeout);
+            size--;
+        }
+        long elapsed = deadlineNanos - startNanos;
+        long tick = elapsed <= 0 ? 0 : (elapsed + tickNanos - 1) / tickNanos;
+        timeout.deadlineTick = Math.max(tick, currentTick + 1);
+        place(timeout);
+        size++;
+    }
+
+    /**
+     * Cancel a timeout.
+     *
+     * @param timeout the timeout
+     * @return true if it was scheduled
+     */
+    synchronized boolean cancel(Timeout timeout) {
+        if (!timeout.isScheduled()) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Process all ticks up to {@code nowNanos} and collect the timeouts that
+     * expired.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @param expired  receives the expired timeouts, earlier ticks first
+     */
+    synchronized void advance(long nowNanos, List<Timeout> expired) {
+        long targetTick = (nowNanos - startNanos) / tickNanos;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Timeout timeout = slots[0][(int) currentTick & slotMask];
+            slots[0][(int) currentTick & slotMask] = null;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout.level = -1;
+                if (timeout.deadlineTick <= currentTick) {
+                    size--;
+                    expired.add(timeout);
+                } else {
+                    place(timeout);
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * The {@link System#nanoTime()} at which the next tick is due.
+     */
+    synchronized long nextTickNanos() {
+        return startNanos + (currentTick + 1) * tickNanos;
+    }
+
+    /**
+     * Number of scheduled timeouts.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Move the timeouts of the higher-level slots reached at the current tick
+     * down, starting with the highest level so timeouts can cascade through
+     * several levels in one tick.
+     */
+    private void cascade() {
+        int top = 0;
+        while (top + 1 < levels && (currentTick & ((1L << (slotBits * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            int index = (int) (currentTick >>> (slotBits * level)) & slotMask;
+            Timeout timeout = slots[level][index];
+            slots[level][index] = null;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                place(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private void place(Timeout timeout) {
+        // Deadlines beyond the wheel's range are parked at its far end; while cascading, deadlines of the
+        // current tick go to the current level-0 slot, which is processed right after
+        long delay = Math.max(0, Math.min(timeout.deadlineTick - currentTick, maxDelayTicks));
+        int level = 0;
+        while (level + 1 < levels && delay >= 1L << (slotBits * (level + 1))) {
+            level++;
+        }
+        int index = (int) ((currentTick + delay) >>> (slotBits * level)) & slotMask;
+
+        Timeout head = slots[level][index];
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[level][index] = timeout;
+        timeout.level = level;
+        timeout.slot = index;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.level = -1;
+    }
+}
@@ -0,0 +1,139 @@
+package io.camunda.connector.rssfeed;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Selects the k values with the highest primitive key (newest first) from a
+ * stream of candidates using a bounded binary min-heap, in O(n log k) time
+ * and O(k) memory. Candidates with equal keys keep their offer order, so the
+ * result is identical to a stable descending sort followed by a limit.
+ *
+ * @param <T> the value type
+ */
+final class TopKSelector<T> {
+
+    private final int k;
+    private final long[] keys;
+    private final int[] ordinals;
+    private final Object[] values;
+    private int size;
+    private int offered;
+
+    TopKSelector(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be at least 1");
+        }
+        this.k = k;
+        this.keys = new long[k];
+        this.ordinals = new int[k];
+        this.values = new Object[k];
+    }
+
+    /**
+     * Offer a candidate.
+     *
+     * @param value the candidate
+     * @param key   the sort key; higher keys are selected first
+     */
+    void offer(T value, long key) {
+        int ordinal = offered++;
+        if (size < k) {
+            keys[size] = key;
+            ordinals[size] = ordinal;
+            values[size] = value;
+            siftUp(size++);
+        } else if (ranksBefore(key, ordinal, keys[0], ordinals[0])) {
+            // Replace the weakest selected candidate
+            keys[0] = key;
+            ordinals[0] = ordinal;
+            values[0] = value;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * @return the number of candidates offered so far
+     */
+    int offered() {
+        return offered;
+    }
+
+    /**
+     * Drain the selection.
+     *
+     * @return the selected values, highest key first
+     */
+    @SuppressWarnings("unchecked")
+    List<T> toSortedList() {
+        Object[] sorted = new Object[size];
+        // Popping the min-heap yields the weakest first, fill from the back
+        for (int i = size - 1; i >= 0; i--) {
+            sorted[i] = values[0];
+            size--;
+            keys[0] = keys[size];
+            ordinals[0] = ordinals[size];
+            values[0] = values[size];
+            values[size] = null;
+            if (size > 0) {
+                siftDown(0);
+            }
+        }
+        List<T> result = new ArrayList<>(sorted.length);
+        for (Object value : sorted) {
+            result.add((T) value);
+        }
+        return result;
+    }
+
+    /**
+     * Whether candidate a ranks before candidate b in the result: higher key
+     * first, earlier offer first on equal keys.
+     */
+    private static boolean ranksBefore(long keyA, int ordinalA, long keyB, int ordinalB) {
+        return keyA > keyB || (keyA == keyB && ordinalA < ordinalB);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            // Min-heap on rank: the parent must rank after (be weaker than) the child
+            if (!ranksBefore(keys[parent], ordinals[parent], keys[index], ordinals[index])) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int weakest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && ranksBefore(keys[weakest], ordinals[weakest], keys[left], ordinals[left])) {
+                weakest = left;
+            }
+            if (right < size && ranksBefore(keys[weakest], ordinals[weakest], keys[right], ordinals[right])) {
+                weakest = right;
+            }
+            if (weakest == index) {
+                return;
+            }
+            swap(index, weakest);
+            index = weakest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        int ordinal = ordinals[a];
+        ordinals[a] = ordinals[b];
+        ordinals[b] = ordinal;
+        Object value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+    }
+}
@@ -0,0 +1,45 @@
+package io.camunda.connector.rssfeed;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the bytes of feed responses as transferred and after decoding.
+ */
+final class TransferCounter {
+
+    /**
+     * Snapshot of the transfer counters.
+     *
+     * @param responses           the number of response bodies read
+     * @param compressedResponses the number of those that were compressed
+     * @param transferredBytes    the bytes read from the network
+     * @param decodedBytes        the bytes passed to the parser after decoding
+     */
+    record Stats(long responses, long compressedResponses, long transferredBytes, long decodedBytes) {
+    }
+
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder transferredBytes = new LongAdder();
+    private final LongAdder decodedBytes = new LongAdder();
+
+    /**
+     * Record a response body that has been read.
+     *
+     * @param compressed       whether the body had a content coding
+     * @param transferredBytes the bytes read from the network
+     * @param decodedBytes     the bytes after decoding
+     */
+    void record(boolean compressed, long transferredBytes, long decodedBytes) {
+        responses.increment();
+        if (compressed) {
+            compressedResponses.increment();
+        }
+        this.transferredBytes.add(transferredBytes);
+        this.decodedBytes.add(decodedBytes);
+    }
+
+    Stats stats() {
+        return new Stats(responses.sum(), compressedResponses.sum(), transferredBytes.sum(), decodedBytes.sum());
+    }
+}
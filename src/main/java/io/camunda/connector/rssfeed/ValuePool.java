@@ -0,0 +1,59 @@
+package io.camunda.connector.rssfeed;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interning table for the entry values that repeat across the entries of a
+ * feed: authors, category names and whole category lists. A feed with
+ * hundreds of entries usually has a handful of authors and a few dozen
+ * categories, so sharing one instance per distinct value shrinks the parsed
+ * feed, and with it the heap retained by the feed cache.
+ * <p>
+ * A pool lives for one parse, so it is bounded by the entry limit and needs
+ * no synchronization. Shared category lists are immutable.
+ */
+final class ValuePool {
+
+    private final Map<String, String> strings = new HashMap<>();
+    private final Map<List<String>, List<String>> lists = new HashMap<>();
+
+    /**
+     * The shared instance of a value.
+     *
+     * @param value the value, may be null
+     * @return an equal instance that was interned before, or the value itself
+     */
+    String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = strings.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    /**
+     * The shared immutable list of category names equal to the given names,
+     * with interned names.
+     *
+     * @param categories the category names, may be null
+     * @return an immutable list, empty if there are no categories
+     */
+    List<String> categories(List<String> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return List.of();
+        }
+        List<String> existing = lists.get(categories);
+        if (existing != null) {
+            return existing;
+        }
+        String[] names = new String[categories.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = intern(categories.get(i));
+        }
+        List<String> shared = List.of(names);
+        lists.put(shared, shared);
+        return shared;
+    }
+}
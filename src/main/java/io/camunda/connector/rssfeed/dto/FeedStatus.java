@@ -0,0 +1,60 @@
+package io.camunda.connector.rssfeed.dto;
+
+/**
+ * Outcome of fetching one feed of a request.
+ */
+public record FeedStatus(
+    /**
+     * The feed URL as given in the request.
+     */
+    String feedUrl,
+
+    /**
+     * OK if the feed was fetched and parsed, ERROR otherwise.
+     */
+    String status,
+
+    /**
+     * Total number of items in the feed, 0 if the feed failed.
+     */
+    int totalItems,
+
+    /**
+     * Metadata about the feed, null if the feed failed.
+     */
+    FeedMetadata metadata,
+
+    /**
+     * The error code (e.g. FETCH_ERROR, PARSE_ERROR) if the feed failed.
+     */
+    String errorCode,
+
+    /**
+     * The error message if the feed failed.
+     */
+    String errorMessage,
+
+    /**
+     * Recommended time of the next poll of this feed in ISO 8601 format,
+     * derived from its publish cadence, with backoff while it is idle or failing.
+     */
+    String nextPollAt
+) {
+
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_ERROR = "ERROR";
+
+    /**
+     * Status of a feed that was fetched and parsed successfully.
+     */
+    public static FeedStatus ok(String feedUrl, int totalItems, FeedMetadata metadata, String nextPollAt) {
+        return new FeedStatus(feedUrl, STATUS_OK, totalItems, metadata, null, null, nextPollAt);
+    }
+
+    /**
+     * Status of a feed that could not be fetched or parsed.
+     */
+    public static FeedStatus error(String feedUrl, String errorCode, String errorMessage, String nextPollAt) {
+        return new FeedStatus(feedUrl, STATUS_ERROR, 0, null, errorCode, errorMessage, nextPollAt);
+    }
+}
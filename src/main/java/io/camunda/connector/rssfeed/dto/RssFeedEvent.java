@@ -0,0 +1,22 @@
+package io.camunda.connector.rssfeed.dto;
+
+/**
+ * Event correlated by the inbound connector for every new feed item.
+ */
+public record RssFeedEvent(
+    /**
+     * The new item.
+     */
+    RssFeedItem item,
+
+    /**
+     * Metadata about the feed the item was published in.
+     */
+    FeedMetadata feed,
+
+    /**
+     * The subscribed feed URL.
+     */
+    String feedUrl
+) {
+}
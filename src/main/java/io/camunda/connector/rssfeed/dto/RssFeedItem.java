@@ -1,11 +1,21 @@
 package io.camunda.connector.rssfeed.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
 import java.util.List;
 
 /**
  * Represents a single item from an RSS feed.
  * All fields are nullable to gracefully handle incomplete RSS feed items.
+ * Fields that were not selected with the request's {@code fields} are left out
+ * of the result; every other field is included, also when it is null.
  */
+@JsonSerialize(using = RssFeedItem.Serializer.class)
 public record RssFeedItem(
     /**
      * The title of the RSS item.
@@ -40,6 +50,56 @@ public record RssFeedItem(
     /**
      * The globally unique identifier (GUID) for this item.
      */
-    String guid
-) {}
+    String guid,
+    
+    /**
+     * The names of the fields selected with the request's {@code fields}, or null if every field is selected.
+     * Not part of the result.
+     */
+    @JsonIgnore
+    List<String> selectedFields
+) {
+
+    /**
+     * Create an item with every field selected.
+     */
+    public RssFeedItem(String title, String link, String description, String publishedDate, String author,
+                       List<String> categories, String guid) {
+        this(title, link, description, publishedDate, author, categories, guid, null);
+    }
+
+    private boolean selected(String field) {
+        return selectedFields == null || selectedFields.contains(field);
+    }
+
+    /**
+     * Writes the selected fields of an item, nulls included.
+     */
+    static final class Serializer extends StdSerializer<RssFeedItem> {
+
+        Serializer() {
+            super(RssFeedItem.class);
+        }
+
+        @Override
+        public void serialize(RssFeedItem item, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject(item);
+            write(item, "title", item.title(), generator, provider);
+            write(item, "link", item.link(), generator, provider);
+            write(item, "description", item.description(), generator, provider);
+            write(item, "publishedDate", item.publishedDate(), generator, provider);
+            write(item, "author", item.author(), generator, provider);
+            write(item, "categories", item.categories(), generator, provider);
+            write(item, "guid", item.guid(), generator, provider);
+            generator.writeEndObject();
+        }
 
+        private static void write(RssFeedItem item, String field, Object value, JsonGenerator generator,
+                                  SerializerProvider provider) throws IOException {
+            if (item.selected(field)) {
+                provider.defaultSerializeField(field, value, generator);
+            }
+        }
+    }
+}
@@ -1,29 +1,35 @@
 package io.camunda.connector.rssfeed.dto;
 
 import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.generator.dsl.Property.FeelMode;
 import io.camunda.connector.generator.java.annotation.TemplateProperty;
+import io.camunda.connector.generator.java.annotation.TemplateProperty.DropdownPropertyChoice;
 import io.camunda.connector.generator.java.annotation.TemplateProperty.PropertyType;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Request object for the RSS Feed Connector.
- * Contains the feed URL and optional filtering parameters.
+ * Contains the feed URL(s) and optional filtering parameters.
  */
 public record RssFeedRequest(
         /**
          * The URL of the RSS feed to fetch.
          * Must be a valid HTTP or HTTPS URL.
          * Example: https://feeds.bbci.co.uk/news/rss.xml
+         * Required unless feedUrls is set.
          */
-        @NotBlank(message = "Feed URL is required") @TemplateProperty(group = "configuration", label = "Feed URL", description = "The URL of the RSS feed to fetch (e.g., https://feeds.bbci.co.uk/news/rss.xml)", type = PropertyType.String) String feedUrl,
+        @TemplateProperty(group = "configuration", label = "Feed URL", description = "The URL of the RSS feed to fetch (e.g., https://feeds.bbci.co.uk/news/rss.xml). Required unless Feed URLs is set", optional = true, type = PropertyType.String) String feedUrl,
 
         /**
          * Maximum number of items to return (after filtering).
@@ -43,7 +49,130 @@ public record RssFeedRequest(
          * Must be in ISO 8601 format (e.g., "2025-12-31T23:59:59Z").
          * Supports FEEL expressions like today() or now().
          */
-        @TemplateProperty(group = "configuration", label = "To Date", description = "Filter items published on or before this date (ISO8601 format, e.g., 2025-12-31T23:59:59Z or FEEL: today())", optional = true, type = PropertyType.String) String toDate) {
+        @TemplateProperty(group = "configuration", label = "To Date", description = "Filter items published on or before this date (ISO8601 format, e.g., 2025-12-31T23:59:59Z or FEEL: today())", optional = true, type = PropertyType.String) String toDate,
+
+        /**
+         * The parser engine used to read the feed document.
+         * ROME builds the full document and supports every feed flavour Rome
+         * understands; STREAMING reads RSS/Atom with a StAX cursor and stops
+         * reading once the safety limit of items is reached.
+         * Defaults to the runtime's configured engine (ROME unless changed).
+         */
+        @Pattern(regexp = "(?i)ROME|STREAMING", message = "Parser engine must be ROME or STREAMING") @TemplateProperty(group = "configuration", label = "Parser Engine", description = "Parser used to read the feed: ROME (full document, most compatible) or STREAMING (low memory, for very large feeds)", optional = true, type = PropertyType.Dropdown, choices = {
+                @DropdownPropertyChoice(value = PARSER_ENGINE_ROME, label = "Rome"),
+                @DropdownPropertyChoice(value = PARSER_ENGINE_STREAMING, label = "Streaming") }) String parserEngine,
+
+        /**
+         * Additional feed URLs to fetch in the same job.
+         * All feeds are fetched concurrently and their items are merged into
+         * one result, newest first. A failing feed does not fail the job as
+         * long as at least one feed could be read; its error is reported in
+         * the result's per-feed status.
+         */
+        @Size(max = MAX_FEED_URLS, message = "Feed URLs cannot contain more than " + MAX_FEED_URLS + " URLs") @TemplateProperty(group = "configuration", label = "Feed URLs", description = "List of feed URLs to fetch concurrently and merge into one result (FEEL, e.g., [\"https://a.example/rss\", \"https://b.example/rss\"])", optional = true, feel = FeelMode.required, type = PropertyType.String) List<String> feedUrls,
+
+        /**
+         * Timeout in seconds for fetching a feed, from sending the request
+         * until the response headers are received.
+         * Defaults to the runtime's configured timeout (30 seconds unless changed).
+         */
+        @Min(value = 1, message = "Request timeout must be at least 1 second") @Max(value = 300, message = "Request timeout cannot exceed 300 seconds") @TemplateProperty(group = "configuration", label = "Request Timeout", description = "Timeout in seconds for fetching each feed (default: 30)", optional = true, type = PropertyType.String) Integer requestTimeout,
+
+        /**
+         * Enables "only new items" mode: only items that were not returned
+         * before for this key are returned, identified by their GUID (or link).
+         * Use a key per consumer, e.g. the process definition id.
+         */
+        @Size(max = 256, message = "State key cannot be longer than 256 characters") @TemplateProperty(group = "configuration", label = "State Key", description = "Only return items not returned before for this key (e.g., the process id). Leave empty to return all items", optional = true, type = PropertyType.String) String stateKey,
+
+        /**
+         * The item fields to return, e.g. ["title", "link"]. Fields that are
+         * not selected are omitted from the result, which keeps large results
+         * within the engine's variable size limits.
+         * Defaults to all fields.
+         */
+        @Size(max = 7, message = "Fields cannot contain more than 7 field names") @TemplateProperty(group = "configuration", label = "Fields", description = "Item fields to return (FEEL, e.g., [\"title\", \"link\", \"publishedDate\"]). Supported: title, link, description, publishedDate, author, categories, guid. Default: all fields", optional = true, feel = FeelMode.required, type = PropertyType.String) List<String> fields,
+
+        /**
+         * Maximum length of item descriptions in characters. Longer
+         * descriptions are cut at a word boundary and end with "…".
+         * Defaults to no limit.
+         */
+        @Min(value = 1, message = "Max description length must be at least 1") @TemplateProperty(group = "configuration", label = "Max Description Length", description = "Truncate descriptions to this many characters, on a word boundary (default: no limit)", optional = true, type = PropertyType.String) Integer maxDescriptionLength,
+
+        /**
+         * Whether to convert item descriptions from HTML to plain text:
+         * tags are removed, character references decoded and whitespace
+         * collapsed. Defaults to false.
+         */
+        @TemplateProperty(group = "configuration", label = "Strip HTML", description = "Convert descriptions from HTML to plain text", optional = true, type = PropertyType.Boolean) Boolean stripHtml,
+
+        /**
+         * Whether to read up to pagination.max-feed-items items of every feed
+         * instead of the 500-item safety limit and return a nextCursor when
+         * more items match than maxItems. Defaults to false.
+         */
+        @TemplateProperty(group = "configuration", label = "Paginate", description = "Read beyond the 500-item limit of a feed and return a cursor for the next page when more items match than Max Items", optional = true, type = PropertyType.Boolean) Boolean paginate,
+
+        /**
+         * Cursor returned as nextCursor by the previous page. The next page
+         * is served from the result of the first request, so the feeds and
+         * filters are not read again; maxItems sets the page size.
+         */
+        @Size(max = 256, message = "Cursor cannot be longer than 256 characters") @TemplateProperty(group = "configuration", label = "Cursor", description = "Return the next page of an earlier result (FEEL, e.g., =result.nextCursor). Leave empty for the first page", optional = true, type = PropertyType.String) String cursor,
+
+        /**
+         * Keywords of which at least one must occur in the title or
+         * description of an item, ignoring case.
+         */
+        @Size(max = MAX_KEYWORDS, message = "Include keywords cannot contain more than " + MAX_KEYWORDS + " keywords") @TemplateProperty(group = "configuration", label = "Include Keywords", description = "Only return items whose title or description contains at least one of these keywords, ignoring case (FEEL, e.g., [\"camunda\", \"bpmn\"])", optional = true, feel = FeelMode.required, type = PropertyType.String) List<String> includeKeywords,
+
+        /**
+         * Keywords of which none may occur in the title or description of an
+         * item, ignoring case.
+         */
+        @Size(max = MAX_KEYWORDS, message = "Exclude keywords cannot contain more than " + MAX_KEYWORDS + " keywords") @TemplateProperty(group = "configuration", label = "Exclude Keywords", description = "Skip items whose title or description contains any of these keywords, ignoring case (FEEL, e.g., [\"sponsored\"])", optional = true, feel = FeelMode.required, type = PropertyType.String) List<String> excludeKeywords,
+
+        /**
+         * Categories of which an item must have at least one, ignoring case.
+         */
+        @Size(max = MAX_KEYWORDS, message = "Categories cannot contain more than " + MAX_KEYWORDS + " categories") @TemplateProperty(group = "configuration", label = "Categories", description = "Only return items in at least one of these categories, ignoring case (FEEL, e.g., [\"Technology\"])", optional = true, feel = FeelMode.required, type = PropertyType.String) List<String> categories) {
+
+    public static final String PARSER_ENGINE_ROME = "ROME";
+    public static final String PARSER_ENGINE_STREAMING = "STREAMING";
+    public static final int MAX_FEED_URLS = 100;
+    public static final int MAX_KEYWORDS = 1000;
+
+    /**
+     * Create a single-feed request with the default settings of every other
+     * parameter.
+     */
+    public RssFeedRequest(String feedUrl, Integer maxItems, String fromDate, String toDate) {
+        this(feedUrl, maxItems, fromDate, toDate, null, null, null, null, null, null, null, null, null, null, null,
+                null);
+    }
+
+    /**
+     * Get all feed URLs of this request: feedUrl first (if set), followed by
+     * the non-blank entries of feedUrls.
+     *
+     * @return the feed URLs in request order, possibly empty
+     */
+    public List<String> allFeedUrls() {
+        List<String> urls = new ArrayList<>();
+        if (feedUrl != null && !feedUrl.isBlank()) {
+            urls.add(feedUrl.trim());
+        }
+        if (feedUrls != null) {
+            for (String url : feedUrls) {
+                if (url != null && !url.isBlank()) {
+                    urls.add(url.trim());
+                }
+            }
+        }
+        return urls;
+    }
+
     /**
      * Get the maximum number of items, with a default of 10 if not specified.
      */
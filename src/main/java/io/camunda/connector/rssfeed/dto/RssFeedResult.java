@@ -12,7 +12,7 @@ public record RssFeedResult(
     List<RssFeedItem> items,
     
     /**
-     * Total number of items in the original feed before any filtering.
+     * Total number of items in the original feed(s) before any filtering.
      */
     int totalItems,
     
@@ -23,7 +23,38 @@ public record RssFeedResult(
 
     /**
      * Metadata about the RSS feed itself (title, description, link, etc.).
+     * For multi-feed requests, the metadata of the first feed that could be read.
      */
-    FeedMetadata metadata
-) {}
+    FeedMetadata metadata,
 
+    /**
+     * Per-feed status (metadata, item count or error) in request order.
+     */
+    List<FeedStatus> feeds,
+
+    /**
+     * Number of entries dropped because an earlier entry had the same GUID or link.
+     */
+    int duplicatesRemoved,
+
+    /**
+     * Recommended time of the next poll in ISO 8601 format: the earliest
+     * recommendation of the requested feeds.
+     */
+    String nextPollAt,
+
+    /**
+     * Cursor of the next page if more items matched than were returned, to be
+     * passed as the request's cursor; null on the last page.
+     */
+    String nextCursor
+) {
+
+    /**
+     * Create a result without per-feed status, duplicate count, poll
+     * recommendation or further pages.
+     */
+    public RssFeedResult(List<RssFeedItem> items, int totalItems, int filteredItems, FeedMetadata metadata) {
+        this(items, totalItems, filteredItems, metadata, List.of(), 0, null, null);
+    }
+}
@@ -0,0 +1,83 @@
+package io.camunda.connector.rssfeed.dto;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.generator.java.annotation.TemplateProperty;
+import io.camunda.connector.generator.java.annotation.TemplateProperty.DropdownPropertyChoice;
+import io.camunda.connector.generator.java.annotation.TemplateProperty.PropertyType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Properties of the RSS Feed Inbound Connector.
+ * Contains the subscribed feed URL and how often it is polled.
+ */
+public record RssFeedSubscription(
+        /**
+         * The URL of the RSS feed to subscribe to.
+         * Must be a valid HTTP or HTTPS URL.
+         */
+        @NotBlank(message = "Feed URL is required") @TemplateProperty(group = "subscription", label = "Feed URL", description = "The URL of the RSS feed to poll for new items (e.g., https://feeds.bbci.co.uk/news/rss.xml)", type = PropertyType.String) String feedUrl,
+
+        /**
+         * How often the feed is polled, as ISO 8601 duration.
+         * Must be at least one second. If not set, the interval adapts to how
+         * often the feed publishes.
+         */
+        @Pattern(regexp = "^P(?=.)(\\d+D)?(T(?=.)(\\d+H)?(\\d+M)?(\\d+(\\.\\d+)?S)?)?$", message = "Polling interval must be an ISO 8601 duration, e.g. PT5M") @TemplateProperty(group = "subscription", label = "Polling Interval", description = "How often the feed is polled, as ISO 8601 duration (e.g., PT5M). Leave empty to adapt to how often the feed publishes", optional = true, type = PropertyType.String) String pollingInterval,
+
+        /**
+         * The parser engine used to read the feed document.
+         * Defaults to the runtime's configured engine (ROME unless changed).
+         */
+        @Pattern(regexp = "(?i)ROME|STREAMING", message = "Parser engine must be ROME or STREAMING") @TemplateProperty(group = "subscription", label = "Parser Engine", description = "Parser used to read the feed: ROME (full document, most compatible) or STREAMING (low memory, for very large feeds)", optional = true, type = PropertyType.Dropdown, choices = {
+                @DropdownPropertyChoice(value = RssFeedRequest.PARSER_ENGINE_ROME, label = "Rome"),
+                @DropdownPropertyChoice(value = RssFeedRequest.PARSER_ENGINE_STREAMING, label = "Streaming") }) String parserEngine,
+
+        /**
+         * Key under which the items already correlated are remembered.
+         * Defaults to the feed URL; subscriptions of different processes to
+         * the same feed need different keys.
+         */
+        @Size(max = 256, message = "State key cannot be longer than 256 characters") @TemplateProperty(group = "subscription", label = "State Key", description = "Key under which correlated items are remembered (default: the feed URL). Use a different key per process subscribing to the same feed", optional = true, type = PropertyType.String) String stateKey) {
+
+    public static final Duration MIN_POLLING_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * Parse the fixed polling interval.
+     *
+     * @return the polling interval, or null if the interval is adaptive
+     * @throws ConnectorException if the interval is not a valid duration or
+     *                            shorter than one second
+     */
+    public Duration parsePollingInterval() {
+        if (pollingInterval == null || pollingInterval.isBlank()) {
+            return null;
+        }
+        Duration interval;
+        try {
+            interval = Duration.parse(pollingInterval.trim());
+        } catch (DateTimeParseException e) {
+            throw new ConnectorException(
+                    "INVALID_POLLING_INTERVAL",
+                    "Polling interval must be an ISO 8601 duration (e.g., PT5M). Received: " + pollingInterval,
+                    e);
+        }
+        if (interval.compareTo(MIN_POLLING_INTERVAL) < 0) {
+            throw new ConnectorException(
+                    "INVALID_POLLING_INTERVAL",
+                    "Polling interval must be at least " + MIN_POLLING_INTERVAL + ". Received: " + pollingInterval);
+        }
+        return interval;
+    }
+
+    /**
+     * Get the state key, defaulting to the feed URL.
+     */
+    public String getStateKeyOrDefault() {
+        return stateKey != null && !stateKey.isBlank() ? stateKey : feedUrl.trim();
+    }
+}
@@ -0,0 +1,113 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.api.error.ConnectorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the per-host circuit breaker.
+ */
+class CircuitBreakerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-03T12:00:00Z"));
+
+    @Test
+    void shouldOpenAfterConsecutiveFailures() {
+        // Given
+        CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofSeconds(30), clock);
+
+        // When - a success resets the count, then three failures in a row
+        breaker.recordFailure("example.com");
+        breaker.recordFailure("example.com");
+        breaker.recordSuccess("example.com");
+        breaker.recordFailure("example.com");
+        breaker.recordFailure("example.com");
+        assertThat(breaker.allowRequest("example.com")).isTrue();
+        breaker.recordFailure("example.com");
+
+        // Then - only the failing host is rejected
+        assertThatThrownBy(() -> breaker.checkClosed("EXAMPLE.com"))
+            .isInstanceOf(ConnectorException.class)
+            .satisfies(e -> assertThat(((ConnectorException) e).getErrorCode()).isEqualTo("CIRCUIT_OPEN"));
+        assertThat(breaker.allowRequest("other.example.com")).isTrue();
+        assertThat(breaker.opened()).isEqualTo(1);
+        assertThat(breaker.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLetOneTrialThroughAfterOpenDuration() {
+        // Given - an open circuit
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(30), clock);
+        breaker.recordFailure("example.com");
+        clock.advance(Duration.ofSeconds(29));
+        assertThat(breaker.allowRequest("example.com")).isFalse();
+
+        // When - the open duration has passed
+        clock.advance(Duration.ofSeconds(1));
+
+        // Then - one trial is let through, and its failure opens the circuit again
+        assertThat(breaker.allowRequest("example.com")).isTrue();
+        assertThat(breaker.allowRequest("example.com")).isFalse();
+        breaker.recordFailure("example.com");
+        clock.advance(Duration.ofSeconds(15));
+        assertThat(breaker.allowRequest("example.com")).isFalse();
+
+        // Then - a successful trial closes the circuit
+        clock.advance(Duration.ofSeconds(15));
+        assertThat(breaker.allowRequest("example.com")).isTrue();
+        breaker.recordSuccess("example.com");
+        assertThat(breaker.allowRequest("example.com")).isTrue();
+        assertThat(breaker.allowRequest("example.com")).isTrue();
+        assertThat(breaker.opened()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReplaceTrialThatNeverReportsBack() {
+        // Given - a half-open circuit whose trial request was lost
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(30), clock);
+        breaker.recordFailure("example.com");
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(breaker.allowRequest("example.com")).isTrue();
+
+        // When
+        clock.advance(Duration.ofSeconds(30));
+
+        // Then
+        assertThat(breaker.allowRequest("example.com")).isTrue();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.api.error.ConnectorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the cache of result snapshots served page by page.
+ */
+class CursorCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-03T12:00:00Z"));
+
+    @Test
+    void shouldPageThroughEntriesNewestFirst() {
+        // Given - two feeds in document order, with equal dates across the feeds
+        CursorCache cache = new CursorCache(Duration.ofMinutes(10), 10, 100, clock);
+        CursorCache.Snapshot snapshot = snapshot(
+            List.of(entry("a", 2), entry("b", 5), entry("c", FeedEntry.NO_DATE)),
+            List.of(entry("d", 5), entry("e", 3)));
+
+        // When - the first two entries were returned with the first page
+        String cursor = cache.open(snapshot, 2);
+        CursorCache.Page second = cache.page(cursor, 2);
+        CursorCache.Page third = cache.page(second.nextCursor(), 2);
+
+        // Then - the order matches a merge of the stably sorted feeds
+        assertThat(second.entries()).extracting(FeedEntry::title).containsExactly("e", "a");
+        assertThat(third.entries()).extracting(FeedEntry::title).containsExactly("c");
+        assertThat(third.nextCursor()).isNull();
+        assertThat(third.snapshot()).isSameAs(snapshot);
+    }
+
+    @Test
+    void shouldServeTheSamePageAgainForRetries() {
+        // Given
+        CursorCache cache = new CursorCache(Duration.ofMinutes(10), 10, 100, clock);
+        String cursor = cache.open(snapshot(List.of(entry("a", 3), entry("b", 2), entry("c", 1))), 1);
+
+        // When
+        CursorCache.Page first = cache.page(cursor, 1);
+        CursorCache.Page retried = cache.page(cursor, 1);
+
+        // Then
+        assertThat(retried.entries()).isEqualTo(first.entries());
+        assertThat(retried.nextCursor()).isEqualTo(first.nextCursor());
+    }
+
+    @Test
+    void shouldRejectExpiredEvictedAndMalformedCursors() {
+        // Given - room for two snapshots
+        CursorCache cache = new CursorCache(Duration.ofMinutes(10), 2, 100, clock);
+        String expired = cache.open(snapshot(List.of(entry("a", 2), entry("b", 1))), 1);
+        clock.advance(Duration.ofMinutes(10));
+        String evicted = cache.open(snapshot(List.of(entry("c", 2), entry("d", 1))), 1);
+        String second = cache.open(snapshot(List.of(entry("e", 2), entry("f", 1))), 1);
+        String third = cache.open(snapshot(List.of(entry("g", 2), entry("h", 1))), 1);
+
+        // When / Then
+        for (String cursor : new String[] { expired, evicted, "not-a-cursor", second + "0" + Integer.MAX_VALUE }) {
+            assertThatThrownBy(() -> cache.page(cursor, 10))
+                .isInstanceOf(ConnectorException.class)
+                .satisfies(e -> assertThat(((ConnectorException) e).getErrorCode()).isEqualTo("INVALID_CURSOR"));
+        }
+        assertThat(cache.page(second, 10).entries()).extracting(FeedEntry::title).containsExactly("f");
+        assertThat(cache.page(third, 10).entries()).extracting(FeedEntry::title).containsExactly("h");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCacheSnapshotsLargerThanTheEntryLimit() {
+        // Given
+        CursorCache cache = new CursorCache(Duration.ofMinutes(10), 10, 2, clock);
+
+        // When
+        String cursor = cache.open(snapshot(List.of(entry("a", 3), entry("b", 2), entry("c", 1))), 1);
+
+        // Then
+        assertThat(cursor).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @SafeVarargs
+    private static CursorCache.Snapshot snapshot(List<FeedEntry>... feeds) {
+        return new CursorCache.Snapshot(List.of(feeds), 10, null, List.of(), 0, null, null);
+    }
+
+    private static FeedEntry entry(String title, long publishedAt) {
+        return new FeedEntry(title, "https://example.com/" + title, null, publishedAt, null, List.of(), null);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.api.error.ConnectorException;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the negative cache of failing feeds.
+ */
+class FailureCacheTest {
+
+    private static final URI FEED = URI.create("https://example.com/feed.xml");
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-03T12:00:00Z"));
+
+    @Test
+    void shouldReplayFailureUntilItsKindExpires() {
+        // Given
+        FailureCache cache = cache(10);
+        cache.put(FEED, FailureCache.Kind.NOT_FOUND, null, new ConnectorException("FETCH_ERROR", "Gone fishing."));
+        cache.put(URI.create("https://example.com/broken.xml"), FailureCache.Kind.PARSE_ERROR, null,
+            new ConnectorException("PARSE_ERROR", "Not XML."));
+
+        // When
+        clock.advance(Duration.ofMinutes(4));
+        ConnectorException replayed = cache.get(URI.create("HTTPS://Example.com/feed.xml"));
+
+        // Then - the failure is replayed with its error code until the not-found TTL has passed
+        assertThat(replayed.getErrorCode()).isEqualTo("FETCH_ERROR");
+        assertThat(replayed.getMessage()).startsWith("Gone fishing.").contains("2025-03-03T12:05:00Z");
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(cache.get(FEED)).isNull();
+        assertThat(cache.get(URI.create("https://example.com/broken.xml")).getErrorCode()).isEqualTo("PARSE_ERROR");
+        assertThat(cache.stats().hits()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPreferRetryAfterBoundedByMaxTtl() {
+        // Given
+        FailureCache cache = cache(10);
+        ConnectorException error = new ConnectorException("FETCH_ERROR", "Throttled.");
+
+        // When - throttling is only remembered with Retry-After, which overrides the TTL up to the max TTL
+        cache.put(URI.create("https://example.com/a.xml"), FailureCache.Kind.THROTTLED, null, error);
+        cache.put(URI.create("https://example.com/b.xml"), FailureCache.Kind.THROTTLED, Duration.ofSeconds(90), error);
+        cache.put(URI.create("https://example.com/c.xml"), FailureCache.Kind.GONE, Duration.ofDays(2), error);
+        clock.advance(Duration.ofSeconds(89));
+
+        // Then
+        assertThat(cache.get(URI.create("https://example.com/a.xml"))).isNull();
+        assertThat(cache.get(URI.create("https://example.com/b.xml"))).isNotNull();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(URI.create("https://example.com/b.xml"))).isNull();
+        clock.advance(Duration.ofHours(6));
+        assertThat(cache.get(URI.create("https://example.com/c.xml"))).isNull();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedFailure() {
+        // Given
+        FailureCache cache = cache(2);
+        ConnectorException error = new ConnectorException("FETCH_ERROR", "Missing.");
+        cache.put(URI.create("https://example.com/1.xml"), FailureCache.Kind.NOT_FOUND, null, error);
+        cache.put(URI.create("https://example.com/2.xml"), FailureCache.Kind.NOT_FOUND, null, error);
+
+        // When
+        cache.get(URI.create("https://example.com/1.xml"));
+        cache.put(URI.create("https://example.com/3.xml"), FailureCache.Kind.NOT_FOUND, null, error);
+
+        // Then
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.get(URI.create("https://example.com/1.xml"))).isNotNull();
+        assertThat(cache.get(URI.create("https://example.com/2.xml"))).isNull();
+    }
+
+    private FailureCache cache(int maxEntries) {
+        return new FailureCache(Duration.ofMinutes(5), Duration.ofHours(1), Duration.ofMinutes(10),
+            Duration.ofMinutes(1), Duration.ofHours(6), maxEntries, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.camunda.connector.rssfeed;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for parsing and formatting entry dates.
+ */
+class FeedDatesTest {
+
+    @Test
+    void shouldParseRfc822Variants() {
+        // When / Then
+        assertParsed("Mon, 03 Mar 2025 10:00:00 GMT", "2025-03-03T10:00:00Z");
+        assertParsed("Mon 3 Mar 2025 10:00 +0100", "2025-03-03T09:00:00Z");
+        assertParsed("03 March 25 10:00:00 EST", "2025-03-03T15:00:00Z");
+        assertParsed("Thu, 02 Jan 99 10:00:00 PDT", "1999-01-02T17:00:00Z");
+        assertParsed("Sun, 26 Oct 2025 10:00:00 -07:00", "2025-10-26T17:00:00Z");
+        assertParsed("Mon, 03-Mar-2025 10:00:00 GMT+01:00", "2025-03-03T09:00:00Z");
+        assertParsed("Mon, 03 Mar 2025 10:00:00 +0000 (UTC)", "2025-03-03T10:00:00Z");
+        assertParsed("  Mon, 03 Mar 2025 10:00:00  ", "2025-03-03T10:00:00Z");
+        assertParsed("Mon, 03 Mar 2025", "2025-03-03T00:00:00Z");
+        // Zone names outside RFC 822
+        assertParsed("Tue, 04 Mar 2025 08:30:00 CET", "2025-03-04T07:30:00Z");
+    }
+
+    @Test
+    void shouldParseIsoVariants() {
+        // When / Then
+        assertParsed("2025-03-03T10:00:00Z", "2025-03-03T10:00:00Z");
+        assertParsed("2025-03-03t10:00:00.123456+02:00", "2025-03-03T08:00:00.123Z");
+        assertParsed("2025-03-03T10:00:00-0530", "2025-03-03T15:30:00Z");
+        assertParsed("2025-03-03 10:00", "2025-03-03T10:00:00Z");
+        assertParsed("2025-03-03", "2025-03-03T00:00:00Z");
+        assertParsed("2024-12-31T23:59:60Z", "2024-12-31T23:59:59Z");
+    }
+
+    @Test
+    void shouldRejectInvalidDates() {
+        // When / Then
+        for (String value : new String[] { null, "", "  ", "garbage", "2025-13-01", "2025-02-29T10:00:00Z",
+            "Mon, 31 Feb 2025 10:00:00 GMT", "03 Foo 2025 10:00:00 GMT", "2025-03-03T10:00:00Zulu",
+            "03 Mar 2025 25:00:00 GMT", "03 Mar 2025 10:00:00 Mars Time" }) {
+            assertThat(FeedDates.parse(value)).as(value).isEqualTo(FeedEntry.NO_DATE);
+        }
+    }
+
+    @Test
+    void shouldFormatAndParseLikeJavaTime() {
+        // Given
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long millis = random.nextLong(-62_135_596_800_000L, 253_402_300_800_000L);
+            if (i % 2 == 0) {
+                millis -= Math.floorMod(millis, 1_000);
+            }
+            long seconds = millis - Math.floorMod(millis, 1_000);
+
+            // When
+            String formatted = FeedDates.format(millis);
+            String rfc1123 = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                Instant.ofEpochMilli(seconds).atOffset(ZoneOffset.ofHours(random.nextInt(-12, 13))));
+
+            // Then
+            assertThat(formatted).isEqualTo(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+                Instant.ofEpochMilli(millis).atOffset(ZoneOffset.UTC)));
+            assertThat(FeedDates.parse(formatted)).as(formatted).isEqualTo(millis);
+            if (seconds >= 0) {
+                // RFC 1123 has two-digit days and four-digit years, from 1970 on
+                assertThat(FeedDates.parse(rfc1123)).as(rfc1123).isEqualTo(seconds);
+            }
+        }
+    }
+
+    private static void assertParsed(String value, String expected) {
+        assertThat(FeedDates.format(FeedDates.parse(value))).as(value).isEqualTo(expected);
+    }
+}
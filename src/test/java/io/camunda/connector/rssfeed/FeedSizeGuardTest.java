@@ -0,0 +1,67 @@
+package io.camunda.connector.rssfeed;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the feed document size limits.
+ */
+class FeedSizeGuardTest {
+
+    private static final String ITEMS = "<item><title>a</title></item>\n<rss:item rdf:about=\"b\"/>"
+            + "<entry\n xml:lang=\"en\">c</entry><items/><itemCount>3</itemCount>";
+
+    @Test
+    void shouldCountItemAndEntryElementsAcrossReads() throws IOException {
+        // Given - three entries, split over reads of a few bytes
+        FeedSizeGuard guard = guard(ITEMS, 1024, 3);
+
+        // When
+        byte[] buffer = new byte[5];
+        while (guard.read(buffer, 0, buffer.length) >= 0) {
+            // read to the end
+        }
+
+        // Then - other elements starting with "item" are not entries
+        assertThat(guard.violation()).isNull();
+    }
+
+    @Test
+    void shouldFailOnTooManyEntries() {
+        // Given
+        FeedSizeGuard guard = guard(ITEMS, 1024, 2);
+
+        // When / Then
+        assertThatThrownBy(guard::readAllBytes)
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("more than the maximum of 2 items");
+        assertThat(guard.violation()).contains("2 items");
+    }
+
+    @Test
+    void shouldFailOnTooManyBytes() throws IOException {
+        // Given
+        FeedSizeGuard guard = guard(ITEMS, 10, 100);
+
+        // When
+        byte[] head = guard.readNBytes(10);
+
+        // Then - reading up to the limit succeeds, the next byte fails
+        assertThat(head).hasSize(10);
+        assertThatThrownBy(guard::read)
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("larger than the maximum of 10 bytes");
+        assertThatThrownBy(guard::read).isInstanceOf(IOException.class);
+    }
+
+    private static FeedSizeGuard guard(String document, long maxBytes, int maxEntries) {
+        InputStream in = new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8));
+        return new FeedSizeGuard(in, maxBytes, maxEntries);
+    }
+}
@@ -0,0 +1,228 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.rssfeed.dto.FeedMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the persistent feed snapshot store.
+ */
+class FeedSnapshotStoreTest {
+
+    private static final URI FEED = URI.create("https://example.com/feed.xml");
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-03T12:00:00Z"));
+
+    @TempDir
+    Path stateDirectory;
+
+    private FeedSnapshotStore store;
+
+    @AfterEach
+    void closeStore() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void shouldRestoreLatestSnapshotAfterReopen() {
+        // Given
+        store = store(1024 * 1024);
+        store.save(FEED, snapshot("First", "\"v1\""));
+        store.save(URI.create("https://example.com/other.xml"), snapshot("Other", null));
+        store.save(FEED, snapshot("Second", "\"v2\""));
+
+        // When
+        store.close();
+        store = store(1024 * 1024);
+        FeedSnapshotStore.Snapshot restored = store.load(FEED);
+
+        // Then - the last snapshot of the feed wins, with its validators and items
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(restored.etag()).isEqualTo("\"v2\"");
+        assertThat(restored.lastModified()).isEqualTo("Mon, 03 Mar 2025 11:00:00 GMT");
+        assertThat(restored.fetchedAt()).isEqualTo(clock.millis());
+        assertThat(restored.feed().metadata().title()).isEqualTo("Second");
+        assertThat(restored.feed().freshnessHint()).isEqualTo(Duration.ofMinutes(30));
+        assertThat(restored.feed().entries()).hasSize(2);
+        FeedEntry entry = restored.feed().entries().get(1);
+        assertThat(entry.title()).isEqualTo("Second 2");
+        assertThat(entry.description()).isNull();
+        assertThat(entry.categories()).containsExactly("news", "überblick");
+        assertThat(entry.author()).isSameAs(restored.feed().entries().get(0).author());
+    }
+
+    @Test
+    void shouldIgnoreTornTailAndExpiredSnapshots() throws IOException {
+        // Given
+        store = store(1024 * 1024);
+        store.save(FEED, snapshot("Kept", "\"v1\""));
+        store.close();
+        Path file = stateDirectory.resolve("feed-snapshots.log");
+        long size = Files.size(file);
+        Files.write(file, new byte[] {0, 0, 1, 0, 42, 42}, StandardOpenOption.APPEND);
+
+        // When - a crash left half a record behind
+        store = store(1024 * 1024);
+
+        // Then
+        assertThat(store.load(FEED).feed().metadata().title()).isEqualTo("Kept");
+        assertThat(Files.size(file)).isEqualTo(size);
+        clock.advance(Duration.ofDays(7));
+        assertThat(store.load(FEED)).isNull();
+    }
+
+    @Test
+    void shouldCompactToLatestSnapshotOfEveryFeed() {
+        // Given
+        store = store(1024 * 1024);
+        for (int i = 0; i < 20; i++) {
+            store.save(FEED, snapshot("Version " + i, "\"v" + i + "\""));
+        }
+        clock.advance(Duration.ofDays(8));
+        store.save(URI.create("https://example.com/recent.xml"), snapshot("Recent", null));
+        long before = store.fileBytes();
+
+        // When
+        store.compact();
+
+        // Then - superseded and expired snapshots are gone, the file is reopened on next use
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.fileBytes()).isLessThan(before / 10);
+        assertThat(store.load(URI.create("https://example.com/recent.xml")).feed().metadata().title())
+            .isEqualTo("Recent");
+        assertThat(store.load(FEED)).isNull();
+    }
+
+    @Test
+    void shouldRestoreFeedCacheFromSnapshots() {
+        // Given
+        store = store(1024 * 1024);
+        FeedCache cache = new FeedCache(10, 1024 * 1024, Duration.ofMinutes(1), Duration.ofHours(1), clock, store);
+        cache.put(FEED, snapshot("Cached", null).feed(), "\"v1\"", null, Duration.ofMinutes(10));
+
+        // When - a restarted runtime starts with an empty cache
+        FeedCache restarted = new FeedCache(10, 1024 * 1024, Duration.ofMinutes(1), Duration.ofHours(1), clock,
+            store);
+        FeedCache.Entry fresh = restarted.getFresh(URI.create("HTTPS://example.com/feed.xml"));
+        clock.advance(Duration.ofMinutes(10));
+
+        // Then - the feed is served while fresh and revalidated with its validators afterwards
+        assertThat(fresh.feed().metadata().title()).isEqualTo("Cached");
+        assertThat(restarted.getFresh(FEED)).isNull();
+        assertThat(restarted.get(FEED).etag()).isEqualTo("\"v1\"");
+        assertThat(restarted.stats().restores()).isEqualTo(1);
+        assertThat(restarted.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropSnapshotOfFeedThatMayNoLongerBeCached() {
+        // Given
+        store = store(1024 * 1024);
+        FeedCache cache = new FeedCache(10, 1024 * 1024, Duration.ofMinutes(1), Duration.ofHours(1), clock, store);
+        cache.put(FEED, snapshot("Cached", null).feed(), "\"v1\"", null, Duration.ofMinutes(10));
+
+        // When - the feed's next response has neither validators nor a freshness lifetime
+        cache.put(FEED, snapshot("Uncacheable", null).feed(), null, null, Duration.ZERO);
+        store.close();
+        store = store(1024 * 1024);
+        FeedCache restarted = new FeedCache(10, 1024 * 1024, Duration.ofMinutes(1), Duration.ofHours(1), clock,
+            store);
+
+        // Then - a restarted runtime does not restore the outdated snapshot
+        assertThat(store.load(FEED)).isNull();
+        assertThat(store.size()).isZero();
+        assertThat(restarted.get(FEED)).isNull();
+    }
+
+    @Test
+    void shouldRefreshSnapshotOfRevalidatedFeed() {
+        // Given
+        store = store(1024 * 1024);
+        FeedCache cache = new FeedCache(10, 1024 * 1024, Duration.ofMinutes(1), Duration.ofHours(1), clock, store);
+        ParsedFeed feed = snapshot("Stable", null).feed();
+        cache.put(FEED, feed, "\"v1\"", null, Duration.ofMinutes(10));
+        long savedBytes = store.fileBytes();
+
+        // When - the feed is revalidated unchanged within and after half of the max age of 7 days
+        clock.advance(Duration.ofHours(1));
+        cache.put(FEED, feed, "\"v1\"", null, Duration.ofMinutes(10));
+        long revalidatedBytes = store.fileBytes();
+        clock.advance(Duration.ofDays(4));
+        cache.put(FEED, feed, "\"v1\"", null, Duration.ofMinutes(10));
+        clock.advance(Duration.ofDays(4));
+
+        // Then - only the later revalidation is saved, so the snapshot outlives the max age of the first one
+        assertThat(revalidatedBytes).isEqualTo(savedBytes);
+        assertThat(store.load(FEED)).isNotNull();
+
+        // When - the server sends a new ETag with 304 Not Modified
+        cache.put(FEED, feed, "\"v2\"", null, Duration.ofMinutes(10));
+        store.close();
+        store = store(1024 * 1024);
+
+        // Then - a restarted runtime revalidates with the new ETag
+        assertThat(store.load(FEED).etag()).isEqualTo("\"v2\"");
+    }
+
+    private FeedSnapshotStore store(long maxBytes) {
+        return new FeedSnapshotStore(stateDirectory.resolve("feed-snapshots.log"), maxBytes, Duration.ofDays(7),
+            clock);
+    }
+
+    private FeedSnapshotStore.Snapshot snapshot(String title, String etag) {
+        List<FeedEntry> entries = List.of(
+            new FeedEntry(title + " 1", "https://example.com/1", "<p>First</p>", 1_740_000_000_000L, "Editor",
+                List.of("news", "überblick"), "guid-1"),
+            new FeedEntry(title + " 2", "https://example.com/2", null, 1_740_000_100_000L, "Editor",
+                List.of("news", "überblick"), null));
+        ParsedFeed feed = new ParsedFeed(new FeedMetadata(title, "Description", "https://example.com", null),
+            entries, false, Duration.ofMinutes(30));
+        return new FeedSnapshotStore.Snapshot(feed, etag, "Mon, 03 Mar 2025 11:00:00 GMT", clock.millis(),
+            clock.millis() + Duration.ofMinutes(30).toMillis());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
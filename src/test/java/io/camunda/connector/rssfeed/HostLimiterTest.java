@@ -0,0 +1,80 @@
+package io.camunda.connector.rssfeed;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the per-host concurrency and rate limiter.
+ */
+class HostLimiterTest {
+
+    @Test
+    void shouldQueueRequestsBeyondMaxConcurrentPerHost() throws Exception {
+        // Given
+        HostLimiter limiter = new HostLimiter(2, 0, Duration.ofSeconds(5));
+
+        // When
+        HostLimiter.Permit first = limiter.acquire("feeds.example.com").get();
+        HostLimiter.Permit second = limiter.acquire("FEEDS.example.com").get();
+        CompletableFuture<HostLimiter.Permit> third = limiter.acquire("feeds.example.com");
+        CompletableFuture<HostLimiter.Permit> otherHost = limiter.acquire("other.example.com");
+
+        // Then - the third request waits until a slot is released, other hosts are not affected
+        assertThat(third).isNotDone();
+        assertThat(otherHost).isDone();
+        assertThat(limiter.stats().queueDepth()).isEqualTo(1);
+
+        first.close();
+        first.close();
+        assertThat(third.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(limiter.stats().queueDepth()).isZero();
+        assertThat(limiter.stats().granted()).isEqualTo(4);
+        assertThat(limiter.stats().queued()).isEqualTo(1);
+
+        // The double close above released only one slot
+        assertThat(limiter.acquire("feeds.example.com")).isNotDone();
+        second.close();
+    }
+
+    @Test
+    void shouldLimitRequestsPerSecond() throws Exception {
+        // Given - two requests per second, so a burst of two
+        HostLimiter limiter = new HostLimiter(10, 2, Duration.ofSeconds(5));
+
+        // When
+        long start = System.nanoTime();
+        limiter.acquire("feeds.example.com").get().close();
+        limiter.acquire("feeds.example.com").get().close();
+        CompletableFuture<HostLimiter.Permit> third = limiter.acquire("feeds.example.com");
+
+        // Then - the third request is granted once the next token is available
+        assertThat(third).isNotDone();
+        third.get(5, TimeUnit.SECONDS).close();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(400));
+        assertThat(limiter.stats().maxWaitMillis()).isGreaterThan(0);
+    }
+
+    @Test
+    void shouldFailWaitingRequestAfterMaxWait() {
+        // Given
+        HostLimiter limiter = new HostLimiter(1, 0, Duration.ofMillis(50));
+        limiter.acquire("feeds.example.com");
+
+        // When
+        CompletableFuture<HostLimiter.Permit> waiting = limiter.acquire("feeds.example.com");
+
+        // Then
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(limiter.stats().timedOut()).isEqualTo(1);
+        assertThat(limiter.stats().queueDepth()).isZero();
+    }
+}
@@ -0,0 +1,52 @@
+package io.camunda.connector.rssfeed;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for converting descriptions to plain text and truncating them.
+ */
+class HtmlTextTest {
+
+    @Test
+    void shouldConvertHtmlToPlainText() {
+        // Given
+        String html = "<div class=\"a>b\"><p>Fish &amp; chips</p>\n\n<p>cost &lt; &#163;5&#x21;</p>"
+            + "<!-- <p>hidden</p> --><style>p { color: red }</style><SCRIPT>alert('x')</SCRIPT>"
+            + "a < b &unknown; &nbsp;done</div>";
+
+        // When
+        String text = HtmlText.toPlainText(html, Integer.MAX_VALUE);
+
+        // Then
+        assertThat(text).isEqualTo("Fish & chips cost < £5! a < b &unknown; done");
+    }
+
+    @Test
+    void shouldStopConvertingAfterTheLimit() {
+        // Given
+        String html = "<p>one two three four five</p>";
+
+        // When
+        String text = HtmlText.toPlainText(html, 8);
+
+        // Then - one character more than the limit, so truncation can tell the text was longer
+        assertThat(text).isEqualTo("one two t");
+        assertThat(HtmlText.truncate(text, 8)).isEqualTo("one two…");
+    }
+
+    @Test
+    void shouldTruncateOnWordBoundaries() {
+        // Given
+        String text = "The quick brown fox jumps";
+
+        // When / Then
+        assertThat(HtmlText.truncate(text, 100)).isSameAs(text);
+        assertThat(HtmlText.truncate(text, 25)).isSameAs(text);
+        assertThat(HtmlText.truncate(text, 18)).isEqualTo("The quick brown…");
+        assertThat(HtmlText.truncate("Supercalifragilistic", 8)).isEqualTo("Superca…");
+        assertThat(HtmlText.truncate("ab😀cd", 4)).isEqualTo("ab…");
+        assertThat(HtmlText.truncate(null, 5)).isNull();
+    }
+}
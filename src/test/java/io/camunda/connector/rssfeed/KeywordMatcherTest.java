@@ -0,0 +1,107 @@
+package io.camunda.connector.rssfeed;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the multi-keyword matcher used by the keyword filters.
+ */
+class KeywordMatcherTest {
+
+    @Test
+    void shouldMatchAnyIncludeKeywordIgnoringCase() {
+        // Given - keywords sharing prefixes and suffixes
+        KeywordMatcher matcher = KeywordMatcher.of(List.of("he", "she", "hers", "Camunda 8"), null);
+
+        // When / Then
+        assertThat(matcher.matches("USHERS")).isTrue();
+        assertThat(matcher.matches(null, "Released: camunda 8.8")).isTrue();
+        assertThat(matcher.matches("hrs", "camunda 7")).isFalse();
+        assertThat(matcher.matches((String) null)).isFalse();
+    }
+
+    @Test
+    void shouldRejectExcludeKeywordsInAnyText() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.of(List.of("release"), List.of("sponsored", "  "));
+
+        // When / Then
+        assertThat(matcher.matches("New release", "Details")).isTrue();
+        assertThat(matcher.matches("New release", "A Sponsored post")).isFalse();
+        assertThat(matcher.matches("Sponsored", null)).isFalse();
+        assertThat(KeywordMatcher.of(null, List.of("sponsored")).matches("Anything else")).isTrue();
+    }
+
+    @Test
+    void shouldSkipMarkupAndNotMatchAcrossTexts() {
+        // Given
+        KeywordMatcher matcher = KeywordMatcher.of(List.of("strong", "ab"), null);
+
+        // When / Then - tag names do not match and separate words, a literal "<" is text
+        assertThat(matcher.matches("<strong>Bold</strong> text")).isFalse();
+        assertThat(matcher.matches("a<br/>b")).isFalse();
+        assertThat(matcher.matches("a", "b")).isFalse();
+        assertThat(matcher.matches("x <strong y")).isTrue();
+    }
+
+    @Test
+    void shouldIgnoreBlankKeywords() {
+        // When / Then
+        assertThat(KeywordMatcher.of(List.of(" ", ""), null)).isNull();
+        assertThat(KeywordMatcher.of(null, null)).isNull();
+    }
+
+    @Test
+    void shouldAgreeWithNaiveSearch() {
+        // Given - random keywords and texts over a small alphabet, so keywords overlap a lot
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<String> includes = randomWords(random, 1 + random.nextInt(20));
+            List<String> excludes = random.nextBoolean() ? randomWords(random, random.nextInt(5)) : null;
+            KeywordMatcher matcher = KeywordMatcher.of(includes, excludes);
+            String title = randomText(random);
+            String description = randomText(random);
+
+            // When
+            boolean matches = matcher.matches(title, description);
+
+            // Then
+            boolean included = includes.stream().anyMatch(k -> contains(title, k) || contains(description, k));
+            boolean excluded = excludes != null
+                && excludes.stream().anyMatch(k -> contains(title, k) || contains(description, k));
+            assertThat(matches).as("%s / %s in %s | %s", includes, excludes, title, description)
+                .isEqualTo(included && !excluded);
+        }
+    }
+
+    private static boolean contains(String text, String keyword) {
+        return text.toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT));
+    }
+
+    private static List<String> randomWords(Random random, int count) {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // Keywords are trimmed, so they contain no spaces here
+            words.add(randomString(random, 1 + random.nextInt(4)).replace(' ', 'a'));
+        }
+        return words;
+    }
+
+    private static String randomText(Random random) {
+        return randomString(random, random.nextInt(40));
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append("abcAB ".charAt(random.nextInt(6)));
+        }
+        return builder.toString();
+    }
+}
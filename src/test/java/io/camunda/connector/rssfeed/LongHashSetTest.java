@@ -0,0 +1,60 @@
+package io.camunda.connector.rssfeed;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the primitive long hash set.
+ */
+class LongHashSetTest {
+
+    @Test
+    void shouldAddEachValueOnce() {
+        // Given
+        LongHashSet set = new LongHashSet(4);
+
+        // When / Then
+        assertThat(set.add(42L)).isTrue();
+        assertThat(set.add(42L)).isFalse();
+        assertThat(set.add(-1L)).isTrue();
+        assertThat(set.contains(42L)).isTrue();
+        assertThat(set.contains(-1L)).isTrue();
+        assertThat(set.contains(7L)).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepAllValuesWhenGrowing() {
+        // Given - far more values than the expected size
+        LongHashSet set = new LongHashSet(16);
+        long[] values = new Random(12345).longs(50_000).toArray();
+
+        // When
+        for (long value : values) {
+            set.add(value);
+        }
+
+        // Then
+        assertThat(set.size()).isEqualTo(50_000);
+        for (long value : values) {
+            assertThat(set.contains(value)).isTrue();
+            assertThat(set.add(value)).isFalse();
+        }
+    }
+
+    @Test
+    void shouldStoreZero() {
+        // Given
+        LongHashSet set = new LongHashSet(16);
+
+        // When
+        boolean added = set.add(0L);
+
+        // Then
+        assertThat(added).isTrue();
+        assertThat(set.contains(0L)).isTrue();
+    }
+}
@@ -0,0 +1,145 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.rssfeed.dto.FeedMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the adaptive poll interval recommendations.
+ */
+class PollAdvisorTest {
+
+    private static final URI FEED = URI.create("https://feeds.example.com/rss.xml");
+    private static final Duration MIN = Duration.ofSeconds(30);
+    private static final Duration MAX = Duration.ofHours(6);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-03T12:00:00Z"));
+    private final PollAdvisor advisor = new PollAdvisor(MIN, Duration.ofMinutes(15), MAX, 100, clock);
+
+    @Test
+    void shouldPollBusyFeedAtHalfItsPublishInterval() {
+        // Given - an item every 2 minutes
+        ParsedFeed feed = feed(Duration.ofMinutes(2), 10, null);
+
+        // When
+        long nextPollAt = advisor.recordSuccess(FEED, feed);
+
+        // Then
+        assertThat(Duration.ofMillis(nextPollAt - clock.millis())).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldNotPollMoreOftenThanTheFeedsUpdateHint() {
+        // Given - an item every 2 minutes, but a <ttl> of one hour
+        ParsedFeed feed = feed(Duration.ofMinutes(2), 10, Duration.ofHours(1));
+
+        // When
+        long nextPollAt = advisor.recordSuccess(FEED, feed);
+
+        // Then
+        assertThat(Duration.ofMillis(nextPollAt - clock.millis())).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    void shouldBackOffWhileFeedIsIdleUntilANewItemAppears() {
+        // Given
+        ParsedFeed feed = feed(Duration.ofMinutes(10), 10, null);
+        List<Duration> intervals = new ArrayList<>();
+
+        // When - polled on time without new items
+        for (int i = 0; i < 8; i++) {
+            long nextPollAt = advisor.recordSuccess(FEED, feed);
+            intervals.add(Duration.ofMillis(nextPollAt - clock.millis()));
+            clock.advance(intervals.get(i));
+        }
+
+        // Then - doubling from half the publish interval, bounded by the maximum
+        assertThat(intervals).startsWith(Duration.ofMinutes(5), Duration.ofMinutes(10), Duration.ofMinutes(20));
+        assertThat(intervals.get(7)).isEqualTo(MAX);
+
+        // A new item resets the backoff
+        long nextPollAt = advisor.recordSuccess(FEED, feed(Duration.ofMinutes(10), 11, null));
+        assertThat(Duration.ofMillis(nextPollAt - clock.millis())).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void shouldNotBackOffForPollsBeforeTheRecommendedTime() {
+        // Given
+        ParsedFeed feed = feed(Duration.ofMinutes(10), 10, null);
+        advisor.recordSuccess(FEED, feed);
+
+        // When - polled again right away
+        clock.advance(Duration.ofSeconds(1));
+        long nextPollAt = advisor.recordSuccess(FEED, feed);
+
+        // Then
+        assertThat(Duration.ofMillis(nextPollAt - clock.millis())).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void shouldBackOffExponentiallyForFailingFeed() {
+        // When
+        List<Duration> intervals = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            long nextPollAt = advisor.recordFailure(FEED);
+            intervals.add(Duration.ofMillis(nextPollAt - clock.millis()));
+            clock.advance(intervals.get(i));
+        }
+
+        // Then
+        assertThat(intervals).containsExactly(MIN, MIN.multipliedBy(2), MIN.multipliedBy(4), MIN.multipliedBy(8));
+        assertThat(advisor.nextPollAt(FEED)).isEqualTo(clock.millis());
+    }
+
+    /**
+     * A feed whose {@code count} items were published every {@code gap}, the
+     * newest one at the clock's current time.
+     */
+    private ParsedFeed feed(Duration gap, int count, Duration hint) {
+        List<FeedEntry> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long publishedAt = clock.millis() - (count - 1 - i) * gap.toMillis();
+            entries.add(0, new FeedEntry("Item " + i, "https://example.com/" + i + "-" + publishedAt, null,
+                publishedAt, null, List.of(), null));
+        }
+        return new ParsedFeed(new FeedMetadata("Feed", null, null, null), entries, false, hint);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.camunda.connector.rssfeed;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the retry delays and hedging delays of feed requests.
+ */
+class RetryPolicyTest {
+
+    @Test
+    void shouldDrawDecorrelatedDelaysWithinBounds() {
+        // Given
+        RetryPolicy policy = new RetryPolicy(5, Duration.ofMillis(100), Duration.ofSeconds(1), 0);
+
+        // When & Then - every delay lies between the base delay and three times the previous one, capped
+        long delay = 0;
+        for (int i = 0; i < 1_000; i++) {
+            long previous = delay;
+            delay = policy.nextDelayMillis(previous);
+            assertThat(delay).isBetween(100L, Math.min(1_000L, Math.max(100L, previous) * 3));
+        }
+        assertThat(RetryPolicy.isRetryable(503)).isTrue();
+        assertThat(RetryPolicy.isRetryable(429)).isTrue();
+        assertThat(RetryPolicy.isRetryable(404)).isFalse();
+    }
+
+    @Test
+    void shouldHedgeAfterPercentileOfRecentResponseTimes() {
+        // Given
+        RetryPolicy policy = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, 95);
+
+        // When - response times of 1 to 100 ms, the first ones already pushed out of the window
+        for (int i = 1; i <= 100; i++) {
+            policy.recordLatency("example.com", Duration.ofMillis(i).toNanos());
+            if (i == 10) {
+                // Not enough samples yet
+                assertThat(policy.hedgeDelayNanos("example.com")).isEqualTo(-1);
+            }
+        }
+
+        // Then - the 95th percentile of the last 64 samples (37 to 100 ms)
+        assertThat(policy.hedgeDelayNanos("EXAMPLE.com")).isEqualTo(Duration.ofMillis(97).toNanos());
+        assertThat(policy.hedgeDelayNanos("other.example.com")).isEqualTo(-1);
+        assertThat(RetryPolicy.NONE.hedgeDelayNanos("example.com")).isEqualTo(-1);
+    }
+}
@@ -1,14 +1,43 @@
 package io.camunda.connector.rssfeed;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
 import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.rssfeed.dto.FeedStatus;
 import io.camunda.connector.rssfeed.dto.RssFeedItem;
 import io.camunda.connector.rssfeed.dto.RssFeedRequest;
 import io.camunda.connector.rssfeed.dto.RssFeedResult;
 import io.camunda.connector.runtime.test.outbound.OutboundConnectorContextBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
 import java.net.URL;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -312,6 +341,11 @@ class RssFeedConnectorFunctionTest {
         assertThat(minimalItem).isNotNull();
         assertThat(minimalItem.link()).isNotNull();
         // Description, author, and categories may be null or empty
+
+        // Fields without a value are still part of the JSON, as null
+        assertThat(new ObjectMapper().valueToTree(minimalItem).fieldNames())
+            .toIterable()
+            .containsExactlyElementsOf(ItemProjection.FIELDS);
     }
 
     @Test
@@ -458,6 +492,1089 @@ class RssFeedConnectorFunctionTest {
             .hasMessageContaining("fromDate must be before or equal to toDate");
     }
 
+    @Test
+    void shouldParseRssFeedWithStreamingParserLikeRome() {
+        // Given
+        URL feedUrl = getTestResourceUrl("test-feed.xml");
+        var romeContext = OutboundConnectorContextBuilder.create()
+            .variables(new RssFeedRequest(feedUrl.toString(), 20, null, null, "ROME", null, null, null, null, null,
+                null, null, null, null, null, null))
+            .build();
+        var streamingContext = OutboundConnectorContextBuilder.create()
+            .variables(new RssFeedRequest(feedUrl.toString(), 20, null, null, "STREAMING", null, null, null, null,
+                null, null, null, null, null, null, null))
+            .build();
+
+        // When
+        RssFeedResult romeResult = (RssFeedResult) connector.execute(romeContext);
+        RssFeedResult streamingResult = (RssFeedResult) connector.execute(streamingContext);
+
+        // Then
+        assertThat(streamingResult.totalItems()).isEqualTo(romeResult.totalItems());
+        assertThat(streamingResult.items()).isEqualTo(romeResult.items());
+        assertThat(streamingResult.metadata().title()).isEqualTo("Test RSS Feed");
+        assertThat(streamingResult.metadata().link()).isEqualTo("https://example.com");
+    }
+
+    @Test
+    void shouldParseAtomFeedWithStreamingParser() {
+        // Given
+        URL feedUrl = getTestResourceUrl("test-atom-feed.xml");
+        var context = OutboundConnectorContextBuilder.create()
+            .variables(new RssFeedRequest(feedUrl.toString(), 10, null, null, "STREAMING", null, null, null, null,
+                null, null, null, null, null, null, null))
+            .build();
+
+        // When
+        RssFeedResult result = (RssFeedResult) connector.execute(context);
+
+        // Then
+        assertThat(result.totalItems()).isEqualTo(3);
+        assertThat(result.metadata().title()).isEqualTo("Test Atom Feed");
+        assertThat(result.metadata().description()).isEqualTo("A test Atom feed for unit testing");
+        assertThat(result.metadata().link()).isEqualTo("https://example.com");
+
+        RssFeedItem latest = result.items().get(0);
+        assertThat(latest.title()).isEqualTo("Latest Atom Entry");
+        assertThat(latest.link()).isEqualTo("https://example.com/atom/latest");
+        assertThat(latest.publishedDate()).isEqualTo("2025-10-26T10:00:00Z");
+        assertThat(latest.author()).isEqualTo("John Doe");
+        assertThat(latest.categories()).containsExactly("Technology", "News");
+        assertThat(latest.guid()).isEqualTo("urn:uuid:1225c695-cfb8-4ebb-aaaa-80da344efa6a");
+
+        // Falls back to the updated date and to a link without rel
+        RssFeedItem updatedOnly = result.items().get(1);
+        assertThat(updatedOnly.publishedDate()).isEqualTo("2025-10-25T13:30:00Z");
+        assertThat(updatedOnly.link()).isEqualTo("https://example.com/atom/updated");
+    }
+
+    @Test
+    void shouldThrowParseErrorForMalformedXmlWithStreamingParser() {
+        // Given
+        URL feedUrl = getTestResourceUrl("invalid-feed.xml");
+        var context = OutboundConnectorContextBuilder.create()
+            .variables(new RssFeedRequest(feedUrl.toString(), 10, null, null, "STREAMING", null, null, null, null,
+                null, null, null, null, null, null, null))
+            .build();
+
+        // When & Then
+        assertThatThrownBy(() -> connector.execute(context))
+            .isInstanceOf(ConnectorException.class)
+            .satisfies(e -> {
+                ConnectorException ce = (ConnectorException) e;
+                assertThat(ce.getErrorCode()).isEqualTo("PARSE_ERROR");
+            });
+    }
+
+    @Test
+    void shouldStopStreamingParserAtEntryLimit() throws Exception {
+        // Given - a document with more entries than the limit
+        StringBuilder xml = new StringBuilder("<rss version=\"2.0\"><channel><title>Big</title>");
+        for (int i = 0; i < 10; i++) {
+            xml.append("<item><title>Item ").append(i).append("</title></item>");
+        }
+        // Everything after the limit is never read, so broken XML there must not matter
+        xml.append("<item><title>broken</titl></item>");
+
+        // When
+        ParsedFeed feed = new StreamingFeedParser().parse(
+            new ByteArrayInputStream(xml.toString().getBytes(StandardCharsets.UTF_8)), 5);
+
+        // Then
+        assertThat(feed.truncated()).isTrue();
+        assertThat(feed.entries()).hasSize(5);
+        assertThat(feed.metadata().title()).isEqualTo("Big");
+    }
+
+    @Test
+    void shouldShareRepeatedAuthorsAndCategoriesBetweenEntries() throws Exception {
+        // Given - entries by the same author with the same categories, each parsed into new strings
+        StringBuilder xml = new StringBuilder("<rss version=\"2.0\"><channel><title>Shared</title>");
+        for (int i = 0; i < 3; i++) {
+            xml.append("<item><title>Item ").append(i).append("</title>")
+                .append("<author>editor@example.com</author>")
+                .append("<category>News</category><category>Tech</category></item>");
+        }
+        byte[] document = xml.append("</channel></rss>").toString().getBytes(StandardCharsets.UTF_8);
+
+        for (FeedParser parser : List.of(new StreamingFeedParser(), new RomeFeedParser())) {
+            // When
+            List<FeedEntry> entries = parser.parse(new ByteArrayInputStream(document), 10).entries();
+
+            // Then
+            assertThat(entries).hasSize(3);
+            assertThat(entries.get(0).categories()).containsExactly("News", "Tech");
+            assertThat(entries.get(1).author()).isSameAs(entries.get(0).author());
+            assertThat(entries.get(2).categories()).isSameAs(entries.get(0).categories());
+            assertThatThrownBy(() -> entries.get(0).categories().add("Other"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Test
+    void shouldReuseParsedFeedWhenServerRespondsNotModified() throws Exception {
+        // Given - a server that honours If-None-Match
+        byte[] body = readTestResource("test-feed.xml");
+        AtomicInteger fullResponses = new AtomicInteger();
+        AtomicInteger notModifiedResponses = new AtomicInteger();
+        HttpServer server = startServer(exchange -> {
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                fullResponses.incrementAndGet();
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+
+        try {
+            var httpConnector = new RssFeedConnectorFunction(HttpClient.newHttpClient());
+            var context = OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(serverUrl(server, "/feed.xml"), 20, null, null))
+                .build();
+
+            // When
+            RssFeedResult first = (RssFeedResult) httpConnector.execute(context);
+            RssFeedResult second = (RssFeedResult) httpConnector.execute(context);
+
+            // Then
+            assertThat(fullResponses).hasValue(1);
+            assertThat(notModifiedResponses).hasValue(1);
+            assertThat(second.totalItems()).isEqualTo(15);
+            assertThat(second.items()).isEqualTo(first.items());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldServeFreshFeedFromCacheWithoutRequest() throws Exception {
+        // Given - a server allowing the feed to be cached for a minute
+        byte[] body = readTestResource("test-feed.xml");
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = startServer(exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=60");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+
+        try {
+            var feedCache = new FeedCache(10, 1024 * 1024, Duration.ZERO, Duration.ofHours(1), Clock.systemUTC());
+            var httpConnector = RssFeedConnectorFunction.builder(HttpClient.newHttpClient())
+                .feedCache(feedCache)
+                .build();
+
+            // When - the same feed is requested twice, once with a differently spelled URL
+            RssFeedResult first = (RssFeedResult) httpConnector.execute(OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(serverUrl(server, "/feed.xml"), 5, null, null))
+                .build());
+            RssFeedResult second = (RssFeedResult) httpConnector.execute(OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(
+                    "HTTP://LOCALHOST:" + server.getAddress().getPort() + "/./feed.xml", 5, null, null))
+                .build());
+
+            // Then
+            assertThat(requests).hasValue(1);
+            assertThat(second.items()).isEqualTo(first.items());
+            assertThat(feedCache.stats().hits()).isEqualTo(1);
+            assertThat(feedCache.stats().misses()).isEqualTo(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedFeedWhenCacheIsFull() throws Exception {
+        // Given - a cache holding a single feed
+        byte[] body = readTestResource("test-feed.xml");
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = startServer(exchange -> {
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().add("Cache-Control", "max-age=60");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+
+        try {
+            var feedCache = new FeedCache(1, 1024 * 1024, Duration.ZERO, Duration.ofHours(1), Clock.systemUTC());
+            var httpConnector = RssFeedConnectorFunction.builder(HttpClient.newHttpClient())
+                .feedCache(feedCache)
+                .build();
+
+            // When - two feeds are fetched, then the first one again
+            for (String path : new String[] { "/a.xml", "/b.xml", "/a.xml" }) {
+                httpConnector.execute(OutboundConnectorContextBuilder.create()
+                    .variables(new RssFeedRequest(serverUrl(server, path), 5, null, null))
+                    .build());
+            }
+
+            // Then
+            assertThat(requests).hasValue(3);
+            assertThat(feedCache.stats().evictions()).isEqualTo(2);
+            assertThat(feedCache.stats().size()).isEqualTo(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldMergeMultipleFeedsNewestFirst() throws Exception {
+        // Given - an RSS and an Atom feed served by the same server
+        byte[] rss = readTestResource("test-feed.xml");
+        byte[] atom = readTestResource("test-atom-feed.xml");
+        HttpServer server = startServer(exchange -> {
+            byte[] body = exchange.getRequestURI().getPath().equals("/rss.xml") ? rss : atom;
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+
+        try {
+            var httpConnector = new RssFeedConnectorFunction(HttpClient.newHttpClient());
+            var context = OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(null, 50, null, null, null,
+                    List.of(serverUrl(server, "/rss.xml"), serverUrl(server, "/atom.xml")), null, null, null, null,
+                    null, null, null, null, null, null))
+                .build();
+
+            // When
+            RssFeedResult result = (RssFeedResult) httpConnector.execute(context);
+
+            // Then
+            assertThat(result.totalItems()).isEqualTo(18);
+            assertThat(result.feeds()).extracting(FeedStatus::status)
+                .containsExactly(FeedStatus.STATUS_OK, FeedStatus.STATUS_OK);
+            assertThat(result.feeds()).extracting(FeedStatus::totalItems).containsExactly(15, 3);
+            assertThat(result.metadata()).isEqualTo(result.feeds().get(0).metadata());
+
+            List<String> dates = result.items().stream()
+                .map(RssFeedItem::publishedDate)
+                .filter(date -> date != null)
+                .toList();
+            assertThat(dates).isSortedAccordingTo(Comparator.reverseOrder());
+            assertThat(result.items()).extracting(RssFeedItem::title).contains("Latest Atom Entry", "Older Atom Entry");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldReportFailingFeedWithoutFailingBatch() throws Exception {
+        // Given - one feed that can be read and one that fails
+        byte[] rss = readTestResource("test-feed.xml");
+        HttpServer server = startServer(exchange -> {
+            if (exchange.getRequestURI().getPath().equals("/missing.xml")) {
+                exchange.sendResponseHeaders(404, -1);
+            } else {
+                exchange.sendResponseHeaders(200, rss.length);
+                exchange.getResponseBody().write(rss);
+            }
+            exchange.close();
+        });
+
+        try {
+            var httpConnector = new RssFeedConnectorFunction(HttpClient.newHttpClient());
+            String missingUrl = serverUrl(server, "/missing.xml");
+
+            // When
+            RssFeedResult result = (RssFeedResult) httpConnector.execute(OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(serverUrl(server, "/rss.xml"), 5, null, null, null,
+                    List.of(missingUrl), null, null, null, null, null, null, null, null, null, null))
+                .build());
+
+            // Then
+            assertThat(result.items()).hasSize(5);
+            assertThat(result.feeds()).hasSize(2);
+            FeedStatus failed = result.feeds().get(1);
+            assertThat(failed.feedUrl()).isEqualTo(missingUrl);
+            assertThat(failed.status()).isEqualTo(FeedStatus.STATUS_ERROR);
+            assertThat(failed.errorCode()).isEqualTo("FETCH_ERROR");
+
+            // When every feed fails, the job fails with the first error
+            assertThatThrownBy(() -> httpConnector.execute(OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(null, 5, null, null, null, List.of(missingUrl, missingUrl), null, null,
+                    null, null, null, null, null, null, null, null))
+                .build()))
+                .isInstanceOf(ConnectorException.class)
+                .satisfies(e -> assertThat(((ConnectorException) e).getErrorCode()).isEqualTo("FETCH_ERROR"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldThrowErrorWhenNoFeedUrlIsGiven() {
+        var context = OutboundConnectorContextBuilder.create()
+            .variables(new RssFeedRequest(null, 10, null, null, null, List.of(), null, null, null, null, null, null,
+                null, null, null, null))
+            .build();
+
+        assertThatThrownBy(() -> connector.execute(context))
+            .isInstanceOf(ConnectorException.class)
+            .satisfies(e -> assertThat(((ConnectorException) e).getErrorCode()).isEqualTo("INVALID_URL"));
+    }
+
+    @Test
+    void shouldDecompressGzipAndDeflateResponses() throws Exception {
+        // Given - a server compressing the feed with the coding named in the path
+        byte[] body = readTestResource("test-feed.xml");
+        HttpServer server = startServer(exchange -> {
+            String coding = exchange.getRequestURI().getPath().substring(1);
+            assertThat(exchange.getRequestHeaders().getFirst("Accept-Encoding")).contains("gzip", "deflate");
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (OutputStream out = coding.equals("gzip")
+                ? new GZIPOutputStream(compressed)
+                : new DeflaterOutputStream(compressed)) {
+                out.write(body);
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", coding);
+            exchange.sendResponseHeaders(200, compressed.size());
+            exchange.getResponseBody().write(compressed.toByteArray());
+            exchange.close();
+        });
+
+        try {
+            var httpConnector = new RssFeedConnectorFunction(HttpClient.newHttpClient());
+            RssFeedResult plain = (RssFeedResult) connector.execute(OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(getTestResourceUrl("test-feed.xml").toString(), 20, null, null))
+                .build());
+
+            // When
+            for (String coding : new String[] { "gzip", "deflate" }) {
+                RssFeedResult result = (RssFeedResult) httpConnector.execute(OutboundConnectorContextBuilder.create()
+                    .variables(new RssFeedRequest(serverUrl(server, "/" + coding), 20, null, null))
+                    .build());
+
+                // Then
+                assertThat(result.items()).isEqualTo(plain.items());
+            }
+            TransferCounter.Stats stats = httpConnector.transferStats();
+            assertThat(stats.compressedResponses()).isEqualTo(2);
+            assertThat(stats.transferredBytes()).isLessThan(stats.decodedBytes());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldFailWhenServerDoesNotRespondWithinRequestTimeout() throws Exception {
+        // Given - a server that takes longer than the request timeout to respond
+        HttpServer server = startServer(exchange -> {
+            try {
+                Thread.sleep(3000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+
+        try {
+            var httpConnector = new RssFeedConnectorFunction(HttpClient.newHttpClient());
+            var context = OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(serverUrl(server, "/slow.xml"), 10, null, null, null, null, 1, null,
+                    null, null, null, null, null, null, null, null))
+                .build();
+
+            // When & Then
+            assertThatThrownBy(() -> httpConnector.execute(context))
+                .isInstanceOf(ConnectorException.class)
+                .satisfies(e -> assertThat(((ConnectorException) e).getErrorCode()).isEqualTo("FETCH_ERROR"))
+                .hasMessageContaining("timed out");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldRetryFailedRequestsWithinRequestTimeout(@TempDir Path stateDirectory) throws Exception {
+        // Given - a server that is unavailable for the first two requests
+        byte[] body = readTestResource("test-feed.xml");
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = startServer(exchange -> {
+            if (requests.incrementAndGet() <= 2) {
+                exchange.sendResponseHeaders(503, -1);
+            } else {
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        var registry = new SimpleMeterRegistry();
+        var retryingConnector = resilientConnector(stateDirectory, registry,
+            new RetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(50), 0),
+            new CircuitBreaker(5, Duration.ofSeconds(30), Clock.systemUTC()));
+
+        try {
+            // When
+            RssFeedResult result = (RssFeedResult) retryingConnector.execute(OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(serverUrl(server, "/feed.xml"), 5, null, null))
+                .build());
+
+            // Then
+            assertThat(result.items()).hasSize(5);
+            assertThat(requests.get()).isEqualTo(3);
+            assertThat(registry.get(FeedMetrics.FETCH_RETRIES).counter().count()).isEqualTo(2);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldTakeHostPermitForEveryRetry() throws Exception {
+        // Given - a server that is unavailable for the first request and a host limit of one request per second
+        byte[] body = readTestResource("test-feed.xml");
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = startServer(exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                exchange.sendResponseHeaders(503, -1);
+            } else {
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        var hostLimiter = new HostLimiter(1, 1, Duration.ofSeconds(5));
+        var retryingConnector = RssFeedConnectorFunction.builder(HttpClient.newHttpClient())
+            .hostLimiter(hostLimiter)
+            .retryPolicy(new RetryPolicy(2, Duration.ofMillis(10), Duration.ofMillis(50), 0))
+            .circuitBreaker(new CircuitBreaker(5, Duration.ofSeconds(30), Clock.systemUTC()))
+            .failures(FailureCache.fromSettings())
+            .build();
+
+        try {
+            // When
+            long start = System.nanoTime();
+            RssFeedResult result = (RssFeedResult) retryingConnector.execute(OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(serverUrl(server, "/feed.xml"), 5, null, null))
+                .build());
+
+            // Then - the retry waited for the next token instead of reusing the first attempt's permit
+            assertThat(result.items()).hasSize(5);
+            assertThat(requests.get()).isEqualTo(2);
+            assertThat(hostLimiter.stats().granted()).isEqualTo(2);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThan(Duration.ofMillis(500));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldFailFastWhileCircuitIsOpen(@TempDir Path stateDirectory) throws Exception {
+        // Given - a server that always fails
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = startServer(exchange -> {
+            requests.incrementAndGet();
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        var breakingConnector = resilientConnector(stateDirectory, new SimpleMeterRegistry(),
+            new RetryPolicy(2, Duration.ofMillis(10), Duration.ofMillis(50), 0),
+            new CircuitBreaker(2, Duration.ofMinutes(1), Clock.systemUTC()));
+        var context = OutboundConnectorContextBuilder.create()
+            .variables(new RssFeedRequest(serverUrl(server, "/feed.xml"), 5, null, null))
+            .build();
+
+        try {
+            // When - the first job fails after retrying and opens the circuit
+            assertThatThrownBy(() -> breakingConnector.execute(context))
+                .isInstanceOf(ConnectorException.class)
+                .satisfies(e -> assertThat(((ConnectorException) e).getErrorCode()).isEqualTo("FETCH_ERROR"));
+
+            // Then - the next job fails without a request
+            assertThatThrownBy(() -> breakingConnector.execute(context))
+                .isInstanceOf(ConnectorException.class)
+                .satisfies(e -> assertThat(((ConnectorException) e).getErrorCode()).isEqualTo("CIRCUIT_OPEN"));
+            assertThat(requests.get()).isEqualTo(2);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldHedgeRequestSlowerThanUsual(@TempDir Path stateDirectory) throws Exception {
+        // Given - a server whose first response is delayed, handling requests concurrently
+        byte[] body = readTestResource("test-feed.xml");
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        // Given - the host usually responds within a few milliseconds
+        RetryPolicy retryPolicy = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, 95);
+        for (int i = 0; i < 20; i++) {
+            retryPolicy.recordLatency("localhost:" + server.getAddress().getPort(), Duration.ofMillis(50).toNanos());
+        }
+        var registry = new SimpleMeterRegistry();
+        var hedgingConnector = resilientConnector(stateDirectory, registry, retryPolicy,
+            new CircuitBreaker(5, Duration.ofSeconds(30), Clock.systemUTC()));
+
+        try {
+            // When
+            long start = System.nanoTime();
+            RssFeedResult result = (RssFeedResult) hedgingConnector.execute(OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(serverUrl(server, "/feed.xml"), 5, null, null))
+                .build());
+
+            // Then - the second request answered long before the first
+            assertThat(result.items()).hasSize(5);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(4));
+            assertThat(requests.get()).isEqualTo(2);
+            assertThat(registry.get(FeedMetrics.FETCH_HEDGES).counter().count()).isEqualTo(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldRememberFailingFeedsWithoutRequestingThemAgain(@TempDir Path stateDirectory) throws Exception {
+        // Given - a missing feed and a throttled feed asking to come back in two minutes
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = startServer(exchange -> {
+            requests.incrementAndGet();
+            if (exchange.getRequestURI().getPath().equals("/throttled.xml")) {
+                exchange.getResponseHeaders().add("Retry-After", "120");
+                exchange.sendResponseHeaders(503, -1);
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+            exchange.close();
+        });
+        var rememberingConnector = resilientConnector(stateDirectory, new SimpleMeterRegistry(),
+            new RetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(50), 0),
+            new CircuitBreaker(5, Duration.ofSeconds(30), Clock.systemUTC()));
+
+        try {
+            for (String path : List.of("/missing.xml", "/throttled.xml")) {
+                var context = OutboundConnectorContextBuilder.create()
+                    .variables(new RssFeedRequest(serverUrl(server, path), 5, null, null))
+                    .build();
+
+                // When
+                for (int i = 0; i < 3; i++) {
+                    assertThatThrownBy(() -> rememberingConnector.execute(context))
+                        .isInstanceOf(ConnectorException.class)
+                        .satisfies(e -> assertThat(((ConnectorException) e).getErrorCode()).isEqualTo("FETCH_ERROR"));
+                }
+            }
+
+            // Then - one request each: 404 is not retried, and Retry-After exceeds the request timeout
+            assertThat(requests.get()).isEqualTo(2);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private RssFeedConnectorFunction resilientConnector(Path stateDirectory, SimpleMeterRegistry registry,
+            RetryPolicy retryPolicy, CircuitBreaker circuitBreaker) {
+        return RssFeedConnectorFunction.builder(HttpClient.newHttpClient())
+            .seenItems(new SeenItemStore(stateDirectory.resolve("seen-items.db"), 1024, Duration.ofDays(1),
+                Clock.systemUTC()))
+            .pollAdvisor(PollAdvisor.fromSettings())
+            .metrics(new FeedMetrics(registry))
+            .cursors(CursorCache.fromSettings())
+            .retryPolicy(retryPolicy)
+            .circuitBreaker(circuitBreaker)
+            .failures(FailureCache.fromSettings())
+            .build();
+    }
+
+    @Test
+    void shouldOnlyReturnNewItemsForStateKey(@TempDir Path stateDirectory) {
+        // Given
+        var seenItems = new SeenItemStore(stateDirectory.resolve("seen-items.db"), 1024, Duration.ofDays(1),
+            Clock.systemUTC());
+        var statefulConnector = RssFeedConnectorFunction.builder(HttpClient.newHttpClient())
+            .seenItems(seenItems)
+            .build();
+        String feedUrl = getTestResourceUrl("test-feed.xml").toString();
+
+        try {
+            // When
+            RssFeedResult first = executeWithStateKey(statefulConnector, feedUrl, "process-a");
+            RssFeedResult second = executeWithStateKey(statefulConnector, feedUrl, "process-a");
+            RssFeedResult otherKey = executeWithStateKey(statefulConnector, feedUrl, "process-b");
+
+            // Then - the second run continues with the next newest items, other keys are independent
+            assertThat(first.items()).hasSize(5);
+            assertThat(second.items()).hasSize(5);
+            assertThat(second.items()).extracting(RssFeedItem::guid)
+                .doesNotContainAnyElementsOf(first.items().stream().map(RssFeedItem::guid).toList());
+            assertThat(otherKey.items()).isEqualTo(first.items());
+            assertThat(seenItems.size()).isEqualTo(15);
+        } finally {
+            seenItems.close();
+        }
+    }
+
+    private RssFeedResult executeWithStateKey(RssFeedConnectorFunction connector, String feedUrl, String stateKey) {
+        return (RssFeedResult) connector.execute(OutboundConnectorContextBuilder.create()
+            .variables(new RssFeedRequest(feedUrl, 5, null, null, null, null, null, stateKey, null, null, null, null,
+                null, null, null, null))
+            .build());
+    }
+
+    @Test
+    void shouldRemoveDuplicateItemsWithinAndAcrossFeeds() throws Exception {
+        // Given - a feed repeating an entry by link and by GUID, and a second feed repeating its first entry
+        byte[] first = rssFeed(
+            rssItem("First", "https://example.com/1", "guid-1", "Mon, 03 Mar 2025 10:00:00 GMT"),
+            rssItem("Same link", "https://example.com/1", "guid-2", "Mon, 03 Mar 2025 11:00:00 GMT"),
+            rssItem("Same GUID", "https://example.com/3", "guid-1", "Mon, 03 Mar 2025 12:00:00 GMT"));
+        byte[] second = rssFeed(
+            rssItem("First again", "https://example.com/1-copy", "guid-1", "Mon, 03 Mar 2025 13:00:00 GMT"),
+            rssItem("Second", "https://example.com/4", "guid-4", "Mon, 03 Mar 2025 09:00:00 GMT"));
+        HttpServer server = startServer(exchange -> {
+            byte[] body = exchange.getRequestURI().getPath().equals("/first.xml") ? first : second;
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+
+        try {
+            var httpConnector = new RssFeedConnectorFunction(HttpClient.newHttpClient());
+            var context = OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(null, 10, null, null, null,
+                    List.of(serverUrl(server, "/first.xml"), serverUrl(server, "/second.xml")), null, null, null,
+                    null, null, null, null, null, null, null))
+                .build();
+
+            // When
+            RssFeedResult result = (RssFeedResult) httpConnector.execute(context);
+
+            // Then - the first occurrence of every entry is kept
+            assertThat(result.totalItems()).isEqualTo(5);
+            assertThat(result.duplicatesRemoved()).isEqualTo(3);
+            assertThat(result.items()).extracting(RssFeedItem::title).containsExactly("First", "Second");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldBackOffPollingOfFailingFeed() throws Exception {
+        // Given - a feed that can be read once and fails afterwards
+        byte[] body = readTestResource("test-feed.xml");
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = startServer(exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } else {
+                exchange.sendResponseHeaders(500, -1);
+            }
+            exchange.close();
+        });
+        var pollAdvisor = new PollAdvisor(Duration.ofMillis(200), Duration.ofMillis(500), Duration.ofSeconds(1), 100,
+            Clock.systemUTC());
+        var pollingConnector = RssFeedConnectorFunction.builder(HttpClient.newHttpClient())
+            .feedCache(new FeedCache(1, 1, Duration.ZERO, Duration.ZERO, Clock.systemUTC()))
+            .pollAdvisor(pollAdvisor)
+            .retryPolicy(new RetryPolicy(1, Duration.ofMillis(10), Duration.ofMillis(50), 0))
+            .circuitBreaker(new CircuitBreaker(5, Duration.ofSeconds(30), Clock.systemUTC()))
+            .build();
+        String feedUrl = serverUrl(server, "/feed.xml");
+        URI feedUri = URI.create(feedUrl);
+        RssFeedRequest request = new RssFeedRequest(feedUrl, 5, null, null);
+
+        try {
+            pollingConnector.pollNewItems(request);
+
+            // When - the single feed of inbound polls fails twice, each poll sent when it was recommended
+            sleepUntil(pollAdvisor.nextPollAt(feedUri));
+            assertThatThrownBy(() -> pollingConnector.pollNewItems(request)).isInstanceOf(ConnectorException.class);
+            long firstDelay = pollAdvisor.nextPollAt(feedUri) - System.currentTimeMillis();
+            sleepUntil(pollAdvisor.nextPollAt(feedUri));
+            assertThatThrownBy(() -> pollingConnector.pollNewItems(request)).isInstanceOf(ConnectorException.class);
+            long secondDelay = pollAdvisor.nextPollAt(feedUri) - System.currentTimeMillis();
+
+            // Then - the failures were recorded, and the next poll is delayed longer after every failure
+            assertThat(firstDelay).isGreaterThan(0);
+            assertThat(secondDelay).isGreaterThan(firstDelay);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldRecommendNextPollTime() {
+        // Given
+        var context = OutboundConnectorContextBuilder.create()
+            .variables(new RssFeedRequest(getTestResourceUrl("test-feed.xml").toString(), 5, null, null))
+            .build();
+
+        // When
+        RssFeedResult result = (RssFeedResult) connector.execute(context);
+
+        // Then
+        assertThat(result.nextPollAt()).isNotNull();
+        assertThat(OffsetDateTime.parse(result.nextPollAt())).isAfter(OffsetDateTime.now());
+        assertThat(result.feeds()).extracting(FeedStatus::nextPollAt).containsExactly(result.nextPollAt());
+    }
+
+    @Test
+    void shouldRecordFetchAndProcessingMetrics(@TempDir Path stateDirectory) throws Exception {
+        // Given - a server serving the feed and failing for other paths
+        byte[] body = readTestResource("test-feed.xml");
+        HttpServer server = startServer(exchange -> {
+            boolean found = exchange.getRequestURI().getPath().equals("/feed.xml");
+            exchange.sendResponseHeaders(found ? 200 : 404, found ? body.length : -1);
+            if (found) {
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        var registry = new SimpleMeterRegistry();
+        var metricsConnector = RssFeedConnectorFunction.builder(HttpClient.newHttpClient())
+            .seenItems(new SeenItemStore(stateDirectory.resolve("seen-items.db"), 1024, Duration.ofDays(1),
+                Clock.systemUTC()))
+            .pollAdvisor(PollAdvisor.fromSettings())
+            .metrics(new FeedMetrics(registry))
+            .build();
+
+        try {
+            // When
+            metricsConnector.execute(OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(serverUrl(server, "/feed.xml"), 5, null, null))
+                .build());
+            assertThatThrownBy(() -> metricsConnector.execute(OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(serverUrl(server, "/missing.xml"), 5, null, null))
+                .build()))
+                .isInstanceOf(ConnectorException.class);
+
+            // Then - fetches are tagged by host, outcome and error code
+            assertThat(registry.get(FeedMetrics.FETCH)
+                .tags("host", "localhost", "outcome", "success", "error_code", "none").timer().count())
+                .isEqualTo(1);
+            assertThat(registry.get(FeedMetrics.FETCH)
+                .tags("host", "localhost", "outcome", "error", "error_code", "FETCH_ERROR").timer().count())
+                .isEqualTo(1);
+            assertThat(registry.get(FeedMetrics.EXECUTE).tags("error_code", "FETCH_ERROR").timer().count())
+                .isEqualTo(1);
+            assertThat(registry.get(FeedMetrics.FETCH_HEADERS).timer().count()).isEqualTo(2);
+
+            // Then - only the successful response was read, parsed and processed
+            assertThat(registry.get(FeedMetrics.RESPONSE_BYTES).summary().totalAmount()).isEqualTo(body.length);
+            assertThat(registry.get(FeedMetrics.FEED_ENTRIES).summary().totalAmount()).isEqualTo(15);
+            assertThat(registry.get(FeedMetrics.PARSE).tags("engine", "ROME").timer().count()).isEqualTo(1);
+            assertThat(registry.get(FeedMetrics.SELECT).timer().count()).isEqualTo(1);
+            assertThat(registry.get(FeedMetrics.CONVERT).timer().count()).isEqualTo(1);
+            assertThat(registry.find(FeedMetrics.FEED_TRUNCATED).counter()).isNull();
+            assertThat(registry.get("rssfeed.cache.misses").functionCounter().count()).isEqualTo(2);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldRejectFeedsExceedingSizeLimits() throws Exception {
+        // Given - a response announcing 64 MB and a feed with more items than the maximum
+        String[] items = new String[10_001];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = rssItem("Item " + i, "https://example.com/" + i, "item-" + i, "Sun, 26 Oct 2025 10:00:00 GMT");
+        }
+        byte[] manyItems = rssFeed(items);
+        HttpServer server = startServer(exchange -> {
+            if (exchange.getRequestURI().getPath().equals("/huge.xml")) {
+                exchange.sendResponseHeaders(200, 64L * 1024 * 1024);
+            } else {
+                exchange.sendResponseHeaders(200, manyItems.length);
+                exchange.getResponseBody().write(manyItems);
+            }
+            exchange.close();
+        });
+
+        try {
+            var httpConnector = new RssFeedConnectorFunction(HttpClient.newHttpClient());
+
+            // When / Then
+            for (String path : new String[] { "/huge.xml", "/many-items.xml" }) {
+                assertThatThrownBy(() -> httpConnector.execute(OutboundConnectorContextBuilder.create()
+                    .variables(new RssFeedRequest(serverUrl(server, path), 10, null, null))
+                    .build()))
+                    .isInstanceOf(ConnectorException.class)
+                    .satisfies(e -> assertThat(((ConnectorException) e).getErrorCode()).isEqualTo("FEED_TOO_LARGE"));
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldProjectFieldsAndShortenDescriptions(@TempDir Path directory) throws IOException {
+        // Given - an item with an HTML description
+        Path feed = directory.resolve("feed.xml");
+        Files.write(feed, rssFeed("<item><title>Release</title><link>https://example.com/1</link>"
+            + "<author>editor@example.com</author><category>News</category>"
+            + "<description><![CDATA[<p>Version <b>2.0</b> is out &amp; ready.</p><script>track()</script>"
+            + "<p>Upgrade today</p>]]></description><pubDate>Mon, 03 Mar 2025 10:00:00 GMT</pubDate></item>"));
+        var context = OutboundConnectorContextBuilder.create()
+            .variables(new RssFeedRequest(feed.toUri().toString(), 10, null, null, null, null, null, null,
+                List.of("title", "description"), 30, true, null, null, null, null, null))
+            .build();
+
+        // When
+        RssFeedResult result = (RssFeedResult) connector.execute(context);
+
+        // Then - only the selected fields are set, the description is plain text cut at a word boundary
+        assertThat(result.items()).singleElement().satisfies(item -> {
+            assertThat(item.title()).isEqualTo("Release");
+            assertThat(item.description()).isEqualTo("Version 2.0 is out & ready.…");
+            assertThat(item.link()).isNull();
+            assertThat(item.publishedDate()).isNull();
+            assertThat(item.author()).isNull();
+            assertThat(item.categories()).isNull();
+            assertThat(item.guid()).isNull();
+        });
+
+        // Fields that were not selected are left out of the JSON
+        assertThat(new ObjectMapper().valueToTree(result.items().get(0)).fieldNames())
+            .toIterable()
+            .containsExactly("title", "description");
+    }
+
+    @Test
+    void shouldRejectUnknownFields() {
+        // Given
+        var context = OutboundConnectorContextBuilder.create()
+            .variables(new RssFeedRequest(getTestResourceUrl("test-feed.xml").toString(), 5, null, null, null,
+                null, null, null, List.of("title", "summary"), null, null, null, null, null, null, null))
+            .build();
+
+        // When / Then
+        assertThatThrownBy(() -> connector.execute(context))
+            .isInstanceOf(ConnectorException.class)
+            .hasMessageContaining("summary")
+            .satisfies(e -> assertThat(((ConnectorException) e).getErrorCode()).isEqualTo("INVALID_FIELDS"));
+    }
+
+    @Test
+    void shouldPageThroughMatchingItemsWithCursor() {
+        // Given
+        String feedUrl = getTestResourceUrl("test-feed.xml").toString();
+        RssFeedResult all = (RssFeedResult) connector.execute(OutboundConnectorContextBuilder.create()
+            .variables(new RssFeedRequest(feedUrl, 20, null, null, null, null, null, null, null, null, null, true,
+                null, null, null, null))
+            .build());
+
+        // When - pages of 6 items, following the cursors
+        List<RssFeedItem> paged = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            RssFeedResult page = (RssFeedResult) connector.execute(OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(cursor == null ? feedUrl : null, 6, null, null, null, null, null, null,
+                    null, null, null, true, cursor, null, null, null))
+                .build());
+            paged.addAll(page.items());
+            pageSizes.add(page.filteredItems());
+            assertThat(page.totalItems()).isEqualTo(15);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Then - the pages add up to the full result, and a single page has no cursor
+        assertThat(pageSizes).containsExactly(6, 6, 3);
+        assertThat(paged).isEqualTo(all.items());
+        assertThat(all.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldPageBeyondSafetyLimitOfFeed(@TempDir Path directory) throws IOException {
+        // Given - an archive feed with more items than the 500-item safety limit
+        OffsetDateTime newest = OffsetDateTime.parse("2025-03-03T12:00:00Z");
+        String[] items = new String[1200];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = rssItem("Item " + i, "https://example.com/" + i, "guid-" + i,
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(newest.minusMinutes(i)));
+        }
+        Path feed = directory.resolve("archive.xml");
+        Files.write(feed, rssFeed(items));
+
+        // When - pages of 500 items, following the cursors
+        List<RssFeedItem> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            RssFeedResult page = execute(new RssFeedRequest(cursor == null ? feed.toUri().toString() : null, 500,
+                null, null, null, null, null, null, null, null, null, true, cursor, null, null, null));
+            paged.addAll(page.items());
+            assertThat(page.totalItems()).isEqualTo(1200);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        RssFeedResult unpaged = execute(new RssFeedRequest(feed.toUri().toString(), 500, null, null));
+
+        // Then - every item of the feed is returned once, newest first; without paginate only 500 items are read
+        assertThat(paged).hasSize(1200);
+        assertThat(paged.get(0).title()).isEqualTo("Item 0");
+        assertThat(paged.get(1199).title()).isEqualTo("Item 1199");
+        assertThat(unpaged.totalItems()).isEqualTo(500);
+        assertThat(unpaged.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldKeepFeedReadForPagedJobWhenOtherJobRevalidatesIt() throws Exception {
+        // Given - an archive feed with more items than the safety limit, changing between the first two requests
+        AtomicReference<String> version = new AtomicReference<>("v1");
+        List<String> conditions = Collections.synchronizedList(new ArrayList<>());
+        HttpServer server = startServer(exchange -> {
+            String etag = "\"" + version.get() + "\"";
+            conditions.add(exchange.getRequestHeaders().getFirst("If-None-Match"));
+            exchange.getResponseHeaders().add("ETag", etag);
+            exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                String[] items = new String[1200];
+                for (int i = 0; i < items.length; i++) {
+                    items[i] = rssItem(version.get() + " " + i, "https://example.com/" + i, "guid-" + i,
+                        "Mon, 03 Mar 2025 10:00:00 GMT");
+                }
+                byte[] body = rssFeed(items);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+
+        try {
+            var httpConnector = RssFeedConnectorFunction.builder(HttpClient.newHttpClient()).build();
+            String feedUrl = serverUrl(server, "/archive.xml");
+            RssFeedRequest pagedRequest = new RssFeedRequest(feedUrl, 10, null, null, null, null, null, null, null,
+                null, null, true, null, null, null, null);
+
+            // When - a paged job reads the feed, then a job without paginate gets the changed feed
+            RssFeedResult first = (RssFeedResult) httpConnector.execute(OutboundConnectorContextBuilder.create()
+                .variables(pagedRequest)
+                .build());
+            version.set("v2");
+            RssFeedResult unpaged = (RssFeedResult) httpConnector.execute(OutboundConnectorContextBuilder.create()
+                .variables(new RssFeedRequest(feedUrl, 10, null, null))
+                .build());
+            RssFeedResult paged = (RssFeedResult) httpConnector.execute(OutboundConnectorContextBuilder.create()
+                .variables(pagedRequest)
+                .build());
+
+            // Then - the changed feed is read in full, so the next paged job only revalidates it
+            assertThat(first.totalItems()).isEqualTo(1200);
+            assertThat(unpaged.totalItems()).isEqualTo(500);
+            assertThat(paged.totalItems()).isEqualTo(1200);
+            assertThat(paged.items().get(0).title()).startsWith("v2 ");
+            assertThat(conditions).containsExactly(null, "\"v1\"", "\"v2\"");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldRejectUnknownCursor() {
+        // Given
+        var context = OutboundConnectorContextBuilder.create()
+            .variables(new RssFeedRequest(null, 5, null, null, null, null, null, null, null, null, null, null,
+                "unknown.5", null, null, null))
+            .build();
+
+        // When / Then
+        assertThatThrownBy(() -> connector.execute(context))
+            .isInstanceOf(ConnectorException.class)
+            .satisfies(e -> assertThat(((ConnectorException) e).getErrorCode()).isEqualTo("INVALID_CURSOR"));
+    }
+
+    @Test
+    void shouldFilterItemsByKeywordsAndCategories(@TempDir Path directory) throws IOException {
+        // Given
+        Path feed = directory.resolve("feed.xml");
+        Files.write(feed, rssFeed(
+            filterItem("Camunda 8.8 released", "<p>New <b>BPMN</b> features</p>", "Release", "1"),
+            filterItem("Sponsored: Camunda training", "Learn BPMN", "Release", "2"),
+            filterItem("Weekly digest", "Everything about camunda", "Digest", "3"),
+            filterItem("Unrelated news", "Nothing to see", "Release", "4")));
+        String feedUrl = feed.toUri().toString();
+
+        // When
+        RssFeedResult byKeywords = execute(new RssFeedRequest(feedUrl, 10, null, null, null, null, null, null, null,
+            null, null, null, null, List.of("CAMUNDA", "bpmn"), List.of("sponsored"), null));
+        RssFeedResult byKeywordsAndCategory = execute(new RssFeedRequest(feedUrl, 10, null, null, null, null, null,
+            null, null, null, null, null, null, List.of("camunda"), null, List.of("release")));
+
+        // Then
+        assertThat(byKeywords.items()).extracting(RssFeedItem::title)
+            .containsExactly("Weekly digest", "Camunda 8.8 released");
+        assertThat(byKeywords.totalItems()).isEqualTo(4);
+        assertThat(byKeywordsAndCategory.items()).extracting(RssFeedItem::title)
+            .containsExactly("Sponsored: Camunda training", "Camunda 8.8 released");
+    }
+
+    private RssFeedResult execute(RssFeedRequest request) {
+        return (RssFeedResult) connector.execute(OutboundConnectorContextBuilder.create().variables(request).build());
+    }
+
+    private static String filterItem(String title, String description, String category, String day) {
+        return "<item><title>" + title + "</title><link>https://example.com/" + day + "</link><category>" + category
+            + "</category><description><![CDATA[" + description + "]]></description><pubDate>"
+            + List.of("Sat", "Sun", "Mon", "Tue").get(Integer.parseInt(day) - 1) + ", 0" + day
+            + " Mar 2025 10:00:00 GMT</pubDate></item>";
+    }
+
+    private static byte[] rssFeed(String... items) {
+        return ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel><title>Duplicates</title>"
+            + "<link>https://example.com</link><description>Repeated entries</description>"
+            + String.join("", items) + "</channel></rss>").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String rssItem(String title, String link, String guid, String pubDate) {
+        return "<item><title>" + title + "</title><link>" + link + "</link><guid>" + guid + "</guid><pubDate>"
+            + pubDate + "</pubDate></item>";
+    }
+
+    /**
+     * Helper method to start a local HTTP server serving a single handler.
+     */
+    private HttpServer startServer(HttpHandler handler) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", handler);
+        server.start();
+        return server;
+    }
+
+    /**
+     * Helper method to build a URL pointing at a local HTTP server.
+     */
+    private String serverUrl(HttpServer server, String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    /**
+     * Helper method to wait until shortly after the given time.
+     */
+    private static void sleepUntil(long epochMillis) throws InterruptedException {
+        Thread.sleep(Math.max(epochMillis - System.currentTimeMillis(), 0) + 10);
+    }
+
+    /**
+     * Helper method to read a test resource file.
+     */
+    private byte[] readTestResource(String filename) throws Exception {
+        return Files.readAllBytes(Path.of(getTestResourceUrl(filename).toURI()));
+    }
+
     /**
      * Helper method to get a test resource file URL.
      */
@@ -0,0 +1,97 @@
+package io.camunda.connector.rssfeed;
+
+import com.sun.net.httpserver.HttpServer;
+import io.camunda.connector.rssfeed.dto.RssFeedEvent;
+import io.camunda.connector.test.inbound.InboundConnectorContextBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the inbound RSS Feed Connector polling a local HTTP server.
+ */
+class RssFeedInboundConnectorTest {
+
+    @Test
+    void shouldCorrelateOnlyItemsPublishedAfterSubscribing(@TempDir Path stateDirectory) throws Exception {
+        // Given - a feed with one item, which gets a second item after the first poll
+        List<String> items = new CopyOnWriteArrayList<>(List.of(
+            rssItem("Existing", "https://example.com/1", "Mon, 03 Mar 2025 10:00:00 GMT")));
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = rssFeed(items).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        var seenItems = new SeenItemStore(stateDirectory.resolve("seen-items.db"), 1024, Duration.ofDays(1),
+            Clock.systemUTC());
+        var noCache = new FeedCache(1, 1, Duration.ZERO, Duration.ZERO, Clock.systemUTC());
+        var function = RssFeedConnectorFunction.builder(HttpClient.newHttpClient())
+            .feedCache(noCache)
+            .seenItems(seenItems)
+            .build();
+        var poller = new FeedPoller(Duration.ofMillis(10), 4);
+        var connector = new RssFeedInboundConnector(poller, function);
+        var context = InboundConnectorContextBuilder.create()
+            .properties(Map.of(
+                "feedUrl", "http://localhost:" + server.getAddress().getPort() + "/feed.xml",
+                "pollingInterval", "PT1S",
+                "stateKey", "inbound-test"))
+            .build();
+
+        try {
+            // When
+            connector.activate(context);
+            awaitTrue(() -> poller.polls() >= 1 && seenItems.size() >= 2);
+            items.add(rssItem("Published later", "https://example.com/2", "Mon, 03 Mar 2025 11:00:00 GMT"));
+            awaitTrue(() -> !context.getCorrelations().isEmpty());
+            awaitTrue(() -> poller.polls() >= 3);
+
+            // Then - the existing item was only remembered, the new one correlated exactly once
+            assertThat(context.getCorrelations()).hasSize(1);
+            RssFeedEvent event = (RssFeedEvent) context.getCorrelations().get(0);
+            assertThat(event.item().title()).isEqualTo("Published later");
+            assertThat(event.feed().title()).isEqualTo("Inbound");
+
+            connector.deactivate();
+            assertThat(poller.subscriptions()).isZero();
+        } finally {
+            server.stop(0);
+            seenItems.close();
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within 10 seconds").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static String rssFeed(List<String> items) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel><title>Inbound</title>"
+            + "<link>https://example.com</link><description>Polled feed</description>"
+            + String.join("", items) + "</channel></rss>";
+    }
+
+    private static String rssItem(String title, String link, String pubDate) {
+        return "<item><title>" + title + "</title><link>" + link + "</link><guid>" + link + "</guid><pubDate>"
+            + pubDate + "</pubDate></item>";
+    }
+}
@@ -0,0 +1,163 @@
+package io.camunda.connector.rssfeed;
+
+import io.camunda.connector.api.error.ConnectorException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the persistent seen-items store.
+ */
+class SeenItemStoreTest {
+
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-03T12:00:00Z"));
+
+    @TempDir
+    Path stateDirectory;
+
+    private SeenItemStore store;
+
+    @AfterEach
+    void closeStore() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void shouldRememberItemsAfterReopen() {
+        // Given
+        store = store(1024);
+        store.markSeen("process-a", "guid-1");
+        store.markSeen("process-a", "guid-2");
+        store.markSeen("process-b", "guid-1");
+
+        // When
+        store.close();
+        store = store(1024);
+
+        // Then - items are remembered per state key
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.seen("process-a", "guid-1")).isTrue();
+        assertThat(store.seen("process-a", "guid-2")).isTrue();
+        assertThat(store.seen("process-b", "guid-2")).isFalse();
+        assertThat(store.seen("process-a", null)).isFalse();
+    }
+
+    @Test
+    void shouldForgetItemsNotSeenWithinTtl() {
+        // Given
+        store = store(1024);
+        store.markSeen("process-a", "kept");
+        store.markSeen("process-a", "forgotten");
+
+        // When - only one item is still in the feed half a day later
+        clock.advance(TTL.dividedBy(2));
+        assertThat(store.seen("process-a", "kept")).isTrue();
+        clock.advance(TTL.dividedBy(2));
+
+        // Then - the other one expires a day after it was last seen
+        assertThat(store.seen("process-a", "forgotten")).isFalse();
+        assertThat(store.seen("process-a", "kept")).isTrue();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCompactExpiredItemsWhenTableIsFull() {
+        // Given - a table of 16 slots filled with items that have expired since
+        store = store(16);
+        for (int i = 0; i < 12; i++) {
+            store.markSeen("process-a", "old-" + i);
+        }
+        clock.advance(TTL);
+
+        // When
+        for (int i = 0; i < 12; i++) {
+            store.markSeen("process-a", "new-" + i);
+        }
+        store.close();
+        store = store(16);
+
+        // Then - the expired items made room for the new ones
+        assertThat(store.size()).isEqualTo(12);
+        for (int i = 0; i < 12; i++) {
+            assertThat(store.seen("process-a", "new-" + i)).isTrue();
+            assertThat(store.seen("process-a", "old-" + i)).isFalse();
+        }
+    }
+
+    @Test
+    void shouldForgetItemsClosestToExpiryWhenMoreItemsThanCapacity() {
+        // Given
+        store = store(16);
+
+        // When - far more live items than the table has slots
+        for (int i = 0; i < 100; i++) {
+            store.markSeen("process-a", "guid-" + i);
+            clock.advance(Duration.ofSeconds(1));
+        }
+
+        // Then - the table stays within its capacity and keeps the most recently seen items
+        assertThat(store.size()).isBetween(8, 12);
+        assertThat(store.seen("process-a", "guid-99")).isTrue();
+        assertThat(store.seen("process-a", "guid-92")).isTrue();
+        assertThat(store.seen("process-a", "guid-0")).isFalse();
+        assertThat(store.seen("process-a", "guid-50")).isFalse();
+    }
+
+    @Test
+    void shouldRejectStoreFileInUse() {
+        // Given
+        store = store(1024);
+        store.markSeen("process-a", "guid-1");
+
+        // When / Then - a second store cannot lock the same file
+        SeenItemStore other = store(1024);
+        assertThatThrownBy(() -> other.seen("process-a", "guid-1"))
+            .isInstanceOf(ConnectorException.class)
+            .satisfies(e -> assertThat(((ConnectorException) e).getErrorCode()).isEqualTo("STATE_ERROR"));
+    }
+
+    private SeenItemStore store(int capacity) {
+        return new SeenItemStore(stateDirectory.resolve("seen-items.db"), capacity, TTL, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
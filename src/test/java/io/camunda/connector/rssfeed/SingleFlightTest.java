@@ -0,0 +1,83 @@
+package io.camunda.connector.rssfeed;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for coalescing concurrent loads of the same key.
+ */
+class SingleFlightTest {
+
+    @Test
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        // Given - a load that blocks until released
+        SingleFlight<String, String> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int followers = 8;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> flight.execute("feed", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "parsed";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When - further callers arrive while the load is in flight
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < followers; i++) {
+                results.add(executor.submit(() -> flight.execute("feed", () -> {
+                    loads.incrementAndGet();
+                    return "duplicate";
+                })));
+            }
+            while (flight.coalesced() < followers) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            // Then
+            assertThat(leader.get()).isEqualTo("parsed");
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("parsed");
+            }
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldPropagateLoaderExceptionAndForgetFailedLoad() {
+        // Given
+        SingleFlight<String, String> flight = new SingleFlight<>();
+
+        // When & Then - the failure is not remembered
+        assertThatThrownBy(() -> flight.execute("feed", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(flight.inFlight()).isZero();
+        assertThat(flight.execute("feed", () -> "parsed")).isEqualTo("parsed");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
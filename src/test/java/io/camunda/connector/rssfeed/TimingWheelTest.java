@@ -0,0 +1,107 @@
+package io.camunda.connector.rssfeed;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the hierarchical timing wheel, driven by a synthetic clock.
+ */
+class TimingWheelTest {
+
+    private static final long TICK_NANOS = 1_000_000L;
+
+    @Test
+    void shouldExpireTimeoutsAtTheirDeadlineOnEveryLevel() {
+        // Given - 3 levels of 4 slots cover 64 ticks
+        TimingWheel wheel = new TimingWheel(Duration.ofNanos(TICK_NANOS), 2, 3, 0);
+        List<Task> tasks = new ArrayList<>();
+        for (long deadline : new long[] { 1, 3, 4, 5, 15, 16, 17, 40, 63 }) {
+            Task task = new Task(deadline);
+            wheel.schedule(task, deadline * TICK_NANOS);
+            tasks.add(task);
+        }
+
+        // When / Then - every tick expires exactly the tasks due at that tick
+        for (long tick = 1; tick <= 64; tick++) {
+            List<TimingWheel.Timeout> expired = new ArrayList<>();
+            wheel.advance(tick * TICK_NANOS, expired);
+            long now = tick;
+            assertThat(expired).allSatisfy(timeout -> assertThat(((Task) timeout).deadline).isEqualTo(now));
+            assertThat(expired).hasSize((int) tasks.stream().filter(task -> task.deadline == now).count());
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldParkDeadlinesBeyondTheWheelRange() {
+        // Given - a deadline far beyond the 16 ticks covered by the wheel
+        TimingWheel wheel = new TimingWheel(Duration.ofNanos(TICK_NANOS), 2, 2, 0);
+        Task task = new Task(100);
+        wheel.schedule(task, 100 * TICK_NANOS);
+
+        // When
+        List<TimingWheel.Timeout> early = new ArrayList<>();
+        wheel.advance(99 * TICK_NANOS, early);
+        List<TimingWheel.Timeout> due = new ArrayList<>();
+        wheel.advance(100 * TICK_NANOS, due);
+
+        // Then
+        assertThat(early).isEmpty();
+        assertThat(due).containsExactly(task);
+    }
+
+    @Test
+    void shouldNotExpireCancelledOrRescheduledTimeouts() {
+        // Given
+        TimingWheel wheel = new TimingWheel(Duration.ofNanos(TICK_NANOS), 2, 3, 0);
+        Task cancelled = new Task(10);
+        Task moved = new Task(30);
+        Task kept = new Task(10);
+        wheel.schedule(cancelled, 10 * TICK_NANOS);
+        wheel.schedule(moved, 10 * TICK_NANOS);
+        wheel.schedule(kept, 10 * TICK_NANOS);
+
+        // When
+        assertThat(wheel.cancel(cancelled)).isTrue();
+        assertThat(wheel.cancel(cancelled)).isFalse();
+        wheel.schedule(moved, 30 * TICK_NANOS);
+        List<TimingWheel.Timeout> atTen = new ArrayList<>();
+        wheel.advance(10 * TICK_NANOS, atTen);
+
+        // Then
+        assertThat(atTen).containsExactly(kept);
+        assertThat(cancelled.isScheduled()).isFalse();
+        assertThat(moved.isScheduled()).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpirePastDeadlinesOnNextTick() {
+        // Given
+        TimingWheel wheel = new TimingWheel(Duration.ofNanos(TICK_NANOS), 2, 3, 0);
+        wheel.advance(20 * TICK_NANOS, new ArrayList<>());
+        Task task = new Task(0);
+
+        // When
+        wheel.schedule(task, 5 * TICK_NANOS);
+        List<TimingWheel.Timeout> expired = new ArrayList<>();
+        wheel.advance(21 * TICK_NANOS, expired);
+
+        // Then
+        assertThat(expired).containsExactly(task);
+    }
+
+    private static final class Task extends TimingWheel.Timeout {
+
+        private final long deadline;
+
+        Task(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.camunda.connector.rssfeed;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the bounded top-K selection used to pick the newest items.
+ */
+class TopKSelectorTest {
+
+    @Test
+    void shouldSelectHighestKeysInDescendingOrder() {
+        // Given
+        TopKSelector<String> selector = new TopKSelector<>(3);
+        long[] keys = { 5, 1, 9, 7, 3, 8 };
+
+        // When
+        for (long key : keys) {
+            selector.offer("item-" + key, key);
+        }
+
+        // Then
+        assertThat(selector.offered()).isEqualTo(6);
+        assertThat(selector.toSortedList()).containsExactly("item-9", "item-8", "item-7");
+    }
+
+    @Test
+    void shouldKeepOfferOrderForEqualKeysAndPutMissingDatesLast() {
+        // Given
+        TopKSelector<String> selector = new TopKSelector<>(4);
+
+        // When
+        selector.offer("no-date-1", FeedEntry.NO_DATE);
+        selector.offer("a", 10);
+        selector.offer("b", 10);
+        selector.offer("no-date-2", FeedEntry.NO_DATE);
+        selector.offer("c", 10);
+
+        // Then
+        assertThat(selector.toSortedList()).containsExactly("a", "b", "c", "no-date-1");
+    }
+
+    @Test
+    void shouldReturnAllCandidatesWhenFewerThanK() {
+        // Given
+        TopKSelector<String> selector = new TopKSelector<>(10);
+        selector.offer("old", 1);
+        selector.offer("new", 2);
+
+        // When & Then
+        assertThat(selector.toSortedList()).containsExactly("new", "old");
+    }
+
+    @Test
+    void shouldMatchStableSortAndLimit() {
+        // Given - random keys with many duplicates
+        Random random = new Random(42);
+        List<long[]> candidates = new ArrayList<>();
+        TopKSelector<long[]> selector = new TopKSelector<>(25);
+        for (int i = 0; i < 2_000; i++) {
+            long[] candidate = { random.nextInt(100), i };
+            candidates.add(candidate);
+            selector.offer(candidate, candidate[0]);
+        }
+
+        // When
+        List<long[]> expected = candidates.stream()
+            .sorted(Comparator.comparingLong((long[] c) -> c[0]).reversed())
+            .limit(25)
+            .collect(Collectors.toList());
+
+        // Then
+        assertThat(selector.toSortedList()).containsExactlyElementsOf(expected);
+    }
+}